@@ -0,0 +1,40 @@
+package mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DTO 클래스에 붙여 컴파일 타임에 매퍼 클래스를 생성하도록 지시하는 어노테이션.
+ * 어노테이션이 붙은 클래스가 {@code UserDto}라면 같은 패키지에 {@code UserDtoMapper}가 생성되며,
+ * 생성된 {@code map(source)} 메서드는 리플렉션 없이 getter/setter(또는 생성자) 호출만으로 값을 복사합니다.
+ *
+ * <pre>
+ * {@literal @}Mapper(from = User.class,
+ *         mappings = {@literal @}Mapping(source = "name", target = "userName"),
+ *         ignore = "password")
+ * class UserDto { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Mapper {
+
+    /**
+     * 복사할 원본 클래스.
+     */
+    Class<?> from();
+
+    /**
+     * 이름이 서로 다른 필드의 매핑 규칙 (예: name -> userName).
+     * 이름이 같은 필드는 따로 적지 않아도 자동으로 매핑됩니다.
+     */
+    Mapping[] mappings() default {};
+
+    /**
+     * 의도적으로 복사하지 않을 원본 필드 이름 (예: password).
+     * 원본에 새 필드가 추가되었는데 매핑도, ignore 도 되어 있지 않으면 컴파일 에러가 발생합니다.
+     */
+    String[] ignore() default {};
+}
@@ -0,0 +1,274 @@
+package mapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link Mapper}가 붙은 DTO마다 {@code <DTO 이름>Mapper} 클래스를 생성하는 어노테이션 프로세서.
+ *
+ * <p>생성 규칙</p>
+ * <ul>
+ *     <li>대상 필드 순서와 타입이 정확히 일치하는 생성자가 있으면 생성자 한 번 호출로 복사합니다. (CopyEx02 방식)</li>
+ *     <li>그렇지 않고 인자 없는 생성자가 있으면 setter를 차례로 호출합니다. (CopyEx01 방식)</li>
+ *     <li>원본의 모든 필드는 매핑되거나 {@link Mapper#ignore()}에 적혀 있어야 합니다.
+ *         원본에 필드가 추가되었는데 DTO 쪽을 고치지 않으면 컴파일 에러로 알려줍니다.</li>
+ * </ul>
+ *
+ * <p>getter/setter는 Lombok이 생성한다고 가정하고 JavaBeans 이름 규칙(getX/isX/setX)으로 호출 코드를 만듭니다.
+ * 생성된 소스는 다음 라운드에 컴파일되므로 Lombok이 만든 메서드를 그대로 사용할 수 있습니다.</p>
+ */
+@SupportedAnnotationTypes("mapper.Mapper")
+public class MapperProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Mapper.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Mapper는 클래스에만 붙일 수 있습니다.");
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(TypeElement target) {
+        AnnotationMirror mirror = findMapperMirror(target);
+        TypeElement source = (TypeElement) ((DeclaredType) annotationValue(mirror, "from").getValue()).asElement();
+
+        // 대상 필드 이름 -> 원본 필드 이름
+        Map<String, String> renames = new LinkedHashMap<>();
+        for (AnnotationValue value : listValue(mirror, "mappings")) {
+            AnnotationMirror mapping = (AnnotationMirror) value.getValue();
+            renames.put((String) annotationValue(mapping, "target").getValue(),
+                    (String) annotationValue(mapping, "source").getValue());
+        }
+        Set<String> ignored = new LinkedHashSet<>();
+        for (AnnotationValue value : listValue(mirror, "ignore")) {
+            ignored.add((String) value.getValue());
+        }
+
+        Map<String, VariableElement> sourceFields = fields(source);
+        Map<String, VariableElement> targetFields = fields(target);
+
+        boolean valid = true;
+        for (Map.Entry<String, String> rename : renames.entrySet()) {
+            if (!targetFields.containsKey(rename.getKey())) {
+                error(target, "@Mapping의 target 필드 '" + rename.getKey() + "'가 " + target.getSimpleName() + "에 없습니다.");
+                valid = false;
+            }
+            if (!sourceFields.containsKey(rename.getValue())) {
+                error(target, "@Mapping의 source 필드 '" + rename.getValue() + "'가 " + source.getSimpleName() + "에 없습니다.");
+                valid = false;
+            }
+        }
+
+        // 대상 필드 순서대로 (원본 필드, 대상 필드) 쌍을 만든다.
+        Map<VariableElement, VariableElement> pairs = new LinkedHashMap<>();
+        Set<String> usedSources = new LinkedHashSet<>();
+        for (VariableElement targetField : targetFields.values()) {
+            String targetName = targetField.getSimpleName().toString();
+            String sourceName = renames.getOrDefault(targetName, targetName);
+            VariableElement sourceField = sourceFields.get(sourceName);
+            if (sourceField == null) {
+                error(target, "필드 '" + targetName + "'에 대응하는 " + source.getSimpleName()
+                        + " 필드가 없습니다. @Mapping으로 원본 필드를 지정하세요.");
+                valid = false;
+                continue;
+            }
+            if (!processingEnv.getTypeUtils().isAssignable(sourceField.asType(), targetField.asType())) {
+                error(target, "필드 '" + sourceName + "'(" + sourceField.asType() + ")를 '"
+                        + targetName + "'(" + targetField.asType() + ")에 대입할 수 없습니다.");
+                valid = false;
+                continue;
+            }
+            pairs.put(targetField, sourceField);
+            usedSources.add(sourceName);
+        }
+        for (String sourceName : sourceFields.keySet()) {
+            if (!usedSources.contains(sourceName) && !ignored.contains(sourceName)) {
+                error(target, source.getSimpleName() + "." + sourceName + " 필드가 매핑되지 않았습니다. "
+                        + "@Mapping으로 매핑하거나 ignore에 추가하세요.");
+                valid = false;
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        boolean useConstructor = hasFieldOrderConstructor(target, targetFields.values());
+        if (!useConstructor && !hasNoArgConstructor(target)) {
+            error(target, target.getSimpleName() + "에는 필드 순서대로 받는 생성자나 인자 없는 생성자가 필요합니다.");
+            return;
+        }
+        write(target, source, pairs, useConstructor);
+    }
+
+    private void write(TypeElement target, TypeElement source,
+                       Map<VariableElement, VariableElement> pairs, boolean useConstructor) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(target);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String targetName = target.getSimpleName().toString();
+        String mapperName = targetName + "Mapper";
+        String sourceName = source.getQualifiedName().toString();
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n");
+        sb.append(" * ").append(source.getSimpleName()).append(" -> ").append(targetName)
+                .append(" 변환 매퍼. MapperProcessor가 생성한 코드이므로 직접 수정하지 마세요.\n");
+        sb.append(" */\n");
+        sb.append("@javax.annotation.processing.Generated(\"").append(MapperProcessor.class.getName()).append("\")\n");
+        sb.append("final class ").append(mapperName).append(" {\n\n");
+        sb.append("    private ").append(mapperName).append("() {\n    }\n\n");
+        sb.append("    static ").append(targetName).append(" map(").append(sourceName).append(" source) {\n");
+        sb.append("        if (source == null) {\n            return null;\n        }\n");
+        if (useConstructor) {
+            sb.append("        return new ").append(targetName).append("(");
+            boolean first = true;
+            for (VariableElement sourceField : pairs.values()) {
+                sb.append(first ? "\n                " : ",\n                ");
+                sb.append("source.").append(getterName(sourceField)).append("()");
+                first = false;
+            }
+            sb.append(");\n");
+        } else {
+            sb.append("        ").append(targetName).append(" target = new ").append(targetName).append("();\n");
+            for (Map.Entry<VariableElement, VariableElement> pair : pairs.entrySet()) {
+                sb.append("        target.").append(setterName(pair.getKey()))
+                        .append("(source.").append(getterName(pair.getValue())).append("());\n");
+            }
+            sb.append("        return target;\n");
+        }
+        sb.append("    }\n}\n");
+
+        String qualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, target).openWriter()) {
+            writer.write(sb.toString());
+        } catch (IOException e) {
+            error(target, mapperName + " 생성 실패: " + e.getMessage());
+        }
+    }
+
+    private Map<String, VariableElement> fields(TypeElement type) {
+        // 상위 클래스 필드부터 선언 순서대로 수집한다.
+        List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement t = type; t != null && !t.getQualifiedName().contentEquals("java.lang.Object"); ) {
+            hierarchy.add(0, t);
+            TypeMirror superclass = t.getSuperclass();
+            t = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        Map<String, VariableElement> result = new LinkedHashMap<>();
+        for (TypeElement t : hierarchy) {
+            for (VariableElement field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && !field.getModifiers().contains(Modifier.TRANSIENT)) {
+                    result.put(field.getSimpleName().toString(), field);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean hasFieldOrderConstructor(TypeElement target, Iterable<VariableElement> targetFields) {
+        List<TypeMirror> fieldTypes = new ArrayList<>();
+        targetFields.forEach(f -> fieldTypes.add(f.asType()));
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(target.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE)
+                    || constructor.getParameters().size() != fieldTypes.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int i = 0; i < fieldTypes.size(); i++) {
+                if (!processingEnv.getTypeUtils().isSameType(constructor.getParameters().get(i).asType(), fieldTypes.get(i))) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches && !fieldTypes.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasNoArgConstructor(TypeElement target) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(target.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getterName(VariableElement field) {
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + capitalize(field.getSimpleName().toString());
+    }
+
+    private static String setterName(VariableElement field) {
+        return "set" + capitalize(field.getSimpleName().toString());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static AnnotationMirror findMapperMirror(TypeElement target) {
+        for (AnnotationMirror mirror : target.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(Mapper.class.getName())) {
+                return mirror;
+            }
+        }
+        throw new IllegalStateException("@Mapper not found on " + target);
+    }
+
+    private AnnotationValue annotationValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalStateException("annotation value not found: " + name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AnnotationValue> listValue(AnnotationMirror mirror, String name) {
+        return (List<? extends AnnotationValue>) annotationValue(mirror, name).getValue();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,24 @@
+package mapper;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 원본 필드와 대상 필드의 이름이 다를 때 사용하는 명시적 매핑 규칙.
+ * {@link Mapper#mappings()} 안에서만 사용합니다.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({})
+public @interface Mapping {
+
+    /**
+     * 원본 클래스의 필드 이름.
+     */
+    String source();
+
+    /**
+     * 대상(DTO) 클래스의 필드 이름.
+     */
+    String target();
+}
@@ -0,0 +1,117 @@
+package ex01;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User 목록 직렬화 방식 비교: EntityBinary(바이너리) vs 자바 직렬화 vs toString() 텍스트.
+ * 한 번 호출에 size 건을 쓰거나 읽습니다. 인코딩 크기는 setup 에서 한 번 출력합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    ArrayList<User> users;
+    BinaryWriter binaryWriter;
+    byte[] binary;
+    byte[] javaSerialized;
+    byte[] emailTarget;
+
+    @Setup
+    public void setup() throws IOException {
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("name" + i);
+            user.setEmail("name" + i + "@gmail.com");
+            user.setPassword("password" + i);
+            users.add(user);
+        }
+        binaryWriter = new BinaryWriter(size * 48);
+        binary = binaryEncode().toByteArray();
+        javaSerialized = javaSerialize();
+        emailTarget = ("name" + (size - 1) + "@gmail.com").getBytes(StandardCharsets.UTF_8);
+        System.out.printf("%n[size=%d] binary=%dB, java=%dB, toString=%dB%n", size, binary.length, javaSerialized.length,
+                toStringEncode().length);
+    }
+
+    @Benchmark
+    public BinaryWriter binaryEncode() {
+        binaryWriter.reset();
+        for (User user : users) {
+            EntityBinary.write(binaryWriter, user);
+        }
+        return binaryWriter;
+    }
+
+    @Benchmark
+    public void binaryDecode(Blackhole bh) {
+        BinaryReader in = new BinaryReader(binary);
+        while (in.hasRemaining()) {
+            bh.consume(EntityBinary.readUser(in));
+        }
+    }
+
+    /** 객체를 만들지 않고 버퍼 위에서 이메일로 검색 */
+    @Benchmark
+    public int binaryViewScan() {
+        EntityBinary.UserView view = new EntityBinary.UserView(ByteBuffer.wrap(binary));
+        int found = 0;
+        do {
+            if (view.emailEquals(emailTarget)) {
+                found++;
+            }
+        } while (view.next());
+        return found;
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 64);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(users);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(javaSerialized))) {
+            return in.readObject();
+        }
+    }
+
+    /** 현재 "와이어 형식"으로 쓰이는 toString() 텍스트 (인코딩만 가능, 파싱 불가) */
+    @Benchmark
+    public byte[] toStringEncode() {
+        StringBuilder sb = new StringBuilder(size * 80);
+        for (User user : users) {
+            sb.append(user).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package ex01;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ex01 객체 복사 방식별 성능 비교.
+ * 모든 벤치마크는 size 개의 User 를 DTO 로 복사하며, 결과는 한 번 호출(= size 건 복사)당 처리량으로 측정됩니다.
+ * 1건당 비용은 측정값을 size 로 나누어 비교하세요.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CopyBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    List<User> users;
+    List<Board> boards;
+    DtoCache<Board, DetailDto> detailCache;
+
+    @Setup
+    public void setup() {
+        // 문자열은 종류별로 미리 만들어 두고 돌려 쓰므로, 1e7 건에서도 힙은 복사 대상 객체 위주로 채워집니다.
+        String[] names = new String[1000];
+        String[] emails = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "name" + i;
+            emails[i] = names[i] + "@gmail.com";
+        }
+        String[] titles = new String[100];
+        String[] contents = new String[titles.length];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = "제목" + i;
+            contents[i] = "내용" + i;
+        }
+        String[] comments = new String[10];
+        for (int r = 0; r < comments.length; r++) {
+            comments[r] = "댓글" + r;
+        }
+
+        users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName(names[i % names.length]);
+            user.setEmail(emails[i % emails.length]);
+            user.setPassword("password");
+            users.add(user);
+        }
+        // 게시글 하나당 댓글 10개 (CopyEx04)
+        boards = new ArrayList<>(size / 10);
+        for (int i = 0; i < size / 10; i++) {
+            Board board = new Board();
+            board.setId(i);
+            board.setTitle(titles[i % titles.length]);
+            board.setContent(contents[i % contents.length]);
+            for (int r = 0; r < comments.length; r++) {
+                board.getReplies().add(new Reply(r, comments[r]));
+            }
+            boards.add(board);
+        }
+        // 모든 게시글이 들어가는 크기로 미리 채워, 적중했을 때의 비용만 잽니다.
+        detailCache = new DtoCache<>(Math.max(1, boards.size()), DetailDto::new);
+        boards.forEach(detailCache::get);
+    }
+
+    /** CopyEx01: 인자 없는 생성자 + setter */
+    @Benchmark
+    public void setterCopy(Blackhole bh) {
+        for (User user : users) {
+            UserDto dto = new UserDto();
+            dto.setId(user.getId());
+            dto.setUserName(user.getName());
+            dto.setEmail(user.getEmail());
+            bh.consume(dto);
+        }
+    }
+
+    /** CopyEx02: 전체 필드 생성자 */
+    @Benchmark
+    public void allArgsConstructor(Blackhole bh) {
+        for (User user : users) {
+            bh.consume(new UserDto2(user.getId(), user.getName(), user.getEmail()));
+        }
+    }
+
+    /** CopyEx03: 원본 객체를 받는 복사 생성자 */
+    @Benchmark
+    public void copyConstructor(Blackhole bh) {
+        for (User user : users) {
+            bh.consume(new UserDto3(user));
+        }
+    }
+
+    /** CopyEx05: 어노테이션 프로세서가 생성한 매퍼 */
+    @Benchmark
+    public void generatedMapper(Blackhole bh) {
+        for (User user : users) {
+            bh.consume(UserDto3Mapper.map(user));
+        }
+    }
+
+    /** 스트림으로 목록 변환 (stream().map().toList()) */
+    @Benchmark
+    public List<UserDto3> streamToList() {
+        return users.stream().map(UserDto3::new).toList();
+    }
+
+    /** CopyEx06: BulkMapper (임계값 이상이면 병렬) */
+    @Benchmark
+    public List<UserDto3> bulkMapper() {
+        return BulkMapper.mapAll(users, UserDto3Mapper::map);
+    }
+
+    /** CopyEx04: 댓글 목록을 포함한 DetailDto 변환 (size / 10 건) */
+    @Benchmark
+    public void nestedDetailDto(Blackhole bh) {
+        for (Board board : boards) {
+            bh.consume(new DetailDto(board));
+        }
+    }
+
+    /** CopyEx15: DtoCache 에서 꺼내기 (모두 적중, size / 10 건) */
+    @Benchmark
+    public void cachedDetailDto(Blackhole bh) {
+        for (Board board : boards) {
+            bh.consume(detailCache.get(board));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ex01;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * id 기준 중복 제거 비교: {@code @Data} equals 로 distinct vs Integer 키 toMap vs ById.
+ * 입력은 size 명의 사용자 뒤에 앞쪽 절반의 새 스냅숏(같은 id, 다른 값)을 이어 붙인 1.5 * size 건입니다. (CopyEx14)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DedupBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    List<User> users;
+
+    @Setup
+    public void setup() {
+        users = new ArrayList<>(Fixtures.users(1).toList(size));
+        users.addAll(Fixtures.users(2).toList(size / 2));
+    }
+
+    /** 모든 필드의 equals/hashCode 로 비교 (id 가 같아도 값이 다르면 둘 다 남음) */
+    @Benchmark
+    public List<User> dataDistinct() {
+        return users.stream().distinct().toList();
+    }
+
+    /** StreamEx01 의 toMap + (old, new) -> new, 순서 유지 */
+    @Benchmark
+    public Map<Integer, User> toMapLastWins() {
+        return users.stream().collect(Collectors.toMap(User::getId, Function.identity(), (older, newer) -> newer, LinkedHashMap::new));
+    }
+
+    @Benchmark
+    public List<User> byIdLastWins() {
+        return users.stream().collect(ById.lastWins());
+    }
+
+    @Benchmark
+    public List<User> byIdLastWinsParallel() {
+        return users.parallelStream().collect(ById.lastWins());
+    }
+}
@@ -0,0 +1,98 @@
+package ex02;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeEx01 의 현재 시각 얻기와 TimeEx03 의 CachedClock 비교.
+ * 호출 1회당 처리량을 측정하며, 입력 크기와 무관하므로 size 파라미터가 없습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ClockBenchmark {
+
+    CachedClock cachedClock;
+    CachedClock preciseClock;
+    LocalDateTime dateTime;
+
+    @Setup
+    public void setup() {
+        cachedClock = CachedClock.systemDefault();
+        preciseClock = new CachedClock(ZoneId.systemDefault(), Duration.ofMillis(1), true);
+        dateTime = LocalDateTime.of(2024, 1, 1, 9, 30, 15);
+    }
+
+    @TearDown
+    public void tearDown() {
+        preciseClock.close();
+    }
+
+    // ===== TimeEx01: 현재 시각 얻기 =====
+
+    @Benchmark
+    public LocalDateTime localDateTimeNow() {
+        return LocalDateTime.now();
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeNow() {
+        return ZonedDateTime.now();
+    }
+
+    @Benchmark
+    public Instant instantNow() {
+        return Instant.now();
+    }
+
+    @Benchmark
+    public Timestamp timestampNow() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    // ===== TimeEx03: 캐시된 시계 =====
+
+    @Benchmark
+    public LocalDateTime cachedLocalDateTime() {
+        return cachedClock.localDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime cachedZonedDateTime() {
+        return cachedClock.zonedDateTime();
+    }
+
+    @Benchmark
+    public Instant cachedInstant() {
+        return cachedClock.instant();
+    }
+
+    @Benchmark
+    public LocalDateTime preciseLocalDateTime() {
+        return preciseClock.localDateTime();
+    }
+
+    @Benchmark
+    public String localDateTimeToString() {
+        return dateTime.toString();
+    }
+}
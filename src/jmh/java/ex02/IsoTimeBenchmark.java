@@ -0,0 +1,145 @@
+package ex02;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeEx04 의 IsoTimeCodec 과 DateTimeFormatter.ISO_* 비교.
+ * 값은 1ms 간격으로 증가하므로(로그, 이벤트 시각과 비슷) 같은 초의 값이 연속해서 나옵니다.
+ * size 개 전체를 쓰거나 읽는 처리량을 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IsoTimeBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    Instant[] instants;
+    LocalDateTime[] dateTimes;
+    String[] instantTexts;
+    byte[][] instantBytes;
+    String[] localTexts;
+    byte[][] localBytes;
+    IsoTimeCodec codec;
+    byte[] buffer;
+    ZoneId zone;
+
+    @Setup
+    public void setup() {
+        zone = ZoneId.of("Asia/Seoul");
+        codec = new IsoTimeCodec(zone);
+        buffer = new byte[IsoTimeCodec.MAX_LENGTH];
+        instants = new Instant[size];
+        dateTimes = new LocalDateTime[size];
+        instantTexts = new String[size];
+        instantBytes = new byte[size][];
+        localTexts = new String[size];
+        localBytes = new byte[size][];
+        long base = Instant.parse("2026-01-30T06:48:21Z").toEpochMilli();
+        for (int i = 0; i < size; i++) {
+            instants[i] = Instant.ofEpochMilli(base + i);
+            dateTimes[i] = LocalDateTime.ofInstant(instants[i], zone);
+            instantTexts[i] = instants[i].toString();
+            instantBytes[i] = instantTexts[i].getBytes(StandardCharsets.US_ASCII);
+            localTexts[i] = dateTimes[i].toString();
+            localBytes[i] = localTexts[i].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    // ===== 쓰기 =====
+
+    @Benchmark
+    public void formatInstantJdk(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(DateTimeFormatter.ISO_INSTANT.format(instant));
+        }
+    }
+
+    @Benchmark
+    public void formatInstantCodec(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(codec.formatInstant(instant, buffer, 0));
+        }
+    }
+
+    @Benchmark
+    public void formatLocalJdk(Blackhole bh) {
+        for (LocalDateTime dateTime : dateTimes) {
+            bh.consume(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+        }
+    }
+
+    @Benchmark
+    public void formatLocalCodec(Blackhole bh) {
+        for (LocalDateTime dateTime : dateTimes) {
+            bh.consume(codec.formatLocal(dateTime, buffer, 0));
+        }
+    }
+
+    @Benchmark
+    public void formatOffsetJdk(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(instant.atZone(zone)));
+        }
+    }
+
+    @Benchmark
+    public void formatOffsetCodec(Blackhole bh) {
+        for (Instant instant : instants) {
+            bh.consume(codec.formatOffset(instant, buffer, 0));
+        }
+    }
+
+    // ===== 읽기 =====
+
+    @Benchmark
+    public void parseInstantJdk(Blackhole bh) {
+        for (String text : instantTexts) {
+            bh.consume(Instant.from(DateTimeFormatter.ISO_INSTANT.parse(text)));
+        }
+    }
+
+    @Benchmark
+    public void parseInstantCodec(Blackhole bh) {
+        for (byte[] text : instantBytes) {
+            bh.consume(codec.parseInstant(text, 0, text.length));
+        }
+    }
+
+    @Benchmark
+    public void parseEpochMillisCodec(Blackhole bh) {
+        for (byte[] text : instantBytes) {
+            bh.consume(codec.parseEpochMillis(text, 0, text.length));
+        }
+    }
+
+    @Benchmark
+    public void parseLocalJdk(Blackhole bh) {
+        for (String text : localTexts) {
+            bh.consume(LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+    }
+
+    @Benchmark
+    public void parseLocalCodec(Blackhole bh) {
+        for (byte[] text : localBytes) {
+            bh.consume(codec.parseLocal(text, 0, text.length));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ex02;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimeEx02 의 필드 조회/날짜 연산과 TimeEx05 의 EpochDecoder 비교.
+ * size 개의 LocalDateTime(또는 에포크 밀리초) 전체 처리량을 측정합니다. now() 계열은 {@link ClockBenchmark}에 있습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TimeBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    LocalDateTime[] dateTimes;
+    long[] epochMillis;
+    EpochDecoder.Fields fields;
+
+    @Setup
+    public void setup() {
+        dateTimes = new LocalDateTime[size];
+        epochMillis = new long[size];
+        fields = new EpochDecoder.Fields(size);
+        long base = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        for (int i = 0; i < size; i++) {
+            dateTimes[i] = LocalDateTime.ofEpochSecond(base + i * 37L, 0, ZoneOffset.UTC);
+            epochMillis[i] = (base + i * 37L) * 1000;
+        }
+    }
+
+    // ===== TimeEx02: 필드 조회와 날짜 연산 =====
+
+    @Benchmark
+    public void fieldAccess(Blackhole bh) {
+        for (LocalDateTime ldt : dateTimes) {
+            bh.consume(ldt.getYear());
+            bh.consume(ldt.getMonthValue());
+            bh.consume(ldt.getDayOfMonth());
+            bh.consume(ldt.getDayOfWeek());
+            bh.consume(ldt.getHour());
+            bh.consume(ldt.getMinute());
+            bh.consume(ldt.getSecond());
+        }
+    }
+
+    // ===== TimeEx05: 에포크 밀리초 배열의 필드 추출 =====
+
+    @Benchmark
+    public void decodeViaLocalDateTime(Blackhole bh) {
+        ZoneId zone = ZoneId.systemDefault();
+        for (long millis : epochMillis) {
+            LocalDateTime ldt = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+            bh.consume(ldt.getYear());
+            bh.consume(ldt.getMonthValue());
+            bh.consume(ldt.getDayOfMonth());
+            bh.consume(ldt.getDayOfWeek());
+            bh.consume(ldt.getHour());
+            bh.consume(ldt.getMinute());
+            bh.consume(ldt.getSecond());
+        }
+    }
+
+    @Benchmark
+    public EpochDecoder.Fields decodeBulk() {
+        new EpochDecoder(ZoneId.systemDefault()).decode(epochMillis, 0, size, fields);
+        return fields;
+    }
+
+    @Benchmark
+    public void plusDays(Blackhole bh) {
+        for (LocalDateTime ldt : dateTimes) {
+            bh.consume(ldt.plusDays(1));
+        }
+    }
+
+    @Benchmark
+    public void plusMonths(Blackhole bh) {
+        for (LocalDateTime ldt : dateTimes) {
+            bh.consume(ldt.plusMonths(1));
+        }
+    }
+
+    @Benchmark
+    public void plusYears(Blackhole bh) {
+        for (LocalDateTime ldt : dateTimes) {
+            bh.consume(ldt.plusYears(1));
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package ex03;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * StreamEx01 의 주장("기본형 스트림이 빠르다", "partitioningBy 가 groupingBy 보다 빠르다",
+ * "mapMulti 가 flatMap 보다 효율적이다" 등)을 size 개의 원소로 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StreamBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    List<Integer> list;
+    int[] array;
+    List<List<Integer>> nested;
+    Integer pageCursor;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        array = new int[size];
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(size);
+            list.add(array[i]);
+        }
+        // flatMap / mapMulti 비교용: 원소 4개짜리 리스트 size/4 개
+        nested = new ArrayList<>(size / 4);
+        for (int i = 0; i + 4 <= size; i += 4) {
+            nested.add(List.of(array[i], array[i + 1], array[i + 2], array[i + 3]));
+        }
+        // 키셋 페이징 비교용: 내림차순으로 size/2 번째 원소 바로 앞 (이전 페이지의 마지막 원소)
+        pageCursor = list.stream().sorted(Comparator.reverseOrder()).skip(Math.max(size / 2 - 1, 0)).findFirst().orElseThrow();
+    }
+
+    // ===== 기본형 특화 스트림 vs 박싱 =====
+
+    @Benchmark
+    public int boxedReduceSum() {
+        return list.stream().reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int mapToIntSum() {
+        return list.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Benchmark
+    public int primitiveArraySum() {
+        return IntStream.of(array).sum();
+    }
+
+    @Benchmark
+    public int loopSum() {
+        int sum = 0;
+        for (int value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public String threePassSumAvgMax() {
+        int sum = list.stream().mapToInt(Integer::intValue).sum();
+        double avg = list.stream().mapToInt(Integer::intValue).average().orElse(0);
+        int max = list.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        return sum + "/" + avg + "/" + max;
+    }
+
+    @Benchmark
+    public String teeingCountSum() {
+        return list.stream().collect(Collectors.teeing(
+                Collectors.counting(),
+                Collectors.summingInt(i -> i),
+                (count, sum) -> count + "/" + sum));
+    }
+
+    @Benchmark
+    public IntSummaryStatistics summaryStatistics() {
+        return IntStream.of(array).summaryStatistics();
+    }
+
+    @Benchmark
+    public LongStats onePassLongStats() {
+        return LongStats.of(IntStream.of(array));
+    }
+
+    @Benchmark
+    public LongStats onePassLongStatsParallel() {
+        return LongStats.of(IntStream.of(array).parallel());
+    }
+
+    // ===== 중간 연산 =====
+
+    @Benchmark
+    public List<Integer> mapFilter() {
+        return list.stream().map(i -> i * 2).filter(i -> i % 3 == 0).toList();
+    }
+
+    @Benchmark
+    public List<Integer> distinct() {
+        return list.stream().distinct().toList();
+    }
+
+    @Benchmark
+    public int[] primitiveDistinct() {
+        return PrimitiveDistinct.distinct(array);
+    }
+
+    @Benchmark
+    public int[] intStreamDistinctSorted() {
+        return IntStream.of(array).distinct().sorted().toArray();
+    }
+
+    @Benchmark
+    public int[] primitiveSortedDistinct() {
+        return PrimitiveDistinct.sortedDistinct(array);
+    }
+
+    @Benchmark
+    public int[] primitiveSortedDistinctParallel() {
+        return PrimitiveDistinct.parallelSortedDistinct(array);
+    }
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] copy = array.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] copy = array.clone();
+        RadixSort.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] radixSortParallel() {
+        int[] copy = array.clone();
+        RadixSort.parallelSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> sortedReverse() {
+        return list.stream().sorted(Comparator.reverseOrder()).toList();
+    }
+
+    @Benchmark
+    public List<Integer> sortedSkipLimitPage() {
+        return list.stream().sorted(Comparator.reverseOrder()).skip(size / 2).limit(20).toList();
+    }
+
+    @Benchmark
+    public List<Integer> sortedLimitTop20() {
+        return list.stream().sorted(Comparator.reverseOrder()).limit(20).toList();
+    }
+
+    @Benchmark
+    public List<Integer> topKTop20() {
+        return list.stream().collect(TopK.collector(20, Comparator.reverseOrder()));
+    }
+
+    @Benchmark
+    public List<Integer> keysetPage() {
+        // sortedSkipLimitPage 와 같은 위치의 페이지 (값이 중복되면 같은 값은 건너뜀)
+        return list.stream().collect(TopK.after(pageCursor, 20, Comparator.reverseOrder()));
+    }
+
+    // ===== flatMap vs mapMulti =====
+
+    @Benchmark
+    public List<Integer> flatMap() {
+        return nested.stream().flatMap(Collection::stream).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapMulti() {
+        return nested.stream()
+                .<Integer>mapMulti((inner, consumer) -> {
+                    for (Integer value : inner) {
+                        consumer.accept(value);
+                    }
+                })
+                .toList();
+    }
+
+    // ===== groupingBy vs partitioningBy vs toMap =====
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> groupingByBoolean() {
+        return list.stream().collect(Collectors.groupingBy(i -> i % 2 == 0));
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitioningBy() {
+        return list.stream().collect(Collectors.partitioningBy(i -> i % 2 == 0));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> toMapMerge() {
+        return list.stream().collect(Collectors.toMap(Function.identity(), i -> i * 100, (oldValue, newValue) -> newValue));
+    }
+
+    // ===== StreamEx02: 기본형 수집 =====
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupingByMod1000() {
+        return list.stream().collect(Collectors.groupingBy(i -> i % 1000));
+    }
+
+    @Benchmark
+    public IntObjectMap<IntList> primitiveGroupingByMod1000() {
+        return PrimitiveCollectors.groupingBy(IntStream.of(array), i -> i % 1000);
+    }
+
+    @Benchmark
+    public IntObjectMap<IntList> primitiveGroupingByMod1000Parallel() {
+        return PrimitiveCollectors.groupingBy(IntStream.of(array).parallel(), i -> i % 1000);
+    }
+
+    @Benchmark
+    public PrimitiveCollectors.IntPartition primitivePartitioningBy() {
+        return PrimitiveCollectors.partitioningBy(IntStream.of(array), i -> i % 2 == 0);
+    }
+
+    @Benchmark
+    public IntIntMap primitiveToMapMerge() {
+        return PrimitiveCollectors.toMap(IntStream.of(array), i -> i * 100, (oldValue, newValue) -> newValue);
+    }
+
+    @Benchmark
+    public IntIntMap primitiveToMapMergeParallel() {
+        return PrimitiveCollectors.toMap(IntStream.of(array).parallel(), i -> i * 100, (oldValue, newValue) -> newValue);
+    }
+
+    // ===== StreamEx07: 단계별 계측 부담 =====
+
+    @Benchmark
+    public long plainFilterMap() {
+        return IntStream.of(array).filter(i -> i % 3 != 0).map(i -> Integer.rotateLeft(i * 0x9E3779B9, 13)).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long probedFilterMap() {
+        StreamProbe probe = new StreamProbe("bench", metrics -> { });
+        return probedFilterMap(probe);
+    }
+
+    @Benchmark
+    public long probedFilterMapSampled() {
+        StreamProbe probe = new StreamProbe("bench", metrics -> { }).sampleEvery(1024);
+        return probedFilterMap(probe);
+    }
+
+    private long probedFilterMap(StreamProbe probe) {
+        try (IntStream numbers = probe.source("array", IntStream.of(array))) {
+            return numbers.filter(probe.intPredicate("filter", i -> i % 3 != 0))
+                    .map(probe.intOperator("map", i -> Integer.rotateLeft(i * 0x9E3779B9, 13)))
+                    .asLongStream().sum();
+        }
+    }
+
+    // ===== 순차 vs 병렬 =====
+
+    @Benchmark
+    public List<Integer> sequentialSquare() {
+        return list.stream().map(i -> i * i).toList();
+    }
+
+    @Benchmark
+    public List<Integer> parallelSquare() {
+        return list.parallelStream().map(i -> i * i).toList();
+    }
+}
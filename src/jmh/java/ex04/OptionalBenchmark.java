@@ -0,0 +1,83 @@
+package ex04;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OptEx01 의 Optional 사용 패턴 비교.
+ * size 개의 값 중 nullRatio(%) 만큼이 null 이며, 기본값은 매번 새 문자열을 만드는 "비싼" 계산으로 가정합니다.
+ * orElse 는 값이 있어도 기본값을 계산하고, orElseGet 은 비어 있을 때만 계산합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OptionalBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"0", "50", "100"})
+    int nullRatio;
+
+    String[] values;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(100) < nullRatio ? null : "ssar" + (i % 100);
+        }
+    }
+
+    private static String expensiveDefault() {
+        return new StringBuilder("default-").append(System.nanoTime()).toString();
+    }
+
+    @Benchmark
+    public void nullCheck(Blackhole bh) {
+        for (String value : values) {
+            bh.consume(value != null ? value : expensiveDefault());
+        }
+    }
+
+    @Benchmark
+    public void orElse(Blackhole bh) {
+        for (String value : values) {
+            bh.consume(Optional.ofNullable(value).orElse(expensiveDefault()));
+        }
+    }
+
+    @Benchmark
+    public void orElseGet(Blackhole bh) {
+        for (String value : values) {
+            bh.consume(Optional.ofNullable(value).orElseGet(OptionalBenchmark::expensiveDefault));
+        }
+    }
+
+    @Benchmark
+    public void isPresentGet(Blackhole bh) {
+        for (String value : values) {
+            Optional<String> opt = Optional.ofNullable(value);
+            bh.consume(opt.isPresent() ? opt.get() : expensiveDefault());
+        }
+    }
+
+    @Benchmark
+    public void mapOrElseGet(Blackhole bh) {
+        for (String value : values) {
+            bh.consume(Optional.ofNullable(value).map(String::length).orElseGet(() -> -1));
+        }
+    }
+}
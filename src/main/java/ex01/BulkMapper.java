@@ -0,0 +1,140 @@
+package ex01;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 대량의 객체를 한 번에 DTO로 변환하는 유틸리티.
+ *
+ * <p>{@code list.stream().map(...).toList()}와 결과는 같지만 다음이 다릅니다.</p>
+ * <ul>
+ *     <li>결과 배열을 원본 크기로 한 번에 할당합니다. (중간 버퍼 증설/복사 없음)</li>
+ *     <li>RandomAccess 리스트는 Iterator 없이 인덱스로 직접 접근합니다.</li>
+ *     <li>원소 수가 {@code parallelThreshold} 이상이면 Fork/Join 으로 구간을 나누어 여러 코어에서 변환합니다.
+ *         각 작업은 결과 배열의 서로 다른 구간에만 쓰므로 별도의 동기화가 필요 없습니다.</li>
+ * </ul>
+ * 변환 함수는 여러 스레드에서 동시에 호출될 수 있으므로 상태를 갖지 않아야 합니다. (생성된 매퍼, 복사 생성자 등)
+ */
+public final class BulkMapper {
+
+    /**
+     * 병렬 변환을 시작하는 기본 원소 수.
+     * 이보다 작은 목록은 스레드 분배 비용이 변환 비용보다 커서 순차 변환이 더 빠릅니다.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * 하나의 Fork/Join 작업이 처리하는 최소 원소 수.
+     */
+    private static final int MIN_LEAF_SIZE = 1 << 12;
+
+    private BulkMapper() {
+    }
+
+    /**
+     * 기본 임계값으로 목록 전체를 변환합니다.
+     * @see #mapAll(List, Function, int)
+     */
+    public static <S, T> List<T> mapAll(List<? extends S> source, Function<? super S, ? extends T> mapper) {
+        return mapAll(source, mapper, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 목록 전체를 변환하여 수정 불가능한 리스트로 반환합니다.
+     * 반환되는 리스트는 결과 배열을 그대로 감싸므로 추가 복사가 없습니다.
+     * @param source 원본 목록
+     * @param mapper 변환 함수 (예: {@code UserDto3Mapper::map}, {@code UserDto3::new})
+     * @param parallelThreshold 이 값 이상의 원소 수부터 병렬로 변환합니다.
+     * @return 원본과 같은 순서의 변환 결과
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> List<T> mapAll(List<? extends S> source, Function<? super S, ? extends T> mapper, int parallelThreshold) {
+        Object[] target = new Object[source.size()];
+        fill(source, target, mapper, parallelThreshold);
+        return Collections.unmodifiableList(Arrays.asList((T[]) target));
+    }
+
+    /**
+     * 기본 임계값으로 목록을 주어진 배열에 변환해 넣습니다.
+     * @see #mapInto(List, Object[], Function, int)
+     */
+    public static <S, T> T[] mapInto(List<? extends S> source, T[] target, Function<? super S, ? extends T> mapper) {
+        return mapInto(source, target, mapper, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 목록을 호출자가 준비한 배열에 변환해 넣습니다.
+     * 같은 크기의 배치를 반복 처리할 때 배열을 재사용하여 할당을 없앨 수 있습니다.
+     * @param source 원본 목록
+     * @param target 결과를 담을 배열 (길이가 원본 크기 이상이어야 합니다)
+     * @param mapper 변환 함수
+     * @param parallelThreshold 이 값 이상의 원소 수부터 병렬로 변환합니다.
+     * @return 인자로 받은 target 배열
+     */
+    public static <S, T> T[] mapInto(List<? extends S> source, T[] target, Function<? super S, ? extends T> mapper, int parallelThreshold) {
+        if (target.length < source.size()) {
+            throw new IllegalArgumentException("target length " + target.length + " < source size " + source.size());
+        }
+        fill(source, target, mapper, parallelThreshold);
+        return target;
+    }
+
+    private static <S> void fill(List<? extends S> source, Object[] target, Function<? super S, ?> mapper, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallelThreshold must be positive: " + parallelThreshold);
+        }
+        // LinkedList 처럼 인덱스 접근이 느린 목록은 배열로 한 번 옮긴 뒤 처리합니다.
+        List<? extends S> indexed = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        int size = indexed.size();
+        if (size < parallelThreshold) {
+            mapRange(indexed, target, mapper, 0, size);
+            return;
+        }
+        int leafSize = Math.max(MIN_LEAF_SIZE, size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        ForkJoinPool.commonPool().invoke(new MapTask<>(indexed, target, mapper, 0, size, leafSize));
+    }
+
+    private static <S> void mapRange(List<? extends S> source, Object[] target, Function<? super S, ?> mapper, int from, int to) {
+        for (int i = from; i < to; i++) {
+            target[i] = mapper.apply(source.get(i));
+        }
+    }
+
+    /**
+     * [from, to) 구간을 반으로 나누어 가며 변환하는 Fork/Join 작업.
+     */
+    private static final class MapTask<S> extends RecursiveAction {
+        private final List<? extends S> source;
+        private final Object[] target;
+        private final Function<? super S, ?> mapper;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        MapTask(List<? extends S> source, Object[] target, Function<? super S, ?> mapper, int from, int to, int leafSize) {
+            this.source = source;
+            this.target = target;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                mapRange(source, target, mapper, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MapTask<>(source, target, mapper, from, mid, leafSize),
+                    new MapTask<>(source, target, mapper, mid, to, leafSize));
+        }
+    }
+}
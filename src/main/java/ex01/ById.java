@@ -0,0 +1,231 @@
+package ex01;
+
+import ex03.IntIntMap;
+import ex03.IntObjectMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * id 로만 비교하는 엔티티 래퍼와, id 기준 중복 제거 Collector.
+ *
+ * <p>{@code @Data} 엔티티를 HashSet, {@code distinct()}, {@code toMap}의 키로 쓰면 호출마다 모든 문자열 필드의 해시를 계산하고,
+ * 넣은 뒤 setter 를 호출하면 해시 값이 바뀌어 다시 찾을 수 없습니다.
+ * ById 는 감쌀 때 id 를 int 로 읽어 두고 equals/hashCode 에 그 값만 사용하므로 비교가 int 비교 한 번이고, 이후 setter 의 영향을 받지 않습니다.</p>
+ *
+ * <pre>{@code
+ * Set<ById<User>> seen = new HashSet<>();
+ * users.stream().map(ById::of).distinct()...            // id 기준 distinct
+ * List<User> latest = users.stream().collect(ById.lastWins());   // 같은 id 는 마지막 것만 (toMap 의 (old, new) -> new)
+ * }</pre>
+ * id 가 null 인 엔티티는 {@link NullPointerException}을 던집니다.
+ *
+ * @param <T> 엔티티 타입
+ */
+public final class ById<T extends Identifiable> {
+    private final int id;
+    private final T entity;
+
+    private ById(int id, T entity) {
+        this.id = id;
+        this.entity = entity;
+    }
+
+    public static <T extends Identifiable> ById<T> of(T entity) {
+        return new ById<>(entity.getId(), entity);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public T entity() {
+        return entity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ById<?> other && id == other.id && entity.getClass() == other.entity.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ById{" + entity.getClass().getSimpleName() + "#" + id + "}";
+    }
+
+    /**
+     * 같은 id 는 처음 나온 것만 남깁니다. 결과 순서는 id 가 처음 나온 순서입니다.
+     */
+    public static <T extends Identifiable> Collector<T, ?, List<T>> firstWins() {
+        return merging((first, later) -> first);
+    }
+
+    /**
+     * 같은 id 는 마지막에 나온 것만 남깁니다. (last-write-wins) 결과 순서는 id 가 처음 나온 순서입니다.
+     */
+    public static <T extends Identifiable> Collector<T, ?, List<T>> lastWins() {
+        return merging((earlier, later) -> later);
+    }
+
+    /**
+     * 같은 id 가 다시 나오면 {@code merge(지금까지의 값, 새 값)}의 결과로 바꿉니다. ({@code Collectors.toMap}의 세 번째 인자와 같음)
+     * 병렬 스트림에서도 merge 의 두 인자는 스트림 순서대로 전달됩니다.
+     */
+    public static <T extends Identifiable> Collector<T, ?, List<T>> merging(BinaryOperator<T> merge) {
+        return merging(Identifiable::getId, merge);
+    }
+
+    /**
+     * id 를 꺼내는 함수를 직접 지정합니다. Identifiable 이 아닌 객체(DTO, record 등)에도 쓸 수 있습니다.
+     */
+    public static <T> Collector<T, ?, List<T>> merging(ToIntFunction<? super T> idMapper, BinaryOperator<T> merge) {
+        return Collector.of(
+                () -> new Dedup<>(idMapper, merge),
+                Dedup::add,
+                Dedup::addAll,
+                dedup -> dedup.items);
+    }
+
+    /**
+     * 같은 id 를 merge 로 합친 id → 엔티티 맵. (키를 박싱하지 않는 {@link IntObjectMap})
+     */
+    public static <T extends Identifiable> Collector<T, ?, IntObjectMap<T>> toMap(BinaryOperator<T> merge) {
+        return Collector.of(
+                IntObjectMap<T>::new,
+                (map, entity) -> {
+                    int id = entity.getId();
+                    T previous = map.get(id);
+                    map.put(id, previous == null ? entity : merge.apply(previous, entity));
+                },
+                (left, right) -> {
+                    left.putAll(right, merge);
+                    return left;
+                });
+    }
+
+    /**
+     * id → 목록 위치를 {@link IdIndex}에 두고, 결과는 처음 나온 순서의 ArrayList 에 바로 쌓습니다.
+     */
+    private static final class Dedup<T> {
+        private final ToIntFunction<? super T> idMapper;
+        private final BinaryOperator<T> merge;
+        private final IdIndex positions = new IdIndex();
+        private final ArrayList<T> items = new ArrayList<>();
+
+        Dedup(ToIntFunction<? super T> idMapper, BinaryOperator<T> merge) {
+            this.idMapper = idMapper;
+            this.merge = merge;
+        }
+
+        void add(T entity) {
+            int id = idMapper.applyAsInt(entity);
+            int position = positions.get(id);
+            if (position < 0) {
+                positions.put(id, items.size());
+                items.add(entity);
+            } else {
+                items.set(position, merge.apply(items.get(position), entity));
+            }
+        }
+
+        /**
+         * 병렬 스트림에서 오른쪽(뒤쪽) 구간의 결과를 합칩니다. 오른쪽 원소는 모두 왼쪽 원소보다 뒤에 나온 것으로 처리합니다.
+         */
+        Dedup<T> addAll(Dedup<T> right) {
+            items.ensureCapacity(items.size() + right.items.size());
+            for (T entity : right.items) {
+                add(entity);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * id → 위치 색인. DB 일련번호처럼 id 가 좁은 범위에 몰려 있으면 (id - base) 를 인덱스로 하는 int 배열을 쓰고,
+     * 범위가 id 개수의 4배를 넘으면 {@link IntIntMap}으로 옮깁니다.
+     * 연속된 id 를 해시하면 배열 전체에 흩어져 캐시 미스가 나지만, 배열 색인은 입력 순서대로 메모리를 훑습니다.
+     */
+    private static final class IdIndex {
+        private static final int MIN_DENSE = 1024;
+        private static final int MAX_DENSE = 1 << 30;
+
+        private int[] dense = new int[0]; // 위치 + 1, 0 = 없음
+        private long base;
+        private IntIntMap sparse;
+        private int size;
+
+        /**
+         * @return 위치, 없으면 -1
+         */
+        int get(int id) {
+            if (sparse != null) {
+                return sparse.get(id, -1);
+            }
+            long offset = id - base;
+            return offset >= 0 && offset < dense.length ? dense[(int) offset] - 1 : -1;
+        }
+
+        /**
+         * 아직 없는 id 를 넣습니다.
+         */
+        void put(int id, int position) {
+            size++;
+            if (sparse == null) {
+                long offset = id - base;
+                if (offset < 0 || offset >= dense.length) {
+                    if (!grow(id)) {
+                        toSparse();
+                        sparse.put(id, position);
+                        return;
+                    }
+                    offset = id - base;
+                }
+                dense[(int) offset] = position + 1;
+            } else {
+                sparse.put(id, position);
+            }
+        }
+
+        /**
+         * id 가 들어가도록 배열을 (두 배씩) 늘립니다. 범위가 너무 넓어지면 false.
+         */
+        private boolean grow(int id) {
+            boolean empty = dense.length == 0;
+            long low = empty ? id : Math.min(base, id);
+            long high = empty ? id : Math.max(base + dense.length - 1, id);
+            long span = high - low + 1;
+            long limit = Math.min(MAX_DENSE, Math.max(MIN_DENSE, 4L * size));
+            if (span > limit) {
+                return false;
+            }
+            int length = (int) Math.max(span, Math.min(2L * dense.length, limit));
+            // 아래쪽으로 넓어질 때는 새 배열의 끝을 high 에 맞춥니다.
+            long newBase = !empty && id < base ? high - length + 1 : low;
+            int[] grown = new int[length];
+            if (!empty) {
+                System.arraycopy(dense, 0, grown, (int) (base - newBase), dense.length);
+            }
+            dense = grown;
+            base = newBase;
+            return true;
+        }
+
+        private void toSparse() {
+            sparse = new IntIntMap(size * 2);
+            for (int i = 0; i < dense.length; i++) {
+                if (dense[i] != 0) {
+                    sparse.put((int) (base + i), dense[i] - 1);
+                }
+            }
+            dense = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ex01;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 댓글(Reply) 목록 위에 씌우는 읽기 전용 댓글 내용(String) 뷰.
+ *
+ * <p>{@code replies.stream().map(Reply::getComment).skip(offset).limit(limit).toList()}와 같은 내용을 보여주지만,
+ * 새 리스트를 만들지 않고 {@link #get(int)}가 호출될 때마다 원본의 {@code getComment()}를 읽어옵니다.
+ * 따라서 생성 비용은 댓글 수와 무관하게 객체 하나이며, 원본 목록이 바뀌면 뷰에도 그대로 반영됩니다.</p>
+ *
+ * <p>원본이 ArrayList 처럼 인덱스 접근이 빠른 목록일 때 사용하세요. (LinkedList 는 get 마다 순회합니다)</p>
+ */
+final class CommentView extends AbstractList<String> implements RandomAccess {
+    private final List<Reply> replies;
+    private final int offset;
+    private final int limit;
+
+    /**
+     * @param replies 원본 댓글 목록
+     * @param offset 건너뛸 댓글 수 (skip)
+     * @param limit 보여줄 최대 댓글 수 (limit)
+     */
+    CommentView(List<Reply> replies, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset=" + offset + ", limit=" + limit);
+        }
+        this.replies = Objects.requireNonNull(replies);
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, size());
+        return replies.get(offset + index).getComment();
+    }
+
+    @Override
+    public int size() {
+        // 원본 목록의 현재 크기 기준으로 창(window)을 계산합니다.
+        return Math.max(0, Math.min(limit, replies.size() - offset));
+    }
+}
@@ -1,13 +1,17 @@
 package ex01;
 
 import lombok.Data;
+import mapper.Mapper;
+import mapper.Mapping;
 
 /**
  * User 데이터 전송 객체 (Data Transfer Object).
  * User 클래스의 데이터 중 일부(id, userName, email)를 담아 계층 간에 전달하는 데 사용됩니다.
  * 예를 들어, 전체 사용자 정보(비밀번호 포함)가 아닌, 일부 정보만 클라이언트에 보여주고 싶을 때 사용됩니다.
+ * {@code @Mapper}로 setter 기반 복사 코드({@code UserDtoMapper})가 컴파일 시점에 생성됩니다.
  */
 @Data
+@Mapper(from = User.class, mappings = @Mapping(source = "name", target = "userName"), ignore = "password")
 class UserDto{
     private Integer id;
     private String userName;
@@ -1,12 +1,16 @@
 package ex01;
 
 import lombok.Data;
+import mapper.Mapper;
+import mapper.Mapping;
 
 /**
  * User 데이터 전송 객체 (DTO) Ver. 2.
  * 생성자를 통해 객체 생성 시점에 모든 필드 값을 초기화합니다.
+ * {@code @Mapper}로 생성자 기반 복사 코드({@code UserDto2Mapper})가 컴파일 시점에 생성됩니다.
  */
 @Data
+@Mapper(from = User.class, mappings = @Mapping(source = "name", target = "userName"), ignore = "password")
 class UserDto2{
     private Integer id;
     private String userName;
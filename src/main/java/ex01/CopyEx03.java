@@ -1,12 +1,16 @@
 package ex01;
 
 import lombok.Data;
+import mapper.Mapper;
+import mapper.Mapping;
 
 /**
  * User 데이터 전송 객체 (DTO) Ver. 3.
  * 생성자가 원본 객체(User)를 직접 인자로 받아, 데이터 복사 로직을 캡슐화합니다.
+ * {@code @Mapper}로 생성되는 {@code UserDto3Mapper}는 아래의 전체 필드 생성자를 사용합니다.
  */
 @Data
+@Mapper(from = User.class, mappings = @Mapping(source = "name", target = "userName"), ignore = "password")
 class UserDto3 {
     private Integer id;
     private String userName;
@@ -24,6 +28,19 @@ class UserDto3 {
         this.email = user.getEmail();
     }
 
+    /**
+     * 모든 필드를 인자로 받는 생성자.
+     * 생성된 매퍼나 다른 저장소(컬럼 저장소, 파일 등)에서 User 객체 없이 DTO를 만들 때 사용합니다.
+     * @param id 사용자 ID
+     * @param userName 사용자 이름
+     * @param email 사용자 이메일
+     */
+    public UserDto3(Integer id, String userName, String email) {
+        this.id = id;
+        this.userName = userName;
+        this.email = email;
+    }
+
     @Override
     public String toString() {
         return "UserDto{" +
@@ -1,34 +1,129 @@
 package ex01;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.stream.Collectors;
 
 /**
  * 게시글을 나타내는 데이터 모델 클래스.
+ * setter 는 값을 바꾼 뒤 버전을 올립니다. 댓글 목록({@link ReplyList})을 바꾸거나 목록에 든 댓글의 setter 를 호출해도 버전이 오릅니다.
  */
 @Data
-class Board{
+class Board implements Serializable, Identifiable, Versioned {
     private Integer id;
     private String title;
     private String content;
-    private List<Reply> replies = new ArrayList<>(); // 게시글에 달린 댓글 목록
+    private final ReplyList replies = new ReplyList(this); // 게시글에 달린 댓글 목록 (바뀌면 버전 증가)
+
+    // User 와 같이 touch() 가 동시에 호출되어도 버전 증가가 사라지지 않도록 원자적으로 올립니다.
+    private static final AtomicIntegerFieldUpdater<Board> VERSION = AtomicIntegerFieldUpdater.newUpdater(Board.class, "version");
+
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile int version; // setter 가 호출될 때마다 1 증가
+
+    public void setId(Integer id) {
+        this.id = id;
+        touch();
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+        touch();
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        touch();
+    }
+
+    public List<Reply> getReplies() {
+        return replies;
+    }
+
+    /**
+     * 댓글 목록을 주어진 댓글들로 바꿉니다. 인자로 받은 목록은 복사하므로, 이후 그 목록을 바꿔도 게시글에는 반영되지 않습니다.
+     */
+    public void setReplies(List<Reply> replies) {
+        List<Reply> copy = new ArrayList<>(replies);
+        this.replies.clear();
+        this.replies.addAll(copy);
+    }
+
+    public void addReply(Reply reply) {
+        replies.add(reply);
+    }
+
+    public boolean removeReply(Reply reply) {
+        return replies.remove(reply);
+    }
+
+    /**
+     * setter 를 거치지 않고 내용이 바뀌었음을 알립니다. (버전 1 증가)
+     */
+    public void touch() {
+        VERSION.incrementAndGet(this);
+    }
 }
 
 /**
  * 댓글을 나타내는 데이터 모델 클래스.
+ * 게시글의 댓글 목록에 들어가면 그 게시글에 연결되어, setter 가 게시글의 버전을 올립니다. ({@link ReplyList})
  */
 @Data
-class Reply{
+class Reply implements Serializable, Identifiable {
     private Integer id;
     private String comment;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient Board board; // 이 댓글이 달린 게시글 (없으면 null)
+
     public Reply(Integer id, String comment) {
         this.id = id;
         this.comment = comment;
     }
+
+    public void setId(Integer id) {
+        this.id = id;
+        touchBoard();
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+        touchBoard();
+    }
+
+    private void touchBoard() {
+        Board owner = board;
+        if (owner != null) {
+            owner.touch();
+        }
+    }
+
+    static void attach(Reply reply, Board board) {
+        if (reply != null) {
+            reply.board = board;
+        }
+    }
+
+    static void detach(Reply reply, Board board) {
+        if (reply != null && reply.board == board) {
+            reply.board = null;
+        }
+    }
 }
 
 /**
@@ -40,7 +135,7 @@ class DetailDto{
     private Integer boardId;
     private String title;
     private String content;
-    private List<String> comments = new ArrayList<>(); // 댓글 내용만 문자열 리스트로 저장
+    private List<String> comments; // 댓글 내용만 문자열 리스트로 저장 (생성자에서 항상 할당하므로 초기값 없음)
 
     /**
      * Board 객체를 인자로 받아 DetailDto를 생성하는 복사 생성자.
@@ -62,6 +157,51 @@ class DetailDto{
                 .limit(2)
                 .toList();
     }
+
+    /**
+     * 댓글 목록을 복사하지 않고 지연 뷰(CommentView)로 감싸 DetailDto를 생성합니다.
+     * 댓글 내용은 comments 리스트의 get()이 호출될 때 원본 Reply에서 읽어오므로,
+     * 댓글이 수만 개인 게시글도 생성 비용이 일정하며 offset/limit 로 원하는 구간만 보여줄 수 있습니다.
+     * @param board 원본 데이터가 담긴 Board 객체
+     * @param offset 건너뛸 댓글 수
+     * @param limit 보여줄 최대 댓글 수
+     */
+    public DetailDto(Board board, int offset, int limit) {
+        this.boardId = board.getId();
+        this.title = board.getTitle();
+        this.content = board.getContent();
+        this.comments = new CommentView(board.getReplies(), offset, limit);
+    }
+
+    /**
+     * 모든 필드를 인자로 받는 생성자.
+     * Board 객체 없이 다른 저장소(메모리 매핑 파일 등)에서 읽은 값으로 DetailDto를 만들 때 사용합니다.
+     * @param boardId 게시글 ID
+     * @param title 제목
+     * @param content 내용
+     * @param comments 댓글 내용 목록 (복사하지 않고 그대로 사용)
+     */
+    public DetailDto(Integer boardId, String title, String content, List<String> comments) {
+        this.boardId = boardId;
+        this.title = title;
+        this.content = content;
+        this.comments = comments;
+    }
+
+    /**
+     * 게시글 객체의 댓글 목록 대신 ReplyStore 에서 댓글 페이지를 가져와 DetailDto를 생성합니다.
+     * 게시글 id 로 댓글 배열의 해당 구간만 읽으므로 댓글이 아무리 많아도 비용은 페이지 크기에만 비례합니다.
+     * @param board 원본 데이터가 담긴 Board 객체 (댓글 목록은 사용하지 않음)
+     * @param store 게시글 id 별 댓글 저장소
+     * @param offset 건너뛸 댓글 수
+     * @param limit 보여줄 최대 댓글 수
+     */
+    public DetailDto(Board board, ReplyStore store, int offset, int limit) {
+        this.boardId = board.getId();
+        this.title = board.getTitle();
+        this.content = board.getContent();
+        this.comments = store.comments(board.getId(), offset, limit);
+    }
 }
 
 /**
@@ -0,0 +1,33 @@
+package ex01;
+
+/**
+ * 객체 복사 예제 5: 어노테이션 프로세서가 생성한 매퍼로 객체 복사하기
+ * DTO 클래스에 {@code @Mapper}를 붙이면 컴파일 시점에 {@code <DTO>Mapper} 클래스가 생성됩니다.
+ * 생성된 코드는 CopyEx01~03에서 손으로 작성하던 getter/setter, 생성자 호출과 똑같은 코드이므로
+ * 리플렉션 기반 복사 라이브러리와 달리 실행 시 추가 비용이 없습니다.
+ */
+public class CopyEx05 {
+    public static void main(String[] args) {
+        // 1. 원본 User 객체 생성 및 데이터 할당
+        User user = new User();
+        user.setId(1);
+        user.setName("name");
+        user.setEmail("name@gmail.com");
+        user.setPassword("1234");
+
+        // 2. 생성된 매퍼로 복사
+        // UserDto 에는 인자 없는 생성자가 있으므로 setter 방식의 코드가 생성됩니다.
+        UserDto dto = UserDtoMapper.map(user);
+        // UserDto2, UserDto3 에는 필드 순서대로 받는 생성자가 있으므로 생성자 호출 코드가 생성됩니다.
+        UserDto2 dto2 = UserDto2Mapper.map(user);
+        UserDto3 dto3 = UserDto3Mapper.map(user);
+
+        // 3. 복사 결과 출력 (name -> userName 이름 변경이 반영되고, password 는 복사되지 않습니다)
+        System.out.println(dto);
+        System.out.println(dto2);
+        System.out.println(dto3);
+
+        // User 에 새 필드가 추가되었는데 DTO 의 @Mapper 에 매핑하거나 ignore 하지 않으면
+        // "User.xxx 필드가 매핑되지 않았습니다." 컴파일 에러가 발생하여 복사 누락을 막아줍니다.
+    }
+}
@@ -0,0 +1,36 @@
+package ex01;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 복사 예제 6: 대량의 객체를 한 번에 DTO로 변환하기
+ * 객체마다 {@code new UserDto3(user)}를 반복 호출하는 대신 BulkMapper로 목록 전체를 변환합니다.
+ * 결과 크기를 미리 알고 한 번에 할당하며, 목록이 크면 여러 코어에 나누어 변환합니다.
+ */
+public class CopyEx06 {
+    public static void main(String[] args) {
+        // 1. 원본 User 목록 생성
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("name" + i);
+            user.setEmail("name" + i + "@gmail.com");
+            users.add(user);
+        }
+
+        // 2. 목록 전체를 변환 (100,000건 >= 기본 임계값이므로 Fork/Join 병렬 변환)
+        List<UserDto3> dtos = BulkMapper.mapAll(users, UserDto3Mapper::map);
+        System.out.println("변환 건수 = " + dtos.size() + ", 마지막 = " + dtos.get(dtos.size() - 1));
+
+        // 3. 임계값을 직접 지정할 수도 있습니다. (여기서는 항상 순차 변환)
+        List<UserDto> sequential = BulkMapper.mapAll(users, UserDtoMapper::map, Integer.MAX_VALUE);
+        System.out.println("순차 변환 첫 번째 = " + sequential.get(0));
+
+        // 4. 같은 크기의 배치를 반복 처리할 때는 배열을 재사용하여 할당을 줄일 수 있습니다.
+        UserDto2[] buffer = new UserDto2[users.size()];
+        BulkMapper.mapInto(users, buffer, UserDto2Mapper::map);
+        System.out.println("배열 변환 첫 번째 = " + buffer[0]);
+    }
+}
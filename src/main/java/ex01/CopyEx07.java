@@ -0,0 +1,30 @@
+package ex01;
+
+/**
+ * 객체 복사 예제 7: 컬렉션을 복사하지 않는 지연 뷰(View)로 DTO 만들기
+ * CopyEx04 의 DetailDto(Board)는 댓글 내용을 새 리스트로 복사합니다.
+ * DetailDto(Board, offset, limit)는 원본 댓글 목록 위에 뷰만 씌우므로 댓글 수와 무관하게 할당이 일정합니다.
+ */
+public class CopyEx07 {
+    public static void main(String[] args) {
+        // 1. 댓글이 30,000개인 게시글 생성
+        Board board = new Board();
+        board.setId(1);
+        board.setTitle("인기글");
+        board.setContent("내용");
+        for (int i = 1; i <= 30_000; i++) {
+            board.getReplies().add(new Reply(i, "댓글" + i));
+        }
+
+        // 2. 200번째 댓글부터 20개만 보여주는 상세 DTO (댓글 리스트 복사 없음)
+        DetailDto page = new DetailDto(board, 200, 20);
+        System.out.println("댓글 페이지 = " + page.getComments());
+
+        // 3. 뷰이므로 원본이 바뀌면 그대로 반영됩니다.
+        board.getReplies().get(200).setComment("수정된 댓글");
+        System.out.println("수정 후 첫 댓글 = " + page.getComments().get(0));
+
+        // 4. 범위를 벗어난 구간은 빈 리스트로 보입니다.
+        System.out.println("범위 밖 = " + new DetailDto(board, 40_000, 20).getComments());
+    }
+}
@@ -0,0 +1,34 @@
+package ex01;
+
+import java.util.List;
+
+/**
+ * 객체 복사 예제 8: 게시글 id 로 색인된 댓글 저장소에서 페이지 단위로 DTO 만들기
+ * Board 안의 List&lt;Reply&gt;를 통째로 불러와 skip/limit 하는 대신,
+ * ReplyStore 에서 필요한 구간만 읽어 DetailDto 를 만듭니다.
+ */
+public class CopyEx08 {
+    public static void main(String[] args) {
+        // 1. 게시글 17번 생성
+        Board board = new Board();
+        board.setId(17);
+        board.setTitle("제목17");
+        board.setContent("내용17");
+
+        // 2. 댓글은 게시글 객체 대신 저장소에 등록 (게시글 id 는 int 그대로 사용, 박싱 없음)
+        ReplyStore store = new ReplyStore();
+        for (int i = 1; i <= 1_000; i++) {
+            store.add(17, new Reply(i, "댓글" + i));
+            store.add(18, new Reply(10_000 + i, "다른 게시글 댓글" + i));
+        }
+        System.out.println("17번 게시글 댓글 수 = " + store.count(17));
+
+        // 3. 200~220번째 댓글만 조회 (배열 구간 뷰, 페이지 크기만큼만 읽음)
+        List<Reply> page = store.page(17, 200, 20);
+        System.out.println("첫 댓글 = " + page.get(0) + ", 마지막 댓글 = " + page.get(page.size() - 1));
+
+        // 4. 저장소에서 바로 DetailDto 생성
+        DetailDto detailDto = new DetailDto(board, store, 200, 20);
+        System.out.println(detailDto);
+    }
+}
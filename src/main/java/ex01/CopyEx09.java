@@ -0,0 +1,46 @@
+package ex01;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 복사 예제 9: 객체 대신 컬럼(배열)으로 저장하고 필요할 때만 DTO 만들기
+ * User 객체를 수백만 개 보관하면 객체 헤더와 포인터만으로도 많은 메모리를 사용합니다.
+ * UserTable 은 같은 데이터를 int[] 와 바이트 배열 컬럼에 저장하고, 플라이웨이트 Row 로 읽습니다.
+ */
+public class CopyEx09 {
+    public static void main(String[] args) {
+        // 1. User 목록을 컬럼 테이블로 적재
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("name" + i);
+            user.setEmail("name" + i + (i % 3 == 0 ? "@naver.com" : "@gmail.com"));
+            user.setPassword("password" + i);
+            users.add(user);
+        }
+        UserTable table = UserTable.of(users);
+        table.trimToSize();
+        System.out.println("행 수 = " + table.size() + ", 컬럼 메모리(약) = " + table.estimatedBytes() / 1024 + "KB");
+
+        // 2. 전체 스캔: 행 번호 스트림으로 filter (문자열/객체 생성 없음)
+        long naver = table.rows()
+                .filter(table.emailDomainIs("naver.com"))
+                .count();
+        System.out.println("naver.com 사용자 수 = " + naver);
+
+        // 3. 필요한 행만 DTO 로 변환
+        List<UserDto3> page = table.rows()
+                .filter(r -> table.id(r) % 2 == 0)
+                .limit(3)
+                .mapToObj(table::toUserDto3)
+                .toList();
+        System.out.println("짝수 id 3건 = " + page);
+
+        // 4. 플라이웨이트 Row 하나를 재사용하며 순회
+        int[] maxId = {0};
+        table.forEach(row -> maxId[0] = Math.max(maxId[0], row.getId()));
+        System.out.println("최대 id = " + maxId[0] + ", 첫 행 = " + table.row(0));
+    }
+}
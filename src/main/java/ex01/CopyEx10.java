@@ -0,0 +1,49 @@
+package ex01;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 복사 예제 10: 메모리 매핑 파일에서 바로 DTO 만들기
+ * MappedStore 는 User/Board/Reply 를 고정 길이 레코드로 파일에 기록하고, 파일을 메모리에 매핑하여 읽습니다.
+ * 재시작 후에도 객체를 다시 만들지 않고 파일을 매핑하는 즉시 조회할 수 있습니다.
+ */
+public class CopyEx10 {
+    public static void main(String[] args) throws IOException {
+        // 1. 원본 데이터 생성
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 1_000; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("name" + i);
+            user.setEmail("name" + i + "@gmail.com");
+            user.setPassword("password" + i);
+            users.add(user);
+        }
+        Board board = new Board();
+        board.setId(1);
+        board.setTitle("제목1");
+        board.setContent("내용1");
+        for (int i = 1; i <= 100; i++) {
+            board.getReplies().add(new Reply(i, "댓글" + i));
+        }
+
+        // 2. 파일로 기록
+        Path path = Files.createTempFile("store", ".bin");
+        MappedStore.write(path, users, List.of(board));
+
+        // 3. 파일을 매핑하여 조회 (역직렬화 없음)
+        try (MappedStore store = MappedStore.open(path)) {
+            int index = store.findUser(500);
+            System.out.println("id=500 사용자 = " + store.toUserDto3(index));
+
+            DetailDto detailDto = store.toDetailDto(store.findBoard(1), 10, 5);
+            System.out.println("게시글 = " + detailDto.getTitle() + ", 댓글 = " + detailDto.getComments());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
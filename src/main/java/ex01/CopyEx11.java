@@ -0,0 +1,41 @@
+package ex01;
+
+import ex05.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 복사 예제 11: DTO 목록을 JSON 으로 스트리밍하기
+ * DTO 의 toString() 을 이어 붙이는 대신 DtoJson 으로 JsonWriter 버퍼에 바로 기록합니다.
+ */
+public class CopyEx11 {
+    public static void main(String[] args) {
+        // 1. DTO 목록 준비
+        List<UserDto3> dtos = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            dtos.add(new UserDto3(i, "name" + i, "name" + i + "@gmail.com"));
+        }
+        Board board = new Board();
+        board.setId(1);
+        board.setTitle("제목1");
+        board.setContent("내용1");
+        board.getReplies().add(new Reply(1, "댓글1"));
+        board.getReplies().add(new Reply(2, "댓글2"));
+
+        // 2. 목록 전체를 스트림으로 직렬화 (객체마다 중간 문자열 없음)
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonWriter json = new JsonWriter(out);
+        json.array(dtos, DtoJson::write).flush();
+        System.out.println(out.toString(StandardCharsets.UTF_8));
+
+        // 3. 같은 writer 를 재사용하여 DetailDto 직렬화
+        out.reset();
+        json.reset(out);
+        DtoJson.write(json, new DetailDto(board));
+        json.flush();
+        System.out.println(out.toString(StandardCharsets.UTF_8));
+    }
+}
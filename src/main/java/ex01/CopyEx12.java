@@ -0,0 +1,64 @@
+package ex01;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 객체 복사 예제 12: 바이너리 형식으로 내보내고, 객체 없이 버퍼에서 바로 읽기
+ * EntityBinary 는 정수를 varint, 문자열을 길이 접두어 + UTF-8 로 기록합니다.
+ * UserView 는 버퍼 위에서 필요한 필드만 읽으므로 User 객체를 만들지 않고도 검색할 수 있습니다.
+ */
+public class CopyEx12 {
+    public static void main(String[] args) {
+        // 1. User 목록을 하나의 버퍼에 이어서 기록
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 1_000; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setName("name" + i);
+            user.setEmail("name" + i + "@gmail.com");
+            user.setPassword(i % 10 == 0 ? null : "password" + i);
+            users.add(user);
+        }
+        BinaryWriter out = new BinaryWriter();
+        users.forEach(user -> EntityBinary.write(out, user));
+        System.out.println("바이너리 크기 = " + out.size() + "바이트, toString 크기 = "
+                + users.stream().mapToInt(u -> u.toString().getBytes(StandardCharsets.UTF_8).length).sum() + "바이트");
+
+        // 2. 왕복(round-trip) 확인: 다시 읽은 객체가 원본과 같아야 합니다.
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        List<User> decoded = new ArrayList<>();
+        while (in.hasRemaining()) {
+            decoded.add(EntityBinary.readUser(in));
+        }
+        System.out.println("User 왕복 일치 = " + users.equals(decoded));
+
+        // 3. 객체를 만들지 않고 버퍼에서 바로 검색 (이메일 비교도 바이트 단위)
+        byte[] target = "name500@gmail.com".getBytes(StandardCharsets.UTF_8);
+        EntityBinary.UserView view = new EntityBinary.UserView(ByteBuffer.wrap(out.toByteArray()));
+        do {
+            if (view.emailEquals(target)) {
+                System.out.println("찾은 사용자 = " + view.toUserDto3());
+            }
+        } while (view.next());
+
+        // 4. 게시글(댓글 포함) 왕복 및 뷰에서 DetailDto 만들기
+        Board board = new Board();
+        board.setId(1);
+        board.setTitle("제목1");
+        board.setContent("내용1");
+        board.getReplies().add(new Reply(1, "댓글1"));
+        board.getReplies().add(new Reply(2, "댓글2"));
+        BinaryWriter boardOut = new BinaryWriter();
+        EntityBinary.write(boardOut, board);
+        Board decodedBoard = EntityBinary.readBoard(new BinaryReader(boardOut.toByteArray()));
+        System.out.println("Board 왕복 일치 = " + board.equals(decodedBoard));
+        System.out.println("뷰에서 만든 DetailDto 댓글 = "
+                + new EntityBinary.BoardView(ByteBuffer.wrap(boardOut.toByteArray())).toDetailDto(2).getComments());
+    }
+}
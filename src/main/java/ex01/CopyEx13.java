@@ -0,0 +1,45 @@
+package ex01;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 객체 복사 예제 13: 시드로 재현되는 대량 테스트 데이터 만들기
+ * Fixtures 는 FixtureGenerator 로 User, 게시글 + 댓글을 병렬로 만들며, 같은 시드면 스레드 수와 상관없이 같은 데이터가 나옵니다.
+ */
+public class CopyEx13 {
+    public static void main(String[] args) throws IOException {
+        long rows = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+
+        // 1. 목록으로 만들기: 스레드 1개와 8개로 만든 결과가 같음
+        long start = System.nanoTime();
+        List<User> users = Fixtures.users(42).toList(1_000_000);
+        System.out.printf("User 1,000,000 건 : %,d ms, 첫 번째 = %s%n", (System.nanoTime() - start) / 1_000_000, users.get(0));
+        List<User> single = new ForkJoinPool(1).submit(() -> Fixtures.users(42).toList(1_000_000)).join();
+        List<User> eight = new ForkJoinPool(8).submit(() -> Fixtures.users(42).toList(1_000_000)).join();
+        System.out.println("스레드 1개 = 8개 = 기본 : " + (users.equals(single) && users.equals(eight)));
+        System.out.println("순차 스트림과 일치   : " + users.equals(Fixtures.users(42).stream(1_000_000).toList()));
+        System.out.println("500,000번째만 다시   : " + Fixtures.users(42).row(499_999).equals(users.get(499_999)));
+
+        // 2. 배열로 만들기: 게시글마다 댓글 0 ~ 5개
+        Board[] boards = Fixtures.boards(7, 5).toArray(100_000, Board[]::new);
+        System.out.println("게시글 = " + boards[0].getTitle() + " / 댓글 " + boards[0].getReplies().size() + "개");
+
+        // 3. 파일로 바로 쓰기: 목록을 메모리에 올리지 않고 묶음 단위로 만들어 순서대로 기록
+        Path csv = Files.createTempFile("users", ".csv");
+        try {
+            start = System.nanoTime();
+            long bytes = Fixtures.users(42).writeTo(csv, rows, Fixtures.USER_CSV_HEADER, Fixtures::userCsv);
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            System.out.printf("CSV %,d 건 : %,d ms, %,d bytes (%,d 건/s)%n", rows, millis, bytes, rows * 1000 / millis);
+            try (var lines = Files.lines(csv)) {
+                System.out.println("두 번째 줄 = " + lines.skip(1).findFirst().orElseThrow());
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+}
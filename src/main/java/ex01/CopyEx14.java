@@ -0,0 +1,74 @@
+package ex01;
+
+import ex03.IntObjectMap;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 객체 복사 예제 14: id 로 엔티티 비교하기와 id 기준 중복 제거
+ * {@code @Data}의 equals/hashCode 는 모든 필드를 쓰므로, 같은 사용자의 새 스냅숏을 합칠 때는 ById 로 id 만 비교합니다.
+ */
+public class CopyEx14 {
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 3_000_000;
+
+        // 1. setter 를 호출하면 @Data 해시 값이 바뀌어 HashSet 에서 찾을 수 없음
+        User user = Fixtures.users(1).row(0);
+        Set<User> byFields = new HashSet<>(List.of(user));
+        Set<ById<User>> byId = new HashSet<>(List.of(ById.of(user)));
+        user.setEmail("changed@example.com");
+        System.out.println("이메일 변경 후 찾기: @Data = " + byFields.contains(user) + ", ById = " + byId.contains(ById.of(user)));
+
+        // 2. 같은 id(1 ~ count)의 스냅숏 두 개: 두 번째(시드 2)는 앞쪽 절반만 있는 최신 값
+        List<User> snapshot = Fixtures.users(1).toList(count);
+        List<User> updates = Fixtures.users(2).toList(count / 2);
+
+        // 3. toMap 의 (old, new) -> new 와 같은 결과를 int 키로 만들기
+        long start = System.nanoTime();
+        Map<Integer, User> boxed = Stream.concat(snapshot.stream(), updates.stream())
+                .collect(Collectors.toMap(User::getId, Function.identity(), (older, newer) -> newer, LinkedHashMap::new));
+        System.out.printf("toMap(LinkedHashMap)  : %,d ms, %,d 건%n", (System.nanoTime() - start) / 1_000_000, boxed.size());
+
+        start = System.nanoTime();
+        List<User> latest = Stream.concat(snapshot.stream(), updates.stream()).collect(ById.lastWins());
+        System.out.printf("ById.lastWins         : %,d ms, %,d 건%n", (System.nanoTime() - start) / 1_000_000, latest.size());
+
+        start = System.nanoTime();
+        List<User> parallel = Stream.concat(snapshot.stream(), updates.stream()).parallel().collect(ById.lastWins());
+        System.out.printf("ById.lastWins (병렬)  : %,d ms, 순서와 결과 일치 = %s%n", (System.nanoTime() - start) / 1_000_000,
+                sameEntities(parallel, List.copyOf(boxed.values())) && sameEntities(latest, parallel));
+
+        // 4. 직접 합치기: 비밀번호가 없는(null) 새 값은 기존 비밀번호를 유지
+        List<User> merged = Stream.concat(snapshot.stream(), updates.stream()).collect(ById.merging((older, newer) -> {
+            if (newer.getPassword() == null) {
+                newer.setPassword(older.getPassword());
+            }
+            return newer;
+        }));
+        System.out.println("비밀번호 없는 사용자  : " + merged.stream().filter(u -> u.getPassword() == null).count() + "명");
+
+        // 5. id → 엔티티 맵 (키 박싱 없음)
+        IntObjectMap<User> index = updates.stream().collect(ById.toMap((older, newer) -> newer));
+        System.out.println("id 1 의 최신 이메일  : " + index.get(1).getEmail());
+    }
+
+    /** 엔티티의 equals 대신 같은 인스턴스가 같은 순서로 들어 있는지 비교합니다. */
+    private static boolean sameEntities(List<User> a, List<User> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (a.get(i) != b.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package ex01;
+
+import ex05.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 객체 복사 예제 15: 자주 조회되는 게시글의 변환 결과(DetailDto, 응답 JSON)를 캐시하기
+ * DtoCache 는 게시글 id 와 버전으로 변환 결과를 캐시하므로, 수정한 게시글(제목, 댓글 목록, 댓글 내용)은 다음 조회에서 다시 변환됩니다.
+ */
+public class CopyEx15 {
+    public static void main(String[] args) {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Board> boards = Fixtures.boards(3, 20).toList(100_000);
+        // 앞쪽 게시글일수록 자주 조회됨 (k 번째 글의 조회 수가 1/k 에 비례하는 Zipf 분포)
+        int[] pattern = new SplittableRandom(15).doubles(requests)
+                .mapToInt(r -> (int) Math.pow(boards.size() + 1, r) - 1)
+                .toArray();
+
+        // 1. 게시글 상세 응답(DetailDto → JSON)을 매번 만들기 vs 캐시 (2,000개 = 게시글의 2%)
+        long start = System.nanoTime();
+        long uncached = IntStream.of(pattern).parallel()
+                .mapToObj(i -> render(boards.get(i)))
+                .mapToLong(json -> json.length)
+                .sum();
+        System.out.printf("매번 변환 : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        DtoCache<Board, byte[]> responses = new DtoCache<>(2_000, CopyEx15::render);
+        start = System.nanoTime();
+        long cached = IntStream.of(pattern).parallel()
+                .mapToObj(i -> responses.get(boards.get(i)))
+                .mapToLong(json -> json.length)
+                .sum();
+        System.out.printf("캐시      : %,d ms, 결과 일치 = %s, %s%n", (System.nanoTime() - start) / 1_000_000, uncached == cached, responses);
+
+        // 2. 전체 게시글을 한 번씩 훑어도 인기 글은 밀려나지 않음 (빈도가 낮은 새 항목은 윈도에서 바로 버려짐)
+        boards.forEach(responses::get);
+        responses.resetStats();
+        IntStream.of(pattern).limit(100_000).forEach(i -> responses.get(boards.get(i)));
+        System.out.printf("전체 훑은 뒤 적중률 : %.1f%%%n", responses.hitRate() * 100);
+
+        // 3. 수정 후에도 올바른 값: 게시글 setter, 댓글 목록 변경, 댓글 setter 가 모두 게시글 버전을 올림
+        DtoCache<Board, DetailDto> cache = new DtoCache<>(100, DetailDto::new);
+        Board hot = boards.get(0);
+        DetailDto before = cache.get(hot);
+        hot.setTitle("수정된 제목");
+        System.out.println("제목 수정 : " + before.getTitle() + " -> " + cache.get(hot).getTitle());
+        hot.getReplies().add(0, new Reply(-1, "새 댓글"));
+        System.out.println("댓글 추가 : " + cache.get(hot).getComments());
+        hot.getReplies().get(1).setComment("수정된 댓글");
+        System.out.println("댓글 수정 : " + cache.get(hot).getComments());
+        hot.removeReply(hot.getReplies().get(0));
+        System.out.println("댓글 삭제 : " + cache.get(hot).getComments());
+    }
+
+    private static byte[] render(Board board) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        JsonWriter json = new JsonWriter(out);
+        DtoJson.write(json, new DetailDto(board));
+        json.flush();
+        return out.toByteArray();
+    }
+}
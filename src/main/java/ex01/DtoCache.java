@@ -0,0 +1,400 @@
+package ex01;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 엔티티 → DTO 변환 결과를 엔티티 id 와 버전으로 캐시합니다.
+ *
+ * <pre>{@code
+ * DtoCache<Board, DetailDto> details = new DtoCache<>(10_000, DetailDto::new);
+ * DetailDto dto = details.get(board); // 같은 게시글 인스턴스의 버전이 그대로면 캐시된 DTO
+ * }</pre>
+ *
+ * <ul>
+ *     <li>무효화: 캐시된 항목은 변환할 때의 엔티티 인스턴스와 버전({@link Versioned})을 기억합니다.
+ *         setter 로 값을 바꾸면 버전이 올라가므로 다음 조회는 새로 변환합니다. 같은 id 라도 다른 인스턴스면 새로 변환합니다.</li>
+ *     <li>읽기: 적중하면 {@link ConcurrentHashMap#get}과 버전 비교만 하고 잠그지 않습니다.
+ *         접근 기록은 크기가 정해진 버퍼에 남기고, 버퍼가 차면 잠금을 얻은 스레드가 한꺼번에 반영합니다. (버퍼가 넘치면 일부 기록은 버림)</li>
+ *     <li>제거: W-TinyLFU. 새 항목은 작은 윈도(전체의 1%) LRU 에 들어가고, 윈도에서 밀려나면 주 영역의 가장 오래된 항목과
+ *         최근 접근 빈도(4비트 count-min sketch)를 비교해 더 자주 쓰인 쪽을 남깁니다. 주 영역은 수습(probation)/보호(protected) 두 LRU 로 나뉘어,
+ *         한 번 더 접근된 항목만 보호 영역으로 올라갑니다. 그래서 한 번 훑고 지나가는 조회(전체 목록 내보내기 등)가 자주 쓰는 항목을 밀어내지 않습니다.</li>
+ *     <li>통계: 적중/실패/제거 수. ({@link #hits()}, {@link #misses()}, {@link #evictions()})</li>
+ * </ul>
+ * 캐시된 DTO 는 여러 호출자가 함께 쓰므로 수정하지 말아야 합니다. converter 는 여러 스레드에서 동시에 호출될 수 있습니다.
+ *
+ * @param <E> 엔티티 타입
+ * @param <D> DTO 타입
+ */
+public final class DtoCache<E extends Identifiable & Versioned, D> {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = -1;
+
+    private static final int READ_BUFFER_SIZE = 256;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    /** 이 수만큼 읽을 때마다 버퍼 비우기를 시도합니다. */
+    private static final int DRAIN_INTERVAL = 64;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final Function<? super E, ? extends D> converter;
+
+    private final ConcurrentHashMap<Integer, Node<E, D>> map;
+    private final AtomicReferenceArray<Node<E, D>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicInteger readCount = new AtomicInteger();
+
+    // 아래 필드는 lock 을 잡은 스레드만 사용합니다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private int drainedCount;
+    private final AccessOrder<E, D> window = new AccessOrder<>();
+    private final AccessOrder<E, D> probation = new AccessOrder<>();
+    private final AccessOrder<E, D> protectedSegment = new AccessOrder<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize 최대 보관 개수
+     * @param converter 엔티티 → DTO 변환 함수 (복사 생성자, 생성된 매퍼 등)
+     */
+    public DtoCache(int maximumSize, Function<? super E, ? extends D> converter) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+        this.converter = converter;
+        this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * entity 의 DTO 를 돌려줍니다. 같은 인스턴스, 같은 버전으로 변환한 결과가 있으면 그것을, 없으면 변환해 넣습니다.
+     * @throws NullPointerException entity 나 id 가 null 인 경우
+     */
+    public D get(E entity) {
+        int id = entity.getId();
+        Node<E, D> node = map.get(id);
+        // 버전을 필드보다 먼저 읽습니다. 변환 중에 setter 가 호출되면 낮은 버전으로 저장되어 다음 조회에서 다시 변환됩니다.
+        int version = entity.getVersion();
+        if (node != null && node.source == entity && node.version == version) {
+            hits.increment();
+            recordRead(node);
+            return node.value;
+        }
+        misses.increment();
+        D value = converter.apply(entity);
+        lock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(id);
+            Node<E, D> current = map.get(id);
+            if (current != null && current.source == entity && current.version >= version) {
+                // 다른 스레드가 먼저 넣었습니다.
+                return current.value;
+            }
+            Node<E, D> added = new Node<>(id, entity, version, value);
+            if (current != null) {
+                unlink(current);
+            }
+            map.put(id, added);
+            added.queue = WINDOW;
+            window.addLast(added);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * id 의 항목을 지웁니다. (엔티티가 삭제된 경우 등)
+     */
+    public void invalidate(int id) {
+        lock.lock();
+        try {
+            Node<E, D> node = map.remove(id);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 캐시에서 찾은 비율 (0.0 ~ 1.0)
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * 통계를 0 으로 되돌립니다. 캐시의 내용은 그대로 둡니다.
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DtoCache{maximumSize=%,d, size=%,d, hits=%,d, misses=%,d, evictions=%,d, hitRate=%.1f%%}",
+                maximumSize, size(), hits(), misses(), evictions(), hitRate() * 100);
+    }
+
+    /**
+     * 접근 기록을 버퍼에 남깁니다. 잠그지 않으며, 아직 반영되지 않은 기록 위에 덮어쓸 수 있습니다.
+     */
+    private void recordRead(Node<E, D> node) {
+        int count = readCount.getAndIncrement();
+        readBuffer.lazySet(count & READ_BUFFER_MASK, node);
+        if ((count & (DRAIN_INTERVAL - 1)) == DRAIN_INTERVAL - 1 && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 지난번 이후 기록된 칸만 비웁니다. (버퍼 크기보다 많이 기록되었으면 최근 READ_BUFFER_SIZE 개)
+     */
+    private void drainReadBuffer() {
+        int end = readCount.get();
+        int pending = end - drainedCount;
+        if (pending < 0 || pending > READ_BUFFER_SIZE) {
+            pending = READ_BUFFER_SIZE;
+        }
+        for (int i = end - pending; i != end; i++) {
+            Node<E, D> node = readBuffer.getAndSet(i & READ_BUFFER_MASK, null);
+            if (node != null) {
+                onAccess(node);
+            }
+        }
+        drainedCount = end;
+    }
+
+    /**
+     * 접근된 항목의 빈도를 올리고 LRU 순서를 갱신합니다. 수습 영역의 항목은 보호 영역으로 올립니다.
+     */
+    private void onAccess(Node<E, D> node) {
+        if (node.queue == REMOVED) {
+            return;
+        }
+        sketch.increment(node.id);
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROTECTED -> protectedSegment.moveToLast(node);
+            default -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedSegment.addLast(node);
+                if (protectedSegment.size > protectedMaximum) {
+                    Node<E, D> demoted = protectedSegment.first();
+                    protectedSegment.remove(demoted);
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+        }
+    }
+
+    /**
+     * 윈도에서 넘친 항목을 수습 영역으로 보내고, 전체가 maximumSize 를 넘으면 수습 영역의 가장 오래된 항목과 빈도를 비교해 하나를 버립니다.
+     */
+    private void evict() {
+        while (window.size > windowMaximum) {
+            Node<E, D> candidate = window.first();
+            window.remove(candidate);
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            while (window.size + probation.size + protectedSegment.size > maximumSize) {
+                Node<E, D> victim = probation.first() != null ? probation.first() : protectedSegment.first();
+                if (victim == candidate || candidate.queue == REMOVED) {
+                    remove(victim);
+                } else {
+                    remove(sketch.frequency(candidate.id) > sketch.frequency(victim.id) ? victim : candidate);
+                }
+            }
+        }
+    }
+
+    private void remove(Node<E, D> node) {
+        map.remove(node.id, node);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(Node<E, D> node) {
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedSegment.remove(node);
+            default -> {
+                return;
+            }
+        }
+        node.queue = REMOVED;
+    }
+
+    private static final class Node<E, D> {
+        final int id;
+        final E source;
+        final int version;
+        final D value;
+        int queue;
+        Node<E, D> previous;
+        Node<E, D> next;
+
+        Node(int id, E source, int version, D value) {
+            this.id = id;
+            this.source = source;
+            this.version = version;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Node 에 링크를 두는 이중 연결 목록. 앞이 가장 오래전에 접근된 항목입니다.
+     */
+    private static final class AccessOrder<E, D> {
+        private Node<E, D> head;
+        private Node<E, D> tail;
+        int size;
+
+        Node<E, D> first() {
+            return head;
+        }
+
+        void addLast(Node<E, D> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(Node<E, D> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToLast(Node<E, D> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * 4비트 카운터의 count-min sketch. id 마다 네 개의 카운터를 올리고 그중 최솟값을 빈도로 씁니다.
+     * 올린 횟수가 표 크기의 10배가 되면 모든 카운터를 절반으로 줄여(aging) 예전 인기보다 최근 인기를 반영합니다.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long HALF_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            table = new long[length];
+            mask = length - 1;
+            sampleSize = 10 * length;
+        }
+
+        int frequency(int id) {
+            int hash = spread(id);
+            int min = 15;
+            for (int i = 0; i < 4; i++) {
+                min = Math.min(min, (int) (table[index(hash, i)] >>> offset(hash, i)) & 15);
+            }
+            return min;
+        }
+
+        void increment(int id) {
+            int hash = spread(id);
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = index(hash, i);
+                int offset = offset(hash, i);
+                if (((table[index] >>> offset) & 15) != 15) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & HALF_MASK;
+                }
+                additions >>>= 1;
+            }
+        }
+
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & mask;
+        }
+
+        /** long 안의 16개 카운터 중 하나 (비트 위치) */
+        private static int offset(int hash, int i) {
+            return ((hash >>> (i << 3)) & 15) << 2;
+        }
+
+        private static int spread(int id) {
+            int h = id * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
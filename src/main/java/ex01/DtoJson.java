@@ -0,0 +1,59 @@
+package ex01;
+
+import ex05.JsonWriter;
+
+/**
+ * ex01 DTO 들의 JSON 직렬화.
+ * 필드 이름은 클래스 로딩 시 한 번만 인코딩하고, 값은 JsonWriter 버퍼에 바로 기록하므로 객체마다 중간 문자열이 생기지 않습니다.
+ *
+ * <pre>
+ * JsonWriter json = new JsonWriter(out);
+ * json.array(dtos, DtoJson::write).flush();
+ * </pre>
+ */
+final class DtoJson {
+    private static final byte[] ID = JsonWriter.name("id");
+    private static final byte[] USER_NAME = JsonWriter.name("userName");
+    private static final byte[] EMAIL = JsonWriter.name("email");
+    private static final byte[] BOARD_ID = JsonWriter.name("boardId");
+    private static final byte[] TITLE = JsonWriter.name("title");
+    private static final byte[] CONTENT = JsonWriter.name("content");
+    private static final byte[] COMMENTS = JsonWriter.name("comments");
+
+    private DtoJson() {
+    }
+
+    static void write(JsonWriter json, UserDto dto) {
+        writeUser(json, dto.getId(), dto.getUserName(), dto.getEmail());
+    }
+
+    static void write(JsonWriter json, UserDto2 dto) {
+        writeUser(json, dto.getId(), dto.getUserName(), dto.getEmail());
+    }
+
+    static void write(JsonWriter json, UserDto3 dto) {
+        writeUser(json, dto.getId(), dto.getUserName(), dto.getEmail());
+    }
+
+    static void write(JsonWriter json, DetailDto dto) {
+        json.beginObject()
+                .field(BOARD_ID, dto.getBoardId())
+                .field(TITLE, dto.getTitle())
+                .field(CONTENT, dto.getContent())
+                .name(COMMENTS);
+        if (dto.getComments() == null) {
+            json.nullValue();
+        } else {
+            json.array(dto.getComments(), JsonWriter::value);
+        }
+        json.endObject();
+    }
+
+    private static void writeUser(JsonWriter json, Integer id, String userName, String email) {
+        json.beginObject()
+                .field(ID, id)
+                .field(USER_NAME, userName)
+                .field(EMAIL, email)
+                .endObject();
+    }
+}
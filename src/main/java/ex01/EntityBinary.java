@@ -0,0 +1,182 @@
+package ex01;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ex01 엔티티(User, Board, Reply)의 바이너리 인코딩.
+ *
+ * <pre>
+ * User  : id(nullable varint) name(str) email(str) password(str)
+ * Reply : id(nullable varint) comment(str)
+ * Board : id(nullable varint) title(str) content(str) replyCount(varint) Reply*
+ * </pre>
+ * toString() 이나 자바 직렬화보다 훨씬 짧고, 객체를 만들지 않고도 {@link UserView}, {@link BoardView}로 필드를 읽을 수 있습니다.
+ */
+final class EntityBinary {
+
+    private EntityBinary() {
+    }
+
+    // ===== User =====
+
+    static void write(BinaryWriter out, User user) {
+        out.writeNullableInt(user.getId())
+                .writeString(user.getName())
+                .writeString(user.getEmail())
+                .writeString(user.getPassword());
+    }
+
+    static User readUser(BinaryReader in) {
+        User user = new User();
+        user.setId(in.readNullableInt());
+        user.setName(in.readString());
+        user.setEmail(in.readString());
+        user.setPassword(in.readString());
+        return user;
+    }
+
+    // ===== Reply / Board =====
+
+    static void write(BinaryWriter out, Reply reply) {
+        out.writeNullableInt(reply.getId()).writeString(reply.getComment());
+    }
+
+    static Reply readReply(BinaryReader in) {
+        return new Reply(in.readNullableInt(), in.readString());
+    }
+
+    static void write(BinaryWriter out, Board board) {
+        out.writeNullableInt(board.getId())
+                .writeString(board.getTitle())
+                .writeString(board.getContent())
+                .writeVarInt(board.getReplies().size());
+        for (Reply reply : board.getReplies()) {
+            write(out, reply);
+        }
+    }
+
+    static Board readBoard(BinaryReader in) {
+        Board board = new Board();
+        board.setId(in.readNullableInt());
+        board.setTitle(in.readString());
+        board.setContent(in.readString());
+        int replyCount = in.readVarInt();
+        List<Reply> replies = new ArrayList<>(replyCount);
+        for (int i = 0; i < replyCount; i++) {
+            replies.add(readReply(in));
+        }
+        board.setReplies(replies);
+        return board;
+    }
+
+    /**
+     * 버퍼 위의 User 레코드를 객체로 만들지 않고 읽는 플라이웨이트 뷰.
+     * 필드를 읽을 때 앞쪽 필드는 디코딩 없이 건너뜁니다. {@link #next()}로 다음 레코드로 이동할 수 있습니다.
+     */
+    static final class UserView {
+        private final BinaryReader reader;
+        private int start;
+
+        UserView(ByteBuffer buffer) {
+            this.reader = new BinaryReader(buffer);
+            this.start = reader.position();
+        }
+
+        UserView moveTo(int offset) {
+            start = offset;
+            return this;
+        }
+
+        Integer id() {
+            return reader.position(start).readNullableInt();
+        }
+
+        String name() {
+            reader.position(start).readNullableInt();
+            return reader.readString();
+        }
+
+        String email() {
+            reader.position(start).readNullableInt();
+            return reader.skipString().readString();
+        }
+
+        /**
+         * 이메일이 주어진 UTF-8 바이트와 같은지 String 을 만들지 않고 비교합니다.
+         */
+        boolean emailEquals(byte[] utf8) {
+            reader.position(start).readNullableInt();
+            return reader.skipString().stringEquals(utf8);
+        }
+
+        /**
+         * 다음 레코드로 이동합니다. 버퍼 끝이면 false.
+         */
+        boolean next() {
+            reader.position(start).readNullableInt();
+            start = reader.skipString().skipString().skipString().position();
+            return reader.hasRemaining();
+        }
+
+        UserDto3 toUserDto3() {
+            reader.position(start);
+            Integer id = reader.readNullableInt();
+            String name = reader.readString();
+            return new UserDto3(id, name, reader.readString());
+        }
+    }
+
+    /**
+     * 버퍼 위의 Board 레코드를 객체로 만들지 않고 읽는 플라이웨이트 뷰.
+     */
+    static final class BoardView {
+        private final BinaryReader reader;
+        private int start;
+
+        BoardView(ByteBuffer buffer) {
+            this.reader = new BinaryReader(buffer);
+            this.start = reader.position();
+        }
+
+        BoardView moveTo(int offset) {
+            start = offset;
+            return this;
+        }
+
+        Integer id() {
+            return reader.position(start).readNullableInt();
+        }
+
+        String title() {
+            reader.position(start).readNullableInt();
+            return reader.readString();
+        }
+
+        int replyCount() {
+            reader.position(start).readNullableInt();
+            return reader.skipString().skipString().readVarInt();
+        }
+
+        /**
+         * 앞에서부터 limit 개의 댓글 내용만 디코딩하여 DetailDto 를 만듭니다. (Reply 객체 생성 없음)
+         */
+        DetailDto toDetailDto(int limit) {
+            reader.position(start);
+            Integer id = reader.readNullableInt();
+            String title = reader.readString();
+            String content = reader.readString();
+            int count = Math.min(limit, reader.readVarInt());
+            List<String> comments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                reader.readNullableInt();
+                comments.add(reader.readString());
+            }
+            return new DetailDto(id, title, content, comments);
+        }
+    }
+}
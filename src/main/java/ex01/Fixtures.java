@@ -0,0 +1,96 @@
+package ex01;
+
+import ex03.FakeData;
+import ex03.FixtureGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * ex01 모델(User, 게시글 + 댓글)의 대량 테스트 데이터. 같은 시드면 항상 같은 데이터가 만들어집니다.
+ *
+ * <pre>{@code
+ * List<User> users = Fixtures.users(42).toList(1_000_000);
+ * Fixtures.users(42).writeTo(path, 100_000_000L, Fixtures.USER_CSV_HEADER, Fixtures::userCsv);
+ * }</pre>
+ */
+final class Fixtures {
+
+    static final String USER_CSV_HEADER = "id,name,email,password";
+    static final String BOARD_CSV_HEADER = "id,title,content,replyCount";
+
+    private static final String[] TITLE_WORDS = {
+            "질문", "공지", "후기", "자바", "스트림", "람다", "정리", "오류", "해결", "추천", "성능", "테스트", "빌드", "배포", "리뷰"
+    };
+    private static final String[] CONTENT_WORDS = {
+            "오늘", "코드를", "작성했는데", "결과가", "이상합니다", "도움이", "필요합니다", "감사합니다", "확인", "부탁드립니다",
+            "예제를", "실행하면", "빠르게", "동작합니다", "메모리", "사용량이", "줄었습니다", "다음", "단계는", "무엇인가요"
+    };
+    private static final String[] COMMENT_WORDS = {
+            "좋은", "글", "감사합니다", "저도", "같은", "문제가", "있었어요", "해결했습니다", "참고할게요", "질문이", "있습니다", "최고"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * id 가 1 부터 차례로 붙는 사용자. 비밀번호는 10명 중 1명꼴로 null 입니다. (CopyEx 예제의 미설정 값)
+     */
+    static FixtureGenerator<User> users(long seed) {
+        return new FixtureGenerator<>(seed, Fixtures::user);
+    }
+
+    /**
+     * id 가 1 부터 차례로 붙는 게시글. 게시글마다 댓글이 0 ~ maxReplies 개 달리고,
+     * 댓글 id 는 게시글 번호로 정해지는 구간 안에서 붙으므로 전체에서 겹치지 않습니다.
+     */
+    static FixtureGenerator<Board> boards(long seed, int maxReplies) {
+        return new FixtureGenerator<>(seed, (index, random) -> board(index, random, maxReplies));
+    }
+
+    /**
+     * {@link #USER_CSV_HEADER} 형식의 한 줄. (값에 쉼표가 없으므로 따옴표 없이 씁니다)
+     */
+    static void userCsv(User user, StringBuilder line) {
+        line.append(user.getId()).append(',')
+                .append(user.getName()).append(',')
+                .append(user.getEmail()).append(',')
+                .append(user.getPassword() == null ? "" : user.getPassword());
+    }
+
+    /**
+     * {@link #BOARD_CSV_HEADER} 형식의 한 줄. 댓글은 개수만 씁니다.
+     */
+    static void boardCsv(Board board, StringBuilder line) {
+        line.append(board.getId()).append(',')
+                .append(board.getTitle()).append(',')
+                .append(board.getContent()).append(',')
+                .append(board.getReplies().size());
+    }
+
+    private static User user(long index, SplittableRandom random) {
+        int id = Math.toIntExact(index + 1);
+        User user = new User();
+        user.setId(id);
+        user.setName(FakeData.koreanName(random));
+        user.setEmail(FakeData.email(random, id));
+        user.setPassword(random.nextInt(10) == 0 ? null : FakeData.alphanumeric(random, 12));
+        return user;
+    }
+
+    private static Board board(long index, SplittableRandom random, int maxReplies) {
+        Board board = new Board();
+        board.setId(Math.toIntExact(index + 1));
+        board.setTitle(FakeData.sentence(random, TITLE_WORDS, 1, 4));
+        board.setContent(FakeData.sentence(random, CONTENT_WORDS, 5, 20));
+        int replyCount = random.nextInt(maxReplies + 1);
+        List<Reply> replies = new ArrayList<>(replyCount);
+        int firstReplyId = Math.toIntExact(index * maxReplies + 1);
+        for (int i = 0; i < replyCount; i++) {
+            replies.add(new Reply(firstReplyId + i, FakeData.sentence(random, COMMENT_WORDS, 1, 6)));
+        }
+        board.setReplies(replies);
+        return board;
+    }
+}
@@ -0,0 +1,12 @@
+package ex01;
+
+/**
+ * id 로 구별되는 엔티티. (User, Board, Reply)
+ *
+ * <p>Lombok {@code @Data}의 equals/hashCode 는 모든 필드를 비교하므로, setter 로 값을 바꾸면 해시 값도 바뀌고
+ * 문자열 필드가 많을수록 해시 계산이 비쌉니다. id 만으로 같은 엔티티인지 판단하려면 {@link ById}를 사용합니다.
+ * getId() 는 Lombok 이 만든 getter 가 그대로 구현합니다.</p>
+ */
+public interface Identifiable {
+    Integer getId();
+}
@@ -0,0 +1,372 @@
+package ex01;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * User, Board, Reply 를 고정 길이 레코드로 파일에 저장하고 메모리 매핑(mmap)으로 읽는 저장소.
+ *
+ * <p>파일을 {@link MappedByteBuffer}로 매핑하므로 데이터는 자바 힙이 아닌 OS 페이지 캐시에 있습니다.
+ * 재시작 시 객체를 다시 만들 필요 없이 파일을 매핑하기만 하면 바로 조회할 수 있고,
+ * 힙보다 큰 데이터도 GC 부담 없이 다룰 수 있습니다. 숫자 필드는 매핑된 버퍼에서 바로 읽고,
+ * 문자열은 getter 를 호출할 때만 UTF-8 바이트에서 String 으로 만듭니다.</p>
+ *
+ * <pre>
+ * [헤더 64B]
+ * [User 레코드 28B x n]   id(4) nameOff(4) nameLen(4) emailOff(4) emailLen(4) passwordOff(4) passwordLen(4)
+ * [Board 레코드 28B x n]  id(4) titleOff(4) titleLen(4) contentOff(4) contentLen(4) firstReply(4) replyCount(4)
+ * [Reply 레코드 12B x n]  id(4) commentOff(4) commentLen(4)
+ * [User id 색인 8B x n]   id(4) recordIndex(4)  (id 오름차순)
+ * [Board id 색인 8B x n]  id(4) recordIndex(4)  (id 오름차순)
+ * [문자열 영역]           UTF-8 바이트 (len == -1 이면 null)
+ * </pre>
+ *
+ * <p>각 영역은 따로 매핑되며 영역 하나는 2GB 를 넘을 수 없습니다. (MappedByteBuffer 의 한계)
+ * 레코드 i 의 위치는 {@code 영역 시작 + i * 레코드 크기}로 계산되므로 별도의 위치 색인이 필요 없고,
+ * id 로 찾을 때는 id 색인 영역을 이진 탐색합니다.</p>
+ *
+ * <p>열린 저장소는 읽기 전용이며 여러 스레드에서 동시에 조회해도 안전합니다. (절대 위치 읽기만 사용)</p>
+ */
+final class MappedStore implements Closeable {
+    private static final int MAGIC = 0x55425253; // "UBRS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int USER_RECORD = 28;
+    private static final int BOARD_RECORD = 28;
+    private static final int REPLY_RECORD = 12;
+    private static final int INDEX_ENTRY = 8;
+
+    private final FileChannel channel;
+    private final int userCount;
+    private final int boardCount;
+    private final int replyCount;
+    private final ByteBuffer users;
+    private final ByteBuffer boards;
+    private final ByteBuffer replies;
+    private final ByteBuffer userIndex;
+    private final ByteBuffer boardIndex;
+    private final ByteBuffer strings;
+
+    private MappedStore(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = map(channel, FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("not a MappedStore file (version " + FORMAT_VERSION + ")");
+        }
+        userCount = header.getInt(8);
+        boardCount = header.getInt(12);
+        replyCount = header.getInt(16);
+        long stringsLength = header.getLong(20);
+
+        long position = HEADER_SIZE;
+        users = map(channel, FileChannel.MapMode.READ_ONLY, position, (long) userCount * USER_RECORD);
+        position += (long) userCount * USER_RECORD;
+        boards = map(channel, FileChannel.MapMode.READ_ONLY, position, (long) boardCount * BOARD_RECORD);
+        position += (long) boardCount * BOARD_RECORD;
+        replies = map(channel, FileChannel.MapMode.READ_ONLY, position, (long) replyCount * REPLY_RECORD);
+        position += (long) replyCount * REPLY_RECORD;
+        userIndex = map(channel, FileChannel.MapMode.READ_ONLY, position, (long) userCount * INDEX_ENTRY);
+        position += (long) userCount * INDEX_ENTRY;
+        boardIndex = map(channel, FileChannel.MapMode.READ_ONLY, position, (long) boardCount * INDEX_ENTRY);
+        position += (long) boardCount * INDEX_ENTRY;
+        strings = map(channel, FileChannel.MapMode.READ_ONLY, position, stringsLength);
+    }
+
+    /**
+     * 저장소 파일을 엽니다. 파일 내용은 매핑만 하고 읽어 들이지 않습니다.
+     */
+    static MappedStore open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedStore(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * User, Board(댓글 포함) 목록을 저장소 파일로 기록합니다. 기존 파일은 덮어씁니다.
+     * id 는 null 일 수 없습니다.
+     */
+    static void write(Path path, Collection<User> userList, Collection<Board> boardList) throws IOException {
+        int replyTotal = 0;
+        long stringsLength = 0;
+        for (User user : userList) {
+            stringsLength += utf8Length(user.getName()) + utf8Length(user.getEmail()) + utf8Length(user.getPassword());
+        }
+        for (Board board : boardList) {
+            stringsLength += utf8Length(board.getTitle()) + utf8Length(board.getContent());
+            for (Reply reply : board.getReplies()) {
+                stringsLength += utf8Length(reply.getComment());
+            }
+            replyTotal += board.getReplies().size();
+        }
+        if (stringsLength > Integer.MAX_VALUE) {
+            throw new IOException("string section exceeds 2GB: " + stringsLength);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = HEADER_SIZE;
+            ByteBuffer userOut = map(channel, FileChannel.MapMode.READ_WRITE, position, (long) userList.size() * USER_RECORD);
+            position += (long) userList.size() * USER_RECORD;
+            ByteBuffer boardOut = map(channel, FileChannel.MapMode.READ_WRITE, position, (long) boardList.size() * BOARD_RECORD);
+            position += (long) boardList.size() * BOARD_RECORD;
+            ByteBuffer replyOut = map(channel, FileChannel.MapMode.READ_WRITE, position, (long) replyTotal * REPLY_RECORD);
+            position += (long) replyTotal * REPLY_RECORD;
+            ByteBuffer userIndexOut = map(channel, FileChannel.MapMode.READ_WRITE, position, (long) userList.size() * INDEX_ENTRY);
+            position += (long) userList.size() * INDEX_ENTRY;
+            ByteBuffer boardIndexOut = map(channel, FileChannel.MapMode.READ_WRITE, position, (long) boardList.size() * INDEX_ENTRY);
+            position += (long) boardList.size() * INDEX_ENTRY;
+            ByteBuffer stringOut = map(channel, FileChannel.MapMode.READ_WRITE, position, stringsLength);
+
+            List<int[]> userIds = new ArrayList<>(userList.size());
+            for (User user : userList) {
+                int id = Objects.requireNonNull(user.getId(), "user id");
+                userIds.add(new int[]{id, userIds.size()});
+                userOut.putInt(id);
+                putString(userOut, stringOut, user.getName());
+                putString(userOut, stringOut, user.getEmail());
+                putString(userOut, stringOut, user.getPassword());
+            }
+            List<int[]> boardIds = new ArrayList<>(boardList.size());
+            int firstReply = 0;
+            for (Board board : boardList) {
+                int id = Objects.requireNonNull(board.getId(), "board id");
+                boardIds.add(new int[]{id, boardIds.size()});
+                boardOut.putInt(id);
+                putString(boardOut, stringOut, board.getTitle());
+                putString(boardOut, stringOut, board.getContent());
+                boardOut.putInt(firstReply);
+                boardOut.putInt(board.getReplies().size());
+                for (Reply reply : board.getReplies()) {
+                    replyOut.putInt(Objects.requireNonNull(reply.getId(), "reply id"));
+                    putString(replyOut, stringOut, reply.getComment());
+                }
+                firstReply += board.getReplies().size();
+            }
+            putIndex(userIndexOut, userIds);
+            putIndex(boardIndexOut, boardIds);
+
+            // 헤더는 마지막에 기록하여, 중간에 실패한 파일은 열리지 않도록 합니다.
+            ByteBuffer header = map(channel, FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION)
+                    .putInt(userList.size()).putInt(boardList.size()).putInt(replyTotal)
+                    .putLong(stringsLength);
+            for (ByteBuffer buffer : List.of(userOut, boardOut, replyOut, userIndexOut, boardIndexOut, stringOut, header)) {
+                ((MappedByteBuffer) buffer).force();
+            }
+        }
+    }
+
+    // ===== User =====
+
+    int userCount() {
+        return userCount;
+    }
+
+    int userId(int index) {
+        return users.getInt(userRecord(index));
+    }
+
+    String userName(int index) {
+        return string(users, userRecord(index) + 4);
+    }
+
+    String userEmail(int index) {
+        return string(users, userRecord(index) + 12);
+    }
+
+    /**
+     * id 로 User 레코드 번호를 찾습니다. 없으면 -1.
+     */
+    int findUser(int id) {
+        return find(userIndex, userCount, id);
+    }
+
+    UserDto3 toUserDto3(int index) {
+        int record = userRecord(index);
+        return new UserDto3(users.getInt(record), string(users, record + 4), string(users, record + 12));
+    }
+
+    User toUser(int index) {
+        int record = userRecord(index);
+        User user = new User();
+        user.setId(users.getInt(record));
+        user.setName(string(users, record + 4));
+        user.setEmail(string(users, record + 12));
+        user.setPassword(string(users, record + 20));
+        return user;
+    }
+
+    // ===== Board / Reply =====
+
+    int boardCount() {
+        return boardCount;
+    }
+
+    int boardId(int index) {
+        return boards.getInt(boardRecord(index));
+    }
+
+    int replyCount(int boardIndex) {
+        return boards.getInt(boardRecord(boardIndex) + 24);
+    }
+
+    /**
+     * id 로 Board 레코드 번호를 찾습니다. 없으면 -1.
+     */
+    int findBoard(int id) {
+        return find(boardIndex, boardCount, id);
+    }
+
+    /**
+     * 매핑된 레코드로부터 DetailDto 를 만듭니다.
+     * 댓글 내용은 복사하지 않고, 매핑된 Reply 레코드를 get() 시점에 읽는 뷰로 제공합니다.
+     * @param index Board 레코드 번호
+     * @param offset 건너뛸 댓글 수
+     * @param limit 보여줄 최대 댓글 수
+     */
+    DetailDto toDetailDto(int index, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset=" + offset + ", limit=" + limit);
+        }
+        int record = boardRecord(index);
+        int first = boards.getInt(record + 20);
+        int count = boards.getInt(record + 24);
+        int from = Math.min(count, offset);
+        int size = (int) Math.min(count - from, (long) limit);
+        return new DetailDto(boards.getInt(record), string(boards, record + 4), string(boards, record + 12),
+                new Comments(first + from, size));
+    }
+
+    /**
+     * 파일 채널을 닫습니다. 이미 만들어진 매핑은 GC 가 회수할 때 해제됩니다.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int userRecord(int index) {
+        return Objects.checkIndex(index, userCount) * USER_RECORD;
+    }
+
+    private int boardRecord(int index) {
+        return Objects.checkIndex(index, boardCount) * BOARD_RECORD;
+    }
+
+    private String string(ByteBuffer records, int refPosition) {
+        int offset = records.getInt(refPosition);
+        int length = records.getInt(refPosition + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        strings.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int find(ByteBuffer index, int count, int id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = index.getInt(mid * INDEX_ENTRY);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return index.getInt(mid * INDEX_ENTRY + 4);
+            }
+        }
+        return -1;
+    }
+
+    private static void putString(ByteBuffer records, ByteBuffer strings, String value) {
+        if (value == null) {
+            records.putInt(0).putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        records.putInt(strings.position()).putInt(bytes.length);
+        strings.put(bytes);
+    }
+
+    private static void putIndex(ByteBuffer out, List<int[]> entries) {
+        entries.sort(Comparator.comparingInt(entry -> entry[0]));
+        for (int[] entry : entries) {
+            out.putInt(entry[0]).putInt(entry[1]);
+        }
+    }
+
+    private static long utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1; // 짝이 없는 서로게이트는 getBytes()가 '?' 한 바이트로 바꿉니다.
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static ByteBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("section exceeds 2GB: " + size);
+        }
+        return channel.map(mode, position, size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * 매핑된 Reply 레코드 구간의 댓글 내용 뷰.
+     */
+    private final class Comments extends AbstractList<String> implements RandomAccess {
+        private final int firstReply;
+        private final int size;
+
+        Comments(int firstReply, int size) {
+            this.firstReply = firstReply;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            Objects.checkIndex(index, size);
+            return string(replies, (firstReply + index) * REPLY_RECORD + 4);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
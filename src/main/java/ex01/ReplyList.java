@@ -0,0 +1,106 @@
+package ex01;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@link Board#getReplies()}가 돌려주는 댓글 목록. 목록을 바꾸는 모든 연산(add, set, remove, clear, iterator/subList 를 통한 변경)이
+ * 게시글의 버전을 올리므로, 호출자가 {@link Board#touch()}를 잊어도 {@link DtoCache}가 이전 DTO 를 돌려주지 않습니다.
+ *
+ * <p>목록에 들어간 댓글은 게시글에 연결되어, {@link Reply#setComment(String)} 등 댓글의 setter 도 게시글의 버전을 올립니다.
+ * 댓글은 마지막으로 추가된 게시글 하나에만 연결되고, 그 게시글에서 빠지면 연결이 끊깁니다.</p>
+ */
+final class ReplyList extends AbstractList<Reply> implements RandomAccess, Serializable {
+    private final Board board;
+    private final ArrayList<Reply> replies = new ArrayList<>();
+
+    ReplyList(Board board) {
+        this.board = board;
+    }
+
+    @Override
+    public Reply get(int index) {
+        return replies.get(index);
+    }
+
+    @Override
+    public int size() {
+        return replies.size();
+    }
+
+    @Override
+    public Reply set(int index, Reply reply) {
+        Reply previous = replies.set(index, reply);
+        Reply.detach(previous, board);
+        Reply.attach(reply, board);
+        board.touch();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Reply reply) {
+        replies.add(index, reply);
+        Reply.attach(reply, board);
+        modCount++;
+        board.touch();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Reply> added) {
+        return addAll(replies.size(), added);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Reply> added) {
+        if (!replies.addAll(index, added)) {
+            return false;
+        }
+        for (Reply reply : added) {
+            Reply.attach(reply, board);
+        }
+        modCount++;
+        board.touch(); // 여러 개를 한 번에 추가해도 버전은 한 번만 올립니다.
+        return true;
+    }
+
+    @Override
+    public Reply remove(int index) {
+        Reply removed = replies.remove(index);
+        Reply.detach(removed, board);
+        modCount++;
+        board.touch();
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<Reply> range = replies.subList(fromIndex, toIndex);
+        for (Reply reply : range) {
+            Reply.detach(reply, board);
+        }
+        range.clear();
+        modCount++;
+        board.touch();
+    }
+
+    /**
+     * 댓글의 게시글 연결은 직렬화되지 않으므로(transient) 역직렬화한 뒤 다시 연결합니다.
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        for (Reply reply : replies) {
+            Reply.attach(reply, board);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package ex01;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 게시글 id 별로 댓글을 모아 두는 저장소.
+ *
+ * <p>게시글 id(int)를 {@code Integer}로 박싱하지 않도록 HashMap 대신 int 배열 기반의 오픈 어드레싱 해시 테이블을 사용하며,
+ * 게시글마다 댓글을 등록 순서대로 배열에 담습니다. 따라서 "17번 게시글의 200~220번째 댓글" 조회는
+ * 전체 댓글을 불러와 skip/limit 하는 대신 배열의 해당 구간만 읽으며, 비용은 페이지 크기에만 비례합니다.</p>
+ *
+ * <p>ArrayList 와 마찬가지로 동기화하지 않습니다. 여러 스레드에서 쓰기가 있다면 외부에서 동기화하세요.
+ * {@link #page(int, int, int)}가 반환한 페이지는 조회 시점의 스냅샷이므로 이후 댓글이 추가되어도 바뀌지 않습니다.</p>
+ */
+class ReplyStore {
+    private static final int EMPTY = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    // 해시 테이블: boardIds[i] 게시글의 댓글은 replies[slots[i]]에 있습니다. (slots[i] == EMPTY 이면 빈 칸)
+    private int[] boardIds;
+    private int[] slots;
+
+    // 게시글별 댓글 배열과 실제 댓글 수 (slot 번호로 접근)
+    private Reply[][] replies;
+    private int[] counts;
+    private int boardCount;
+
+    ReplyStore() {
+        this(16);
+    }
+
+    ReplyStore(int expectedBoards) {
+        int capacity = Integer.highestOneBit(Math.max(2, (int) (expectedBoards / LOAD_FACTOR)) - 1) << 1;
+        boardIds = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        replies = new Reply[Math.max(1, expectedBoards)][];
+        counts = new int[replies.length];
+    }
+
+    /**
+     * 게시글 목록의 댓글을 모두 등록한 저장소를 만듭니다.
+     */
+    static ReplyStore of(Collection<Board> boards) {
+        ReplyStore store = new ReplyStore(boards.size());
+        for (Board board : boards) {
+            for (Reply reply : board.getReplies()) {
+                store.add(board.getId(), reply);
+            }
+        }
+        return store;
+    }
+
+    /**
+     * 게시글에 댓글을 추가합니다. 댓글은 추가된 순서대로 유지됩니다.
+     */
+    void add(int boardId, Reply reply) {
+        int slot = slotOf(boardId, true);
+        Reply[] bucket = replies[slot];
+        int count = counts[slot];
+        if (bucket == null) {
+            bucket = replies[slot] = new Reply[4];
+        } else if (count == bucket.length) {
+            bucket = replies[slot] = Arrays.copyOf(bucket, count << 1);
+        }
+        bucket[count] = Objects.requireNonNull(reply);
+        counts[slot] = count + 1;
+    }
+
+    /**
+     * 게시글의 댓글 수. 등록되지 않은 게시글이면 0.
+     */
+    int count(int boardId) {
+        int slot = slotOf(boardId, false);
+        return slot == EMPTY ? 0 : counts[slot];
+    }
+
+    /**
+     * 게시글의 댓글 중 [offset, offset + limit) 구간을 반환합니다.
+     * 배열을 복사하지 않는 읽기 전용 뷰이며, 생성 비용은 O(1), 순회 비용은 O(페이지 크기)입니다.
+     */
+    List<Reply> page(int boardId, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset=" + offset + ", limit=" + limit);
+        }
+        int slot = slotOf(boardId, false);
+        if (slot == EMPTY || offset >= counts[slot]) {
+            return List.of();
+        }
+        int to = (int) Math.min(counts[slot], (long) offset + limit);
+        return new Page(replies[slot], offset, to - offset);
+    }
+
+    /**
+     * {@link #page(int, int, int)} 구간의 댓글 내용(String) 뷰.
+     */
+    List<String> comments(int boardId, int offset, int limit) {
+        List<Reply> page = page(boardId, offset, limit);
+        return new CommentView(page, 0, page.size());
+    }
+
+    private int slotOf(int boardId, boolean create) {
+        int mask = boardIds.length - 1;
+        for (int i = mix(boardId) & mask; ; i = (i + 1) & mask) {
+            if (slots[i] == EMPTY) {
+                if (!create) {
+                    return EMPTY;
+                }
+                return insert(i, boardId);
+            }
+            if (boardIds[i] == boardId) {
+                return slots[i];
+            }
+        }
+    }
+
+    private int insert(int index, int boardId) {
+        if (boardCount == replies.length) {
+            replies = Arrays.copyOf(replies, boardCount << 1);
+            counts = Arrays.copyOf(counts, boardCount << 1);
+        }
+        int slot = boardCount++;
+        boardIds[index] = boardId;
+        slots[index] = slot;
+        if (boardCount > boardIds.length * LOAD_FACTOR) {
+            rehash(boardIds.length << 1);
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldIds = boardIds;
+        int[] oldSlots = slots;
+        boardIds = new int[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, EMPTY);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldSlots[i] != EMPTY) {
+                int j = mix(oldIds[i]) & mask;
+                while (slots[j] != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                boardIds[j] = oldIds[i];
+                slots[j] = oldSlots[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        // 연속된 id 가 인접한 칸에 몰리지 않도록 섞습니다. (Fibonacci hashing)
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 댓글 배열의 일부 구간을 그대로 보여주는 읽기 전용 리스트.
+     */
+    private static final class Page extends AbstractList<Reply> implements RandomAccess {
+        private final Reply[] bucket;
+        private final int from;
+        private final int size;
+
+        Page(Reply[] bucket, int from, int size) {
+            this.bucket = bucket;
+            this.from = from;
+            this.size = size;
+        }
+
+        @Override
+        public Reply get(int index) {
+            Objects.checkIndex(index, size);
+            return bucket[from + index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
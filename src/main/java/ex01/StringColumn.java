@@ -0,0 +1,172 @@
+package ex01;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 문자열들을 UTF-8 바이트로 이어 붙여 저장하는 컬럼 (offset 인코딩).
+ *
+ * <p>i 번째 값은 전체 바이트 열의 {@code [offsets[i] .. offsets[i + 1])} 구간에 있습니다.
+ * String 객체마다 붙는 객체 헤더, 내부 byte[] 헤더, 참조 포인터가 없어지므로
+ * 짧은 문자열이 많을수록 메모리 절감 효과가 큽니다. null 값은 별도 비트셋으로 표시합니다.</p>
+ *
+ * <p>바이트는 하나의 배열이 아니라 1 MiB 크기의 페이지들에 나누어 담고, 위치는 long 으로 기록합니다.
+ * 배열 하나의 한계(2 GiB)를 넘어 저장할 수 있고, 늘어날 때도 전체를 복사하지 않고 페이지만 추가합니다.
+ * 값 하나가 두 페이지에 걸칠 수 있으며, 그런 값은 읽을 때만 한 번 더 복사합니다.</p>
+ */
+final class StringColumn {
+    private static final int PAGE_SHIFT = 20;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    /** JVM 이 만들 수 있는 배열 길이의 실질적인 최댓값 */
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    // 마지막 페이지만 PAGE_SIZE 보다 작을 수 있습니다. (작은 컬럼은 64바이트부터 두 배씩 늘림)
+    private byte[][] pages = {new byte[64]};
+    private int pageCount = 1;
+    private long[] offsets;
+    private final BitSet nulls = new BitSet();
+    private int size;
+
+    StringColumn(int initialCapacity) {
+        offsets = new long[Math.max(1, initialCapacity) + 1];
+    }
+
+    void add(String value) {
+        if (size + 1 == offsets.length) {
+            if (offsets.length == MAX_ARRAY_LENGTH) {
+                throw new IllegalStateException("StringColumn cannot hold more than " + (MAX_ARRAY_LENGTH - 1) + " values");
+            }
+            offsets = Arrays.copyOf(offsets, (int) Math.min(2L * offsets.length, MAX_ARRAY_LENGTH));
+        }
+        long end = offsets[size];
+        if (value == null) {
+            nulls.set(size);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            write(end, bytes);
+            end += bytes.length;
+        }
+        offsets[++size] = end;
+    }
+
+    /**
+     * i 번째 값을 String 으로 복원합니다. (호출할 때마다 새 String 을 만듭니다)
+     */
+    String get(int index) {
+        if (nulls.get(index)) {
+            return null;
+        }
+        long start = offsets[index];
+        int length = (int) (offsets[index + 1] - start);
+        if (length == 0) {
+            return "";
+        }
+        int offset = (int) (start & PAGE_MASK);
+        if (offset + (long) length <= PAGE_SIZE) {
+            return new String(pages[(int) (start >>> PAGE_SHIFT)], offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        read(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * String 을 만들지 않고 i 번째 값이 주어진 UTF-8 바이트로 끝나는지 검사합니다.
+     * 전체 스캔 필터(예: 이메일 도메인)에서 사용합니다.
+     */
+    boolean endsWith(int index, byte[] suffix) {
+        long from = offsets[index + 1] - suffix.length;
+        return !nulls.get(index) && from >= offsets[index] && regionEquals(from, suffix);
+    }
+
+    /**
+     * String 을 만들지 않고 i 번째 값이 주어진 UTF-8 바이트와 같은지 검사합니다.
+     */
+    boolean contentEquals(int index, byte[] value) {
+        return !nulls.get(index)
+                && offsets[index + 1] - offsets[index] == value.length
+                && regionEquals(offsets[index], value);
+    }
+
+    /**
+     * 배열 용량 기준의 대략적인 사용 바이트 수.
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (int i = 0; i < pageCount; i++) {
+            bytes += pages[i].length;
+        }
+        return bytes + 8L * offsets.length + nulls.size() / 8;
+    }
+
+    void trimToSize() {
+        int last = pageCount - 1;
+        pages[last] = Arrays.copyOf(pages[last], (int) (offsets[size] - ((long) last << PAGE_SHIFT)));
+        pages = Arrays.copyOf(pages, pageCount);
+        offsets = Arrays.copyOf(offsets, size + 1);
+    }
+
+    /**
+     * 전체 바이트 열의 position 위치부터 bytes 를 기록합니다. 필요하면 마지막 페이지를 늘리거나 새 페이지를 추가합니다.
+     */
+    private void write(long position, byte[] bytes) {
+        int copied = 0;
+        while (copied < bytes.length) {
+            int offset = (int) (position & PAGE_MASK);
+            byte[] page = writablePage((int) (position >>> PAGE_SHIFT), (long) offset + bytes.length - copied);
+            int n = Math.min(bytes.length - copied, PAGE_SIZE - offset);
+            System.arraycopy(bytes, copied, page, offset, n);
+            copied += n;
+            position += n;
+        }
+    }
+
+    /**
+     * index 번째 페이지를 최소 min(needed, PAGE_SIZE) 바이트 크기로 준비합니다.
+     * 새 페이지는 앞 페이지가 PAGE_SIZE 만큼 꽉 찬 뒤에만 추가되므로, 페이지 번호는 항상 {@code position >>> PAGE_SHIFT}입니다.
+     */
+    private byte[] writablePage(int index, long needed) {
+        if (index == pageCount) {
+            if (pageCount == pages.length) {
+                pages = Arrays.copyOf(pages, pageCount << 1);
+            }
+            pages[pageCount++] = new byte[PAGE_SIZE];
+        }
+        byte[] page = pages[index];
+        if (page.length < needed && page.length < PAGE_SIZE) {
+            page = Arrays.copyOf(page, (int) Math.min(PAGE_SIZE, Math.max(needed, 2L * page.length)));
+            pages[index] = page;
+        }
+        return page;
+    }
+
+    private void read(long position, byte[] target) {
+        int copied = 0;
+        while (copied < target.length) {
+            int offset = (int) (position & PAGE_MASK);
+            int n = Math.min(target.length - copied, PAGE_SIZE - offset);
+            System.arraycopy(pages[(int) (position >>> PAGE_SHIFT)], offset, target, copied, n);
+            copied += n;
+            position += n;
+        }
+    }
+
+    /**
+     * position 부터 value.length 바이트가 value 와 같은지 페이지 단위로 비교합니다.
+     */
+    private boolean regionEquals(long position, byte[] value) {
+        int compared = 0;
+        while (compared < value.length) {
+            int offset = (int) (position & PAGE_MASK);
+            int n = Math.min(value.length - compared, PAGE_SIZE - offset);
+            if (!Arrays.equals(pages[(int) (position >>> PAGE_SHIFT)], offset, offset + n, value, compared, compared + n)) {
+                return false;
+            }
+            compared += n;
+            position += n;
+        }
+        return true;
+    }
+}
@@ -1,15 +1,58 @@
 package ex01;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * 사용자 정보를 담는 데이터 모델 클래스 (DTO or VO).
  * 이 클래스는 사용자의 기본 속성인 ID, 이름, 이메일, 비밀번호를 관리합니다.
+ * setter 는 값을 바꾼 뒤 버전을 올리도록 직접 작성했습니다. (DtoCache 무효화, {@link Versioned})
  */
 @Data // Lombok 라이브러리의 어노테이션으로, 아래 모든 필드에 대한 getter, setter, toString, equals, hashCode 메서드를 자동으로 생성해줍니다.
-public class User {
+public class User implements Serializable, Identifiable, Versioned {
     private Integer id; // 사용자의 고유 식별자
     private String name; // 사용자의 이름
     private String email; // 사용자의 이메일 주소
     private String password; // 사용자의 비밀번호
+
+    /** 여러 스레드가 동시에 setter 를 호출해도 증가분이 사라지지 않도록 version 을 원자적으로 올립니다. */
+    private static final AtomicIntegerFieldUpdater<User> VERSION = AtomicIntegerFieldUpdater.newUpdater(User.class, "version");
+
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient volatile int version; // setter 가 호출될 때마다 1 증가
+
+    public void setId(Integer id) {
+        this.id = id;
+        touch();
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        touch();
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        touch();
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+        touch();
+    }
+
+    /**
+     * setter 를 거치지 않고 내용이 바뀌었음을 알립니다. (버전 1 증가)
+     */
+    public void touch() {
+        VERSION.incrementAndGet(this);
+    }
 }
@@ -0,0 +1,186 @@
+package ex01;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * User 레코드를 객체가 아닌 컬럼(배열) 단위로 저장하는 테이블 (struct-of-arrays).
+ *
+ * <p>User 객체 하나는 객체 헤더, 박싱된 Integer, String 4개(각각 헤더 + byte[])로 이루어져
+ * 문자열 내용을 빼고도 행마다 100바이트 이상을 사용합니다.
+ * UserTable 은 id 를 {@code int[]}에, 문자열을 {@link StringColumn}에 이어 붙여 저장하므로
+ * 행마다 붙는 헤더와 포인터가 사라지고, 전체 스캔 시 메모리를 순차적으로 읽게 됩니다.</p>
+ *
+ * <p>행은 {@link Row} 플라이웨이트로 읽습니다. Row 는 UserDto 와 같은 모양(id, userName, email)의 getter 를 가지며,
+ * 하나의 Row 를 여러 행에 재사용할 수 있습니다. 객체가 꼭 필요한 경우에만 {@link #toUserDto3(int)}로 만드세요.</p>
+ */
+class UserTable {
+    private int[] ids;
+    private final StringColumn names;
+    private final StringColumn emails;
+    private final StringColumn passwords;
+    private int size;
+
+    UserTable(int initialCapacity) {
+        ids = new int[Math.max(1, initialCapacity)];
+        names = new StringColumn(initialCapacity);
+        emails = new StringColumn(initialCapacity);
+        passwords = new StringColumn(initialCapacity);
+    }
+
+    static UserTable of(Collection<User> users) {
+        UserTable table = new UserTable(users.size());
+        users.forEach(table::add);
+        return table;
+    }
+
+    /**
+     * User 객체의 값을 새 행으로 추가합니다. id 는 null 일 수 없습니다.
+     * @return 추가된 행 번호
+     */
+    int add(User user) {
+        return add(user.getId(), user.getName(), user.getEmail(), user.getPassword());
+    }
+
+    int add(int id, String name, String email, String password) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, (int) Math.min(2L * size, Integer.MAX_VALUE - 8));
+        }
+        ids[size] = id;
+        names.add(name);
+        emails.add(email);
+        passwords.add(password);
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int id(int row) {
+        return ids[checkRow(row)];
+    }
+
+    String name(int row) {
+        return names.get(checkRow(row));
+    }
+
+    String email(int row) {
+        return emails.get(checkRow(row));
+    }
+
+    /**
+     * 이메일이 주어진 도메인(예: "gmail.com")인 행을 고르는 조건. 도메인은 한 번만 인코딩하고,
+     * 행마다 String 을 만들지 않고 바이트로 비교합니다.
+     * 예: {@code table.rows().filter(table.emailDomainIs("gmail.com")).count()}
+     */
+    IntPredicate emailDomainIs(String domain) {
+        byte[] suffix = ("@" + domain).getBytes(StandardCharsets.UTF_8);
+        return row -> emails.endsWith(checkRow(row), suffix);
+    }
+
+    /**
+     * 행 번호 스트림. StreamEx01 의 filter/map 파이프라인을 객체 없이 실행할 때 사용합니다.
+     * 예: {@code table.rows().filter(r -> table.id(r) % 2 == 0).mapToObj(table::toUserDto3)}
+     */
+    IntStream rows() {
+        return IntStream.range(0, size);
+    }
+
+    /**
+     * 하나의 Row 객체를 재사용하며 모든 행을 순회합니다. (행마다 객체를 만들지 않음)
+     * 콜백 밖으로 Row 참조를 보관하지 마세요.
+     */
+    void forEach(Consumer<Row> action) {
+        Row row = new Row();
+        for (int i = 0; i < size; i++) {
+            action.accept(row.moveTo(i));
+        }
+    }
+
+    Row row(int index) {
+        return new Row().moveTo(index);
+    }
+
+    UserDto3 toUserDto3(int row) {
+        return new UserDto3(id(row), name(row), email(row));
+    }
+
+    User toUser(int row) {
+        User user = new User();
+        user.setId(id(row));
+        user.setName(name(row));
+        user.setEmail(email(row));
+        user.setPassword(passwords.get(row));
+        return user;
+    }
+
+    /**
+     * 배열 용량 기준의 대략적인 힙 사용량.
+     */
+    long estimatedBytes() {
+        return 4L * ids.length + names.estimatedBytes() + emails.estimatedBytes() + passwords.estimatedBytes();
+    }
+
+    /**
+     * 적재가 끝난 뒤 여유 용량을 잘라 메모리를 돌려받습니다.
+     */
+    void trimToSize() {
+        ids = Arrays.copyOf(ids, Math.max(1, size)); // 빈 표도 한 칸은 남겨 add 의 두 배 증설이 동작하도록 합니다.
+        names.trimToSize();
+        emails.trimToSize();
+        passwords.trimToSize();
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " out of " + size);
+        }
+        return row;
+    }
+
+    /**
+     * UserDto 모양의 플라이웨이트 뷰. 값은 getter 호출 시 컬럼에서 읽어옵니다.
+     */
+    final class Row {
+        private int index;
+
+        Row moveTo(int index) {
+            this.index = checkRow(index);
+            return this;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        int getId() {
+            return ids[index];
+        }
+
+        String getUserName() {
+            return names.get(index);
+        }
+
+        String getEmail() {
+            return emails.get(index);
+        }
+
+        UserDto3 toUserDto3() {
+            return UserTable.this.toUserDto3(index);
+        }
+
+        @Override
+        public String toString() {
+            return "UserDto{" +
+                    "id=" + getId() +
+                    ", userName='" + getUserName() + '\'' +
+                    ", email='" + getEmail() + '\'' +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ex01;
+
+/**
+ * 값이 바뀔 때마다 증가하는 버전을 가진 엔티티. (User, Board)
+ *
+ * <p>setter 가 호출되면 버전이 1 증가하므로, {@link DtoCache}는 버전만 비교해 캐시된 DTO 가 아직 유효한지 판단합니다.
+ * Board 는 댓글 목록의 변경과 목록에 든 댓글의 setter 에서도 버전을 올립니다. ({@link ReplyList})
+ * 그 밖에 setter 를 거치지 않는 변경은 {@code touch()}를 호출해 직접 버전을 올려야 합니다.
+ * 버전은 원자적으로 증가하므로 여러 스레드가 동시에 수정해도 증가가 사라지지 않습니다.
+ * 버전은 equals/hashCode/toString 과 직렬화에 포함되지 않습니다.</p>
+ */
+public interface Versioned {
+    int getVersion();
+}
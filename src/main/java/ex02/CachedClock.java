@@ -0,0 +1,193 @@
+package ex02;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 백그라운드 스레드 하나가 정해진 간격(resolution)마다 현재 시각을 계산해 두고, 호출하는 쪽은 volatile 읽기 한 번으로 가져가는 시계.
+ *
+ * <p>이벤트마다 {@code LocalDateTime.now()}, {@code ZonedDateTime.now()}를 호출하면 그때마다 시간대 규칙 조회와
+ * 객체 생성이 일어납니다. CachedClock 은 이 작업을 틱마다 한 번만 하므로, 초당 수십만 번 시각을 찍어도 비용이 거의 없습니다.
+ * 대신 돌려주는 시각은 최대 resolution 만큼 늦을 수 있습니다.</p>
+ *
+ * <p>precise 모드에서는 {@link #instant()}, {@link #millis()}가 매번 실제 시각을 읽고, LocalDateTime 계산에는
+ * 틱마다 구해 둔 오프셋을 재사용합니다. (시간대 규칙 조회만 생략) 서머타임 전환 직후 resolution 동안은 이전 오프셋이 쓰일 수 있습니다.</p>
+ *
+ * <p>{@link Clock}을 상속하므로 {@code LocalDateTime.now(clock)}처럼 기존 API 에 그대로 넘길 수 있습니다.</p>
+ */
+final class CachedClock extends Clock implements AutoCloseable {
+    private static volatile CachedClock systemDefault;
+
+    private final ZoneId zone;
+    private final long resolutionNanos;
+    private final boolean precise;
+    private final Thread ticker;
+    private volatile Snapshot snapshot;
+    private volatile boolean running = true;
+
+    /**
+     * 틱마다 한 번 만들어지는 현재 시각. 모든 필드가 같은 순간을 나타냅니다.
+     */
+    private record Snapshot(Instant instant, long epochMillis, ZoneOffset offset,
+                            LocalDateTime localDateTime, ZonedDateTime zonedDateTime) {
+    }
+
+    /**
+     * @param zone LocalDateTime/ZonedDateTime 에 사용할 시간대
+     * @param resolution 갱신 간격 (최소 1ms)
+     * @param precise true 이면 instant()/millis() 는 캐시하지 않은 실제 시각을 돌려줍니다.
+     */
+    CachedClock(ZoneId zone, Duration resolution, boolean precise) {
+        this.zone = Objects.requireNonNull(zone);
+        if (resolution.compareTo(Duration.ofMillis(1)) < 0) {
+            throw new IllegalArgumentException("resolution must be at least 1ms: " + resolution);
+        }
+        this.resolutionNanos = resolution.toNanos();
+        this.precise = precise;
+        this.snapshot = snapshot(Instant.now());
+        this.ticker = new Thread(this::tick, "cached-clock-" + zone);
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * 시스템 기본 시간대, 1ms 간격의 공용 시계. 처음 호출할 때 만들어지며 닫지 않습니다.
+     */
+    static CachedClock systemDefault() {
+        CachedClock clock = systemDefault;
+        if (clock == null) {
+            synchronized (CachedClock.class) {
+                clock = systemDefault;
+                if (clock == null) {
+                    clock = new CachedClock(ZoneId.systemDefault(), Duration.ofMillis(1), false);
+                    systemDefault = clock;
+                }
+            }
+        }
+        return clock;
+    }
+
+    private void tick() {
+        while (running) {
+            LockSupport.parkNanos(resolutionNanos);
+            snapshot = snapshot(Instant.now());
+        }
+    }
+
+    private Snapshot snapshot(Instant now) {
+        ZoneOffset offset = zone.getRules().getOffset(now);
+        LocalDateTime local = LocalDateTime.ofEpochSecond(now.getEpochSecond(), now.getNano(), offset);
+        return new Snapshot(now, now.toEpochMilli(), offset, local, ZonedDateTime.ofLocal(local, zone, offset));
+    }
+
+    @Override
+    public Instant instant() {
+        return precise ? Instant.now() : snapshot.instant;
+    }
+
+    @Override
+    public long millis() {
+        return precise ? System.currentTimeMillis() : snapshot.epochMillis;
+    }
+
+    /**
+     * 이 시계의 시간대 기준 현재 로컬 시각. {@code LocalDateTime.now()} 대신 사용합니다.
+     */
+    LocalDateTime localDateTime() {
+        Snapshot current = snapshot;
+        if (!precise) {
+            return current.localDateTime;
+        }
+        Instant now = Instant.now();
+        return LocalDateTime.ofEpochSecond(now.getEpochSecond(), now.getNano(), current.offset);
+    }
+
+    /**
+     * 이 시계의 시간대 기준 현재 시각. {@code ZonedDateTime.now()} 대신 사용합니다.
+     */
+    ZonedDateTime zonedDateTime() {
+        Snapshot current = snapshot;
+        return precise ? ZonedDateTime.ofLocal(localDateTime(), zone, current.offset) : current.zonedDateTime;
+    }
+
+    /**
+     * {@code new Timestamp(System.currentTimeMillis())} 대신 사용합니다.
+     * Timestamp 는 값을 바꿀 수 있는 객체이므로 공유하지 않고 매번 새로 만듭니다.
+     */
+    Timestamp timestamp() {
+        return new Timestamp(millis());
+    }
+
+    boolean isPrecise() {
+        return precise;
+    }
+
+    Duration resolution() {
+        return Duration.ofNanos(resolutionNanos);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 같은 틱을 공유하면서 시간대만 다른 시계를 돌려줍니다. (새 스레드를 만들지 않음)
+     * 돌려받은 시계의 LocalDateTime 은 {@code LocalDateTime.now(clock)}으로 구하며 캐시되지 않습니다.
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (this.zone.equals(zone)) {
+            return this;
+        }
+        Objects.requireNonNull(zone);
+        CachedClock source = this;
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return zone;
+            }
+
+            @Override
+            public Clock withZone(ZoneId other) {
+                return source.withZone(other);
+            }
+
+            @Override
+            public Instant instant() {
+                return source.instant();
+            }
+
+            @Override
+            public long millis() {
+                return source.millis();
+            }
+        };
+    }
+
+    /**
+     * 틱 스레드를 멈춥니다. 이후에는 마지막으로 계산된 시각이 그대로 남습니다.
+     * @throws UnsupportedOperationException 공용 시계({@link #systemDefault()})인 경우
+     */
+    @Override
+    public void close() {
+        if (this == systemDefault) {
+            throw new UnsupportedOperationException("shared clock cannot be closed");
+        }
+        running = false;
+        LockSupport.unpark(ticker);
+    }
+
+    @Override
+    public String toString() {
+        return "CachedClock[" + zone + ", " + resolution() + (precise ? ", precise]" : "]");
+    }
+}
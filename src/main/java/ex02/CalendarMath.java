@@ -0,0 +1,77 @@
+package ex02;
+
+/**
+ * 에포크 일(1970-01-01 부터의 일 수)과 연/월/일 사이의 변환을 객체 없이 정수 연산으로 합니다.
+ * ({@code LocalDate.ofEpochDay}, {@code toEpochDay}와 같은 결과, 프롤렙틱 그레고리력)
+ *
+ * <p>연/월/일은 하나의 int 로 묶어 돌려줍니다. ({@link #year(int)}, {@link #month(int)}, {@link #day(int)}로 꺼냄)</p>
+ */
+final class CalendarMath {
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private CalendarMath() {
+    }
+
+    /**
+     * 에포크 일을 연/월/일로 바꿉니다. (Howard Hinnant 의 civil_from_days)
+     */
+    static int civilFromDays(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        int doe = (int) (z - era * 146_097);                                   // [0, 146096]
+        int yoe = (doe - doe / 1_460 + doe / 36_524 - doe / 146_096) / 365;     // [0, 399]
+        int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);                      // [0, 365] (3월 1일 기준)
+        int mp = (5 * doy + 2) / 153;                                           // [0, 11]
+        int day = doy - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+        return pack(year, month, day);
+    }
+
+    /**
+     * 연/월/일을 에포크 일로 바꿉니다. 값의 범위는 검사하지 않습니다.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        int yoe = (int) (y - era * 400);
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    /**
+     * 에포크 일의 요일. 월요일=1 ... 일요일=7 ({@code DayOfWeek.getValue()}와 같음)
+     */
+    static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) + 1; // 1970-01-01 은 목요일
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int pack(int year, int month, int day) {
+        return year << 9 | month << 5 | day;
+    }
+
+    static int year(int packed) {
+        return packed >> 9;
+    }
+
+    static int month(int packed) {
+        return (packed >> 5) & 0xF;
+    }
+
+    static int day(int packed) {
+        return packed & 0x1F;
+    }
+}
@@ -0,0 +1,114 @@
+package ex02;
+
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * 에포크 밀리초 배열을 주어진 시간대의 연/월/일/요일/시/분/초 기본형 배열로 한꺼번에 바꿉니다.
+ *
+ * <p>TimeEx02 처럼 값마다 {@code LocalDateTime}을 만들고 getYear() 등을 호출하는 대신,
+ * 정수 연산만으로 필드를 계산하여 {@link Fields}의 int 배열에 채웁니다. 값마다 만들어지는 객체가 없습니다.</p>
+ * <ul>
+ *     <li>시간대 오프셋은 {@link ZoneOffsetCache}로 다음 전환 전까지 재사용합니다.</li>
+ *     <li>시계열 데이터는 대부분 정렬되어 있으므로, 바로 앞 값과 같은 날이면 연/월/일/요일 계산을 건너뜁니다.</li>
+ * </ul>
+ * <p>캐시를 갖고 있으므로 한 스레드에서만 사용하세요. {@link #decodeParallel(long[])}은 구간마다 따로 디코더를 만듭니다.</p>
+ */
+final class EpochDecoder {
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+
+    EpochDecoder(ZoneId zone) {
+        this.zone = Objects.requireNonNull(zone);
+        this.offsets = new ZoneOffsetCache(zone);
+    }
+
+    /**
+     * 디코딩 결과. 모든 배열은 입력과 같은 길이이며 같은 번호끼리 하나의 값입니다.
+     */
+    static final class Fields {
+        final int[] year;
+        final int[] month;      // 1~12
+        final int[] day;        // 1~31
+        final int[] dayOfWeek;  // 월요일=1 ... 일요일=7
+        final int[] hour;
+        final int[] minute;
+        final int[] second;
+
+        Fields(int size) {
+            year = new int[size];
+            month = new int[size];
+            day = new int[size];
+            dayOfWeek = new int[size];
+            hour = new int[size];
+            minute = new int[size];
+            second = new int[size];
+        }
+
+        int size() {
+            return year.length;
+        }
+    }
+
+    Fields decode(long[] epochMillis) {
+        Fields fields = new Fields(epochMillis.length);
+        decode(epochMillis, 0, epochMillis.length, fields);
+        return fields;
+    }
+
+    /**
+     * epochMillis[from, to) 를 디코딩하여 out 의 같은 위치에 채웁니다.
+     */
+    void decode(long[] epochMillis, int from, int to, Fields out) {
+        Objects.checkFromToIndex(from, to, epochMillis.length);
+        Objects.checkFromToIndex(from, to, out.size());
+        int[] year = out.year, month = out.month, day = out.day, dayOfWeek = out.dayOfWeek;
+        int[] hour = out.hour, minute = out.minute, second = out.second;
+
+        long lastDay = Long.MIN_VALUE;
+        int date = 0;
+        int weekday = 0;
+        for (int i = from; i < to; i++) {
+            long epochSecond = Math.floorDiv(epochMillis[i], 1000);
+            long local = epochSecond + offsets.offsetSeconds(epochSecond);
+            long epochDay = Math.floorDiv(local, CalendarMath.SECONDS_PER_DAY);
+            int secondOfDay = (int) (local - epochDay * CalendarMath.SECONDS_PER_DAY);
+            if (epochDay != lastDay) {
+                date = CalendarMath.civilFromDays(epochDay);
+                weekday = CalendarMath.dayOfWeek(epochDay);
+                lastDay = epochDay;
+            }
+            year[i] = CalendarMath.year(date);
+            month[i] = CalendarMath.month(date);
+            day[i] = CalendarMath.day(date);
+            dayOfWeek[i] = weekday;
+            hour[i] = secondOfDay / 3600;
+            minute[i] = secondOfDay / 60 % 60;
+            second[i] = secondOfDay % 60;
+        }
+    }
+
+    /**
+     * 배열을 구간으로 나누어 여러 스레드(공용 ForkJoinPool)에서 디코딩합니다.
+     */
+    Fields decodeParallel(long[] epochMillis) {
+        Fields fields = new Fields(epochMillis.length);
+        int chunks = (epochMillis.length + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * PARALLEL_CHUNK;
+            int to = Math.min(from + PARALLEL_CHUNK, epochMillis.length);
+            new EpochDecoder(zone).decode(epochMillis, from, to, fields);
+        });
+        return fields;
+    }
+
+    /**
+     * 캐시를 벗어나 시간대 규칙을 실제로 조회한 횟수.
+     */
+    long zoneLookups() {
+        return offsets.lookups();
+    }
+}
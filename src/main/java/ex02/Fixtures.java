@@ -0,0 +1,60 @@
+package ex02;
+
+import ex03.FakeData;
+import ex03.FixtureGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * 학생/선생님 계정의 대량 테스트 데이터. 같은 시드면 항상 같은 데이터가 만들어집니다.
+ * 10명 중 1명꼴로 선생님이며, CSV 는 {@link ImportEx01#parseUser(String)}이 읽는 형식입니다.
+ */
+final class Fixtures {
+
+    static final String CSV_HEADER = "type,id,userName,password,col1,col2,col3";
+
+    private static final String[] SUBJECTS = {"국어", "수학", "영어", "과학", "사회", "음악", "체육", "미술"};
+    private static final String[] CLASS_YEARS = {"2023", "2024", "2025"};
+    /** 담임 이름은 몇십 개로 제한합니다. 학년/반처럼 반복되는 값이어야 StringPool 이 합칠 수 있습니다. */
+    private static final String[] HOMEROOM_TEACHERS = {
+            "김선생", "이선생", "박선생", "최선생", "정선생", "강선생", "조선생", "윤선생", "장선생", "임선생"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * id 가 1 부터 차례로 붙는 학생/선생님.
+     */
+    static FixtureGenerator<User> users(long seed) {
+        return new FixtureGenerator<>(seed, Fixtures::user);
+    }
+
+    /**
+     * {@link #CSV_HEADER} 형식의 한 줄. 선생님은 col3 이 없습니다.
+     */
+    static void csv(User user, StringBuilder line) {
+        line.append(user.getType()).append(',')
+                .append(user.getId()).append(',')
+                .append(user.getUserName()).append(',')
+                .append(user.getPassword()).append(',');
+        if ("teacher".equals(user.getType())) {
+            line.append(user.getSubject()).append(',').append(user.getTechName());
+        } else {
+            line.append(user.getClassRoom()).append(',').append(user.getClassYear()).append(',').append(user.getClassTechName());
+        }
+    }
+
+    private static User user(long index, SplittableRandom random) {
+        int id = Math.toIntExact(index + 1);
+        String userName = FakeData.koreanName(random);
+        String password = FakeData.alphanumeric(random, 10);
+        if (random.nextInt(10) == 0) {
+            String subject = FakeData.pick(random, SUBJECTS);
+            return User.createTecher(id, userName, password, "teacher", subject, subject + "선생님");
+        }
+        String classRoom = (random.nextInt(6) + 1) + "학년 " + (random.nextInt(10) + 1) + "반";
+        return User.createStudent(id, userName, password, "student", classRoom,
+                FakeData.pick(random, CLASS_YEARS), FakeData.pick(random, HOMEROOM_TEACHERS));
+    }
+}
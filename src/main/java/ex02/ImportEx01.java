@@ -0,0 +1,80 @@
+package ex02;
+
+import ex05.StringPool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가져오기 예제: CSV 파일의 학생/선생님 계정을 병렬로 읽어 정적 팩토리 메서드로 객체를 만듭니다.
+ *
+ * <pre>
+ * type,id,userName,password,...
+ * student,1,학생1,pw1,1학년 3반,2024,김선생
+ * teacher,2,선생2,pw2,수학,수학선생님
+ * </pre>
+ * 따옴표로 감싼 필드(필드 안의 쉼표)는 지원하지 않습니다.
+ */
+public class ImportEx01 {
+
+    /**
+     * CSV 한 줄을 User 로 바꿉니다. 여러 작업 스레드에서 동시에 호출됩니다.
+     */
+    static User parseUser(String line) {
+        String[] f = split(line, 7);
+        int id = Integer.parseInt(f[1]);
+        return switch (f[0]) {
+            case "student" -> User.createStudent(id, f[2], f[3], "student", f[4], f[5], f[6]);
+            case "teacher" -> User.createTecher(id, f[2], f[3], "teacher", f[4], f[5]);
+            default -> throw new IllegalArgumentException("unknown type: " + line);
+        };
+    }
+
+    /**
+     * String.split 과 달리 정규식을 쓰지 않고, 필드가 부족하면 null 로 채웁니다.
+     */
+    private static String[] split(String line, int max) {
+        String[] fields = new String[max];
+        int start = 0;
+        for (int i = 0; i < max; i++) {
+            int comma = i == max - 1 ? -1 : line.indexOf(',', start);
+            fields[i] = line.substring(start, comma < 0 ? line.length() : comma);
+            if (comma < 0) {
+                break;
+            }
+            start = comma + 1;
+        }
+        return fields;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path csv = Files.createTempFile("users", ".csv");
+        try {
+            // 시드로 재현되는 학생/선생님 계정을 병렬로 만들어 파일에 씁니다.
+            Fixtures.users(2024).writeTo(csv, count, Fixtures.CSV_HEADER, Fixtures::csv);
+            System.out.printf("파일: %,d 건, %,d bytes%n", count, Files.size(csv));
+
+            // 싱크는 한 스레드에서만 호출되므로 일반 ArrayList 에 모아도 됩니다. (실제로는 DB batch insert 등)
+            List<User> users = new ArrayList<>(count);
+            ImportPipeline.Stats stats = new ImportPipeline<User>(ImportEx01::parseUser, users::addAll)
+                    .workers(4)
+                    .chunkSize(1 << 20)
+                    .batchSize(10_000)
+                    .queueCapacity(8)
+                    .skipHeader(true)
+                    .run(csv);
+
+            System.out.println(stats);
+            System.out.println("가져온 건수: " + users.size());
+            System.out.println("첫 번째: " + users.get(0));
+            // 팩토리 메서드가 학년/반, 과목 등 반복되는 값을 풀의 인스턴스로 합친 결과
+            System.out.println(StringPool.shared());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+}
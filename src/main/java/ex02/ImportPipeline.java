@@ -0,0 +1,371 @@
+package ex02;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 줄 단위 파일(CSV 등)을 읽어 객체로 만들고 배치 단위로 넘겨주는 병렬 가져오기(import) 파이프라인.
+ *
+ * <pre>
+ * [읽기 1개] --청크 큐--> [파싱/생성 N개] --배치 큐--> [싱크 1개]
+ * </pre>
+ * <ul>
+ *     <li>읽기: FileChannel 로 파일을 chunkSize 바이트씩 읽고, 마지막 줄바꿈 위치에서 잘라 완전한 줄만 넘깁니다.</li>
+ *     <li>파싱/생성: 작업 스레드들이 청크의 각 줄을 lineParser(예: 팩토리 메서드 호출)로 객체로 만들고 batchSize 개씩 묶습니다.</li>
+ *     <li>싱크: 하나의 스레드가 배치를 차례로 sink 에 넘깁니다. 따라서 sink 는 스레드 안전하지 않아도 됩니다.</li>
+ * </ul>
+ * 큐는 크기가 제한되어 있어, 뒤 단계가 느리면 앞 단계가 기다립니다. (back-pressure, 메모리 사용량 상한)
+ * 여러 작업 스레드가 동시에 처리하므로 배치가 sink 에 도착하는 순서는 파일 순서와 다를 수 있습니다.
+ * 한 단계에서 예외가 발생하면 나머지 단계를 멈추고 {@link #run(Path)}이 그 예외를 던집니다.
+ *
+ * @param <T> 한 줄로부터 만들어지는 객체 타입
+ */
+final class ImportPipeline<T> {
+    private static final byte[] POISON = new byte[0];
+
+    private final Function<String, ? extends T> lineParser;
+    private final Consumer<? super List<T>> sink;
+    private int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    private int chunkSize = 1 << 20;
+    private int batchSize = 10_000;
+    private int queueCapacity = 16;
+    private boolean skipHeader;
+
+    /**
+     * @param lineParser 한 줄을 객체로 바꾸는 함수. 여러 스레드에서 동시에 호출됩니다. 빈 줄은 호출하지 않습니다.
+     * @param sink 배치를 받는 함수. 싱크 스레드 하나에서만 호출됩니다.
+     */
+    ImportPipeline(Function<String, ? extends T> lineParser, Consumer<? super List<T>> sink) {
+        this.lineParser = lineParser;
+        this.sink = sink;
+    }
+
+    ImportPipeline<T> workers(int workers) {
+        this.workers = positive(workers, "workers");
+        return this;
+    }
+
+    ImportPipeline<T> chunkSize(int chunkSize) {
+        this.chunkSize = positive(chunkSize, "chunkSize");
+        return this;
+    }
+
+    ImportPipeline<T> batchSize(int batchSize) {
+        this.batchSize = positive(batchSize, "batchSize");
+        return this;
+    }
+
+    ImportPipeline<T> queueCapacity(int queueCapacity) {
+        this.queueCapacity = positive(queueCapacity, "queueCapacity");
+        return this;
+    }
+
+    /**
+     * 첫 줄(헤더)을 건너뜁니다.
+     */
+    ImportPipeline<T> skipHeader(boolean skipHeader) {
+        this.skipHeader = skipHeader;
+        return this;
+    }
+
+    /**
+     * 파일 전체를 가져옵니다. 모든 배치가 sink 에 전달된 뒤 반환합니다.
+     * @return 단계별 처리량 통계
+     */
+    Stats run(Path path) throws IOException, InterruptedException {
+        BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<T>> batches = new ArrayBlockingQueue<>(queueCapacity);
+        List<T> poisonBatch = new ArrayList<>(0);
+        Stats stats = new Stats(workers);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1, runnable -> {
+            Thread thread = new Thread(runnable, "import-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> parsers = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                parsers.add(executor.submit(() -> guard(failure, () -> parse(chunks, batches, stats, failure))));
+            }
+            Future<?> sinkTask = executor.submit(() -> guard(failure, () -> drain(batches, poisonBatch, stats, failure)));
+
+            // 읽기 단계는 호출한 스레드에서 실행합니다.
+            try {
+                read(path, chunks, stats, failure);
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    offer(chunks, POISON, failure);
+                }
+            }
+            for (Future<?> parser : parsers) {
+                await(parser);
+            }
+            offer(batches, poisonBatch, failure);
+            await(sinkTask);
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            stats.wallNanos = System.nanoTime() - start;
+        }
+        Throwable error = failure.get();
+        if (error instanceof IOException e) {
+            throw e;
+        } else if (error instanceof RuntimeException e) {
+            throw e;
+        } else if (error instanceof Error e) {
+            throw e;
+        } else if (error != null) {
+            throw new IllegalStateException(error);
+        }
+        return stats;
+    }
+
+    private void read(Path path, BlockingQueue<byte[]> chunks, Stats stats, AtomicReference<Throwable> failure)
+            throws IOException, InterruptedException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSize);
+            byte[] carry = new byte[0];
+            boolean header = skipHeader;
+            while (failure.get() == null) {
+                long t0 = System.nanoTime();
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    stats.readNanos.addAndGet(System.nanoTime() - t0);
+                    break;
+                }
+                buffer.flip();
+                byte[] data = new byte[carry.length + buffer.remaining()];
+                System.arraycopy(carry, 0, data, 0, carry.length);
+                buffer.get(data, carry.length, buffer.remaining());
+
+                // 마지막 줄바꿈 뒤의 잘린 줄은 다음 청크로 넘깁니다.
+                int lastNewline = lastIndexOf(data, (byte) '\n');
+                int from = 0;
+                if (header && lastNewline >= 0) {
+                    from = indexOf(data, (byte) '\n') + 1;
+                    header = false;
+                }
+                carry = Arrays.copyOfRange(data, lastNewline + 1, data.length);
+                byte[] chunk = lastNewline + 1 > from ? Arrays.copyOfRange(data, from, lastNewline + 1) : null;
+                stats.readBytes.addAndGet(read);
+                stats.readNanos.addAndGet(System.nanoTime() - t0);
+                if (chunk != null) {
+                    stats.chunks.incrementAndGet();
+                    offer(chunks, chunk, failure);
+                }
+            }
+            // 파일이 줄바꿈 없이 끝난 경우 마지막 줄
+            if (carry.length > 0 && !header && failure.get() == null) {
+                stats.chunks.incrementAndGet();
+                offer(chunks, carry, failure);
+            }
+        }
+    }
+
+    private void parse(BlockingQueue<byte[]> chunks, BlockingQueue<List<T>> batches, Stats stats,
+                       AtomicReference<Throwable> failure) throws InterruptedException {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (true) {
+            byte[] chunk = poll(chunks, failure);
+            if (chunk == POISON || chunk == null) {
+                break;
+            }
+            long t0 = System.nanoTime();
+            String text = new String(chunk, StandardCharsets.UTF_8);
+            long lines = 0;
+            for (int start = 0; start < text.length(); ) {
+                int end = text.indexOf('\n', start);
+                if (end < 0) {
+                    end = text.length();
+                }
+                int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+                if (lineEnd > start) {
+                    batch.add(lineParser.apply(text.substring(start, lineEnd)));
+                    lines++;
+                    if (batch.size() == batchSize) {
+                        stats.parseNanos.addAndGet(System.nanoTime() - t0);
+                        offer(batches, batch, failure);
+                        t0 = System.nanoTime();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                start = end + 1;
+            }
+            stats.records.addAndGet(lines);
+            stats.parseNanos.addAndGet(System.nanoTime() - t0);
+        }
+        if (!batch.isEmpty() && failure.get() == null) {
+            offer(batches, batch, failure);
+        }
+    }
+
+    private void drain(BlockingQueue<List<T>> batches, List<T> poisonBatch, Stats stats,
+                       AtomicReference<Throwable> failure) throws InterruptedException {
+        while (true) {
+            List<T> batch = poll(batches, failure);
+            if (batch == poisonBatch || batch == null) {
+                return;
+            }
+            long t0 = System.nanoTime();
+            sink.accept(batch);
+            stats.sinkNanos.addAndGet(System.nanoTime() - t0);
+            stats.batches.incrementAndGet();
+            stats.sunk.addAndGet(batch.size());
+        }
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private static void guard(AtomicReference<Throwable> failure, Step step) {
+        try {
+            step.run();
+        } catch (InterruptedException e) {
+            failure.compareAndSet(null, e);
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * 큐가 가득 차면 기다리되, 다른 단계가 실패했으면 더 기다리지 않습니다.
+     */
+    private static <E> void offer(BlockingQueue<E> queue, E element, AtomicReference<Throwable> failure) throws InterruptedException {
+        while (!queue.offer(element, 100, TimeUnit.MILLISECONDS)) {
+            if (failure.get() != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 큐가 빌 때 기다리되, 다른 단계가 실패했으면 null 을 반환합니다.
+     */
+    private static <E> E poll(BlockingQueue<E> queue, AtomicReference<Throwable> failure) throws InterruptedException {
+        E element;
+        while ((element = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+            if (failure.get() != null) {
+                return null;
+            }
+        }
+        return element;
+    }
+
+    private static void await(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            // guard() 가 이미 failure 에 기록했습니다.
+        }
+    }
+
+    private static int lastIndexOf(byte[] data, byte value) {
+        for (int i = data.length - 1; i >= 0; i--) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] data, byte value) {
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int positive(int value, String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * 단계별 처리량 통계. 파싱 시간은 모든 작업 스레드의 시간을 합친 값입니다.
+     */
+    static final class Stats {
+        private final int workers;
+        private final AtomicLong readBytes = new AtomicLong();
+        private final AtomicLong readNanos = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong parseNanos = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong sunk = new AtomicLong();
+        private final AtomicLong sinkNanos = new AtomicLong();
+        private volatile long wallNanos;
+
+        private Stats(int workers) {
+            this.workers = workers;
+        }
+
+        long records() {
+            return sunk.get();
+        }
+
+        long batches() {
+            return batches.get();
+        }
+
+        double readMegabytesPerSecond() {
+            return perSecond(readBytes.get(), readNanos.get()) / (1024 * 1024);
+        }
+
+        /**
+         * 작업 스레드 하나당 초당 파싱/생성 건수.
+         */
+        double parseRecordsPerSecondPerWorker() {
+            return perSecond(records.get(), parseNanos.get());
+        }
+
+        double sinkRecordsPerSecond() {
+            return perSecond(sunk.get(), sinkNanos.get());
+        }
+
+        double overallRecordsPerSecond() {
+            return perSecond(sunk.get(), wallNanos);
+        }
+
+        private static double perSecond(long count, long nanos) {
+            return nanos == 0 ? 0 : count * 1e9 / nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Stats{read=%,dB in %,d chunks (%.1f MB/s), parse=%,d records (%,.0f rec/s per worker x %d), "
+                            + "sink=%,d batches (%,.0f rec/s), total=%,.0f rec/s in %,d ms}",
+                    readBytes.get(), chunks.get(), readMegabytesPerSecond(),
+                    records.get(), parseRecordsPerSecondPerWorker(), workers,
+                    batches.get(), sinkRecordsPerSecond(),
+                    overallRecordsPerSecond(), TimeUnit.NANOSECONDS.toMillis(wallNanos));
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package ex02;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * ISO-8601 날짜/시간 문자열을 {@code byte[]}/{@code char[]} 버퍼에 직접 쓰고 읽는 변환기.
+ *
+ * <p>TimeEx01 의 세 가지 형식을 다룹니다. 출력은 JDK 포맷터와 같습니다.</p>
+ * <ul>
+ *     <li>로컬: {@code 2026-01-30T15:48:21.5462699} ({@code DateTimeFormatter.ISO_LOCAL_DATE_TIME})</li>
+ *     <li>UTC: {@code 2026-01-30T06:48:21.546269900Z} ({@code DateTimeFormatter.ISO_INSTANT}, {@code Instant.toString()})</li>
+ *     <li>오프셋: {@code 2026-01-30T15:48:21.5462699+09:00} ({@code DateTimeFormatter.ISO_OFFSET_DATE_TIME})</li>
+ * </ul>
+ *
+ * <p>쓰기는 중간 문자열이나 객체를 만들지 않습니다. "yyyy-MM-ddTHH:mm:ss" 부분은 초 단위로 캐시하므로,
+ * 같은 초의 값을 연속으로 쓸 때(로그, 이벤트 등)는 날짜 계산 없이 복사만 합니다.
+ * 읽기는 결과 객체(LocalDateTime 등) 하나만 만들며, {@link #parseEpochMillis(byte[], int, int)}는 아무것도 만들지 않습니다.</p>
+ *
+ * <p>연도는 0000~9999 만 지원합니다. (그 밖의 연도는 JDK 도 부호를 붙여 다른 형식으로 씁니다)
+ * 캐시와 작업 버퍼를 갖고 있으므로 스레드마다 하나씩 만들어 사용하세요.</p>
+ */
+final class IsoTimeCodec {
+    /**
+     * 한 값이 차지할 수 있는 최대 길이. ("yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+hh:mm:ss")
+     */
+    static final int MAX_LENGTH = 38;
+
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+    private static final int PREFIX_LENGTH = 19;
+
+    private final ZoneId zone;
+    private final ZoneOffsetCache offsets;
+    private final byte[] scratch = new byte[MAX_LENGTH];
+
+    // 초 단위 접두어 캐시
+    private final byte[] prefix = new byte[PREFIX_LENGTH];
+    private long prefixSecond = Long.MIN_VALUE;
+
+    // 마지막으로 쓴 오프셋 문자열 캐시
+    private final byte[] suffix = new byte[9];
+    private int suffixOffset = NO_OFFSET;
+    private int suffixLength;
+
+    // 마지막으로 읽은 값
+    private int year, month, day, hour, minute, second, nano, offset;
+    private long localSecond;
+
+    /**
+     * @param zone Instant/Timestamp 를 로컬 또는 오프셋 형식으로 바꿀 때 사용할 시간대
+     */
+    IsoTimeCodec(ZoneId zone) {
+        this.zone = zone;
+        this.offsets = new ZoneOffsetCache(zone);
+    }
+
+    // ===== 쓰기 (반환값은 쓴 글자 수) =====
+
+    /**
+     * {@code ISO_LOCAL_DATE_TIME.format(dateTime)}과 같은 내용을 씁니다.
+     */
+    int formatLocal(LocalDateTime dateTime, byte[] dst, int off) {
+        long local = CalendarMath.daysFromCivil(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth())
+                * CalendarMath.SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay();
+        return write(local, dateTime.getNano(), false, NO_OFFSET, dst, off);
+    }
+
+    /**
+     * Timestamp 를 이 변환기의 시간대 기준 로컬 형식으로 씁니다.
+     * 시간대가 시스템 기본 시간대이면 {@code ISO_LOCAL_DATE_TIME.format(timestamp.toLocalDateTime())}과 같습니다.
+     */
+    int formatLocal(Timestamp timestamp, byte[] dst, int off) {
+        long epochSecond = Math.floorDiv(timestamp.getTime(), 1000);
+        return write(epochSecond + offsets.offsetSeconds(epochSecond), timestamp.getNanos(), false, NO_OFFSET, dst, off);
+    }
+
+    /**
+     * {@code instant.toString()}과 같은 내용을 씁니다.
+     */
+    int formatInstant(Instant instant, byte[] dst, int off) {
+        return formatInstant(instant.getEpochSecond(), instant.getNano(), dst, off);
+    }
+
+    /**
+     * 에포크 초와 나노초를 UTC 형식으로 씁니다. ({@code Instant.ofEpochSecond(epochSecond, nano).toString()}과 같음)
+     */
+    int formatInstant(long epochSecond, int nano, byte[] dst, int off) {
+        return write(epochSecond, nano, true, 0, dst, off);
+    }
+
+    /**
+     * Instant 를 이 변환기의 시간대 오프셋을 붙여 씁니다. ({@code ISO_OFFSET_DATE_TIME.format(instant.atZone(zone))}과 같음)
+     */
+    int formatOffset(Instant instant, byte[] dst, int off) {
+        long epochSecond = instant.getEpochSecond();
+        int offsetSeconds = offsets.offsetSeconds(epochSecond);
+        return write(epochSecond + offsetSeconds, instant.getNano(), false, offsetSeconds, dst, off);
+    }
+
+    /**
+     * {@code ISO_OFFSET_DATE_TIME.format(dateTime)}과 같은 내용을 씁니다.
+     */
+    int formatOffset(OffsetDateTime dateTime, byte[] dst, int off) {
+        long local = CalendarMath.daysFromCivil(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth())
+                * CalendarMath.SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay();
+        return write(local, dateTime.getNano(), false, dateTime.getOffset().getTotalSeconds(), dst, off);
+    }
+
+    int formatLocal(LocalDateTime dateTime, char[] dst, int off) {
+        return widen(formatLocal(dateTime, scratch, 0), dst, off);
+    }
+
+    int formatLocal(Timestamp timestamp, char[] dst, int off) {
+        return widen(formatLocal(timestamp, scratch, 0), dst, off);
+    }
+
+    int formatInstant(Instant instant, char[] dst, int off) {
+        return widen(formatInstant(instant, scratch, 0), dst, off);
+    }
+
+    int formatOffset(Instant instant, char[] dst, int off) {
+        return widen(formatOffset(instant, scratch, 0), dst, off);
+    }
+
+    int formatOffset(OffsetDateTime dateTime, char[] dst, int off) {
+        return widen(formatOffset(dateTime, scratch, 0), dst, off);
+    }
+
+    // ===== 읽기 =====
+
+    /**
+     * 로컬 형식을 읽습니다. 초와 소수점 이하는 생략할 수 있습니다. ({@code LocalDateTime.parse}와 같음)
+     * @throws DateTimeParseException 형식이 맞지 않거나 날짜/시간 값이 범위를 벗어난 경우
+     */
+    LocalDateTime parseLocal(byte[] src, int off, int len) {
+        parse(src, off, off + len, false);
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * UTC 또는 오프셋 형식을 Instant 로 읽습니다. ({@code Instant.parse}와 같음)
+     */
+    Instant parseInstant(byte[] src, int off, int len) {
+        parse(src, off, off + len, true);
+        return Instant.ofEpochSecond(localSecond - offset, nano);
+    }
+
+    /**
+     * UTC 또는 오프셋 형식을 에포크 밀리초로 읽습니다. 객체를 만들지 않습니다. (밀리초 미만은 버림)
+     */
+    long parseEpochMillis(byte[] src, int off, int len) {
+        parse(src, off, off + len, true);
+        return (localSecond - offset) * 1000 + nano / 1_000_000;
+    }
+
+    /**
+     * 오프셋 형식을 읽습니다. ({@code OffsetDateTime.parse}와 같음)
+     */
+    OffsetDateTime parseOffset(byte[] src, int off, int len) {
+        parse(src, off, off + len, true);
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nano, ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * 로컬 형식을 이 변환기의 시간대 기준 Timestamp 로 읽습니다.
+     * {@code Timestamp.from(LocalDateTime.parse(text).atZone(zone).toInstant())}와 같습니다.
+     * 서머타임 중복 구간은 java.time 규칙(이전 오프셋)을 따르므로 {@code Timestamp.valueOf}와 다를 수 있습니다.
+     */
+    Timestamp parseTimestamp(byte[] src, int off, int len) {
+        parse(src, off, off + len, false);
+        long epochSecond = toEpochSecond(localSecond);
+        Timestamp timestamp = new Timestamp(epochSecond * 1000);
+        timestamp.setNanos(nano);
+        return timestamp;
+    }
+
+    LocalDateTime parseLocal(char[] src, int off, int len) {
+        return parseLocal(scratch, 0, narrow(src, off, len));
+    }
+
+    Instant parseInstant(char[] src, int off, int len) {
+        return parseInstant(scratch, 0, narrow(src, off, len));
+    }
+
+    long parseEpochMillis(char[] src, int off, int len) {
+        return parseEpochMillis(scratch, 0, narrow(src, off, len));
+    }
+
+    OffsetDateTime parseOffset(char[] src, int off, int len) {
+        return parseOffset(scratch, 0, narrow(src, off, len));
+    }
+
+    Timestamp parseTimestamp(char[] src, int off, int len) {
+        return parseTimestamp(scratch, 0, narrow(src, off, len));
+    }
+
+    // ===== 쓰기 구현 =====
+
+    /**
+     * @param groupedFraction true 이면 소수점 이하를 3자리 단위로(ISO_INSTANT), false 이면 끝의 0 을 모두 지웁니다.
+     * @param offsetSeconds NO_OFFSET 이면 오프셋을 쓰지 않고, 0 이면 'Z' 를 씁니다.
+     */
+    private int write(long local, int nanos, boolean groupedFraction, int offsetSeconds, byte[] dst, int off) {
+        if (local != prefixSecond) {
+            renderPrefix(local);
+        }
+        System.arraycopy(prefix, 0, dst, off, PREFIX_LENGTH);
+        int pos = off + PREFIX_LENGTH;
+
+        if (nanos != 0) {
+            int digits = 9;
+            int value = nanos;
+            if (groupedFraction) {
+                while (value % 1000 == 0) {
+                    value /= 1000;
+                    digits -= 3;
+                }
+            } else {
+                while (value % 10 == 0) {
+                    value /= 10;
+                    digits--;
+                }
+            }
+            dst[pos] = '.';
+            for (int i = pos + digits; i > pos; i--) {
+                dst[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            pos += digits + 1;
+        }
+
+        if (offsetSeconds == 0) {
+            dst[pos++] = 'Z';
+        } else if (offsetSeconds != NO_OFFSET) {
+            if (offsetSeconds != suffixOffset) {
+                renderSuffix(offsetSeconds);
+            }
+            System.arraycopy(suffix, 0, dst, pos, suffixLength);
+            pos += suffixLength;
+        }
+        return pos - off;
+    }
+
+    private void renderPrefix(long local) {
+        long epochDay = Math.floorDiv(local, CalendarMath.SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(local, CalendarMath.SECONDS_PER_DAY);
+        int date = CalendarMath.civilFromDays(epochDay);
+        int y = CalendarMath.year(date);
+        if (y < 0 || y > 9999) {
+            throw new DateTimeException("year out of range for 4-digit ISO format: " + y);
+        }
+        byte[] p = prefix;
+        p[0] = digit(y / 1000);
+        p[1] = digit(y / 100 % 10);
+        p[2] = digit(y / 10 % 10);
+        p[3] = digit(y % 10);
+        p[4] = '-';
+        twoDigits(p, 5, CalendarMath.month(date));
+        p[7] = '-';
+        twoDigits(p, 8, CalendarMath.day(date));
+        p[10] = 'T';
+        twoDigits(p, 11, secondOfDay / 3600);
+        p[13] = ':';
+        twoDigits(p, 14, secondOfDay / 60 % 60);
+        p[16] = ':';
+        twoDigits(p, 17, secondOfDay % 60);
+        prefixSecond = local;
+    }
+
+    private void renderSuffix(int offsetSeconds) {
+        int abs = Math.abs(offsetSeconds);
+        suffix[0] = (byte) (offsetSeconds < 0 ? '-' : '+');
+        twoDigits(suffix, 1, abs / 3600);
+        suffix[3] = ':';
+        twoDigits(suffix, 4, abs / 60 % 60);
+        suffixLength = 6;
+        if (abs % 60 != 0) {
+            suffix[6] = ':';
+            twoDigits(suffix, 7, abs % 60);
+            suffixLength = 9;
+        }
+        suffixOffset = offsetSeconds;
+    }
+
+    private static void twoDigits(byte[] dst, int pos, int value) {
+        dst[pos] = digit(value / 10);
+        dst[pos + 1] = digit(value % 10);
+    }
+
+    private static byte digit(int value) {
+        return (byte) ('0' + value);
+    }
+
+    /**
+     * 작업 버퍼에 쓴 내용을 char[] 로 옮깁니다.
+     */
+    private int widen(int length, char[] dst, int off) {
+        for (int i = 0; i < length; i++) {
+            dst[off + i] = (char) scratch[i];
+        }
+        return length;
+    }
+
+    // ===== 읽기 구현 =====
+
+    private void parse(byte[] s, int off, int end, boolean requireOffset) {
+        int pos = off;
+        year = digits(s, off, end, pos, 4);
+        pos = expect(s, off, end, pos + 4, '-');
+        month = digits(s, off, end, pos, 2);
+        pos = expect(s, off, end, pos + 2, '-');
+        day = digits(s, off, end, pos, 2);
+        pos += 2;
+        if (pos >= end || (s[pos] != 'T' && s[pos] != 't')) {
+            throw error("expected 'T'", s, off, end, pos);
+        }
+        hour = digits(s, off, end, pos + 1, 2);
+        pos = expect(s, off, end, pos + 3, ':');
+        minute = digits(s, off, end, pos, 2);
+        pos += 2;
+        second = 0;
+        nano = 0;
+        if (pos < end && s[pos] == ':') {
+            second = digits(s, off, end, pos + 1, 2);
+            pos += 3;
+            if (pos < end && s[pos] == '.') {
+                int start = ++pos;
+                int value = 0;
+                while (pos < end && pos - start < 9 && isDigit(s[pos])) {
+                    value = value * 10 + (s[pos++] - '0');
+                }
+                if (pos == start) {
+                    throw error("expected fraction digits", s, off, end, pos);
+                }
+                for (int i = pos - start; i < 9; i++) {
+                    value *= 10;
+                }
+                nano = value;
+            }
+        }
+        if (month < 1 || month > 12 || day < 1 || day > CalendarMath.lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw error("invalid date-time value", s, off, end, off);
+        }
+        localSecond = CalendarMath.daysFromCivil(year, month, day) * CalendarMath.SECONDS_PER_DAY
+                + hour * 3600 + minute * 60 + second;
+
+        offset = 0;
+        if (requireOffset) {
+            pos = parseOffset(s, off, end, pos);
+        }
+        if (pos != end) {
+            throw error("unexpected trailing text", s, off, end, pos);
+        }
+    }
+
+    private int parseOffset(byte[] s, int off, int end, int pos) {
+        if (pos >= end) {
+            throw error("expected offset", s, off, end, pos);
+        }
+        byte sign = s[pos];
+        if (sign == 'Z' || sign == 'z') {
+            return pos + 1;
+        }
+        if (sign != '+' && sign != '-') {
+            throw error("expected 'Z' or offset", s, off, end, pos);
+        }
+        int hours = digits(s, off, end, pos + 1, 2);
+        pos = expect(s, off, end, pos + 3, ':');
+        int minutes = digits(s, off, end, pos, 2);
+        pos += 2;
+        int seconds = 0;
+        if (pos < end && s[pos] == ':') {
+            seconds = digits(s, off, end, pos + 1, 2);
+            pos += 3;
+        }
+        int total = hours * 3600 + minutes * 60 + seconds;
+        if (hours > 18 || minutes > 59 || seconds > 59 || total > 18 * 3600) {
+            throw error("invalid offset", s, off, end, pos);
+        }
+        offset = sign == '-' ? -total : total;
+        return pos;
+    }
+
+    private DateTimeParseException error(String message, byte[] s, int off, int end, int index) {
+        String text = new String(s, off, end - off, StandardCharsets.ISO_8859_1);
+        return new DateTimeParseException("Text '" + text + "' could not be parsed: " + message, text, index - off);
+    }
+
+    private int digits(byte[] s, int off, int end, int pos, int count) {
+        if (pos + count > end) {
+            throw error("unexpected end of text", s, off, end, Math.min(pos, end));
+        }
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            if (!isDigit(s[i])) {
+                throw error("expected digit", s, off, end, i);
+            }
+            value = value * 10 + (s[i] - '0');
+        }
+        return value;
+    }
+
+    private int expect(byte[] s, int off, int end, int pos, char c) {
+        if (pos >= end || s[pos] != c) {
+            throw error("expected '" + c + "'", s, off, end, pos);
+        }
+        return pos + 1;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * char[] 입력을 작업 버퍼로 복사합니다. ASCII 가 아닌 글자는 형식 오류가 되도록 0 으로 바꿉니다.
+     */
+    private int narrow(char[] src, int off, int len) {
+        if (len > MAX_LENGTH) {
+            String text = new String(src, off, len);
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed: too long", text, MAX_LENGTH);
+        }
+        for (int i = 0; i < len; i++) {
+            char c = src[off + i];
+            scratch[i] = c < 0x80 ? (byte) c : 0;
+        }
+        return len;
+    }
+
+    /**
+     * 이 변환기의 시간대에서 로컬 초를 에포크 초로 바꿉니다.
+     * 앞뒤 하루 안에 오프셋 전환이 없으면 캐시로 계산하고, 있으면(서머타임 공백/중복 구간) JDK 규칙을 따릅니다.
+     */
+    private long toEpochSecond(long local) {
+        int guess = offsets.offsetSeconds(local - offsets.offsetSeconds(local));
+        long epochSecond = local - guess;
+        if (offsets.offsetSeconds(epochSecond) == guess && offsets.isStable(epochSecond, CalendarMath.SECONDS_PER_DAY)) {
+            return epochSecond;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second).atZone(zone).toEpochSecond();
+    }
+}
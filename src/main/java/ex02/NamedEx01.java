@@ -1,6 +1,18 @@
 package ex02;
 
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+import ex05.JsonWriter;
+import ex05.StringPool;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter // JSON 등 다른 형식으로 내보낼 때 필드를 읽을 수 있도록 getter 만 생성합니다. (값 변경은 팩토리 메서드로만)
 class User{
+    // 학년/반, 과목 등 여러 사용자가 같은 값을 갖는 필드는 풀의 인스턴스를 함께 씁니다. (id, 이름, 비밀번호는 제외)
+    private static final StringPool POOL = StringPool.shared();
+
     private Integer id;
     private String userName;
     private String password;
@@ -40,9 +52,9 @@ class User{
         user.id = id;
         user.userName = userName;
         user.password = password;
-        user.type = type;
-        user.subject = subject;
-        user.techName = techName;
+        user.type = POOL.intern(type);
+        user.subject = POOL.intern(subject);
+        user.techName = POOL.intern(techName);
         return user;
     }
 
@@ -51,10 +63,10 @@ class User{
         user.id = id;
         user.userName = userName;
         user.password = password;
-        user.type = type;
-        user.classRoom = classRoom;
-        user.classYear = classYear;
-        user.classTechName = classTechName;
+        user.type = POOL.intern(type);
+        user.classRoom = POOL.intern(classRoom);
+        user.classYear = POOL.intern(classYear);
+        user.classTechName = POOL.intern(classTechName);
         return user;
     }
 }
@@ -68,5 +80,15 @@ public class NamedEx01 {
         // 학생 객체 생성
         User student = User.createStudent(101, "이학생", "studentpass", "student", "1학년 3반", "2024", "김선생");
         System.out.println("학생: " + student);
+
+        // JSON 으로 내보내기 (중간 문자열 없이 스트림에 바로 기록)
+        new JsonWriter(System.out).array(List.of(teacher, student), UserJson::write).flush();
+        System.out.println();
+
+        // 바이너리로 내보냈다가 다시 읽기 (varint + 길이 접두어 UTF-8)
+        BinaryWriter out = new BinaryWriter();
+        UserBinary.write(out, student);
+        User decoded = UserBinary.read(new BinaryReader(out.toByteArray()));
+        System.out.println("바이너리 " + out.size() + "바이트, 복원: " + decoded);
     }
 }
@@ -0,0 +1,131 @@
+package ex02;
+
+import ex05.StringPool;
+
+/**
+ * 학교 구성원(학생/선생님)을 나타내는 sealed 인터페이스.
+ *
+ * <p>NamedEx01 의 User 는 학생/선생님 필드 7개를 모든 객체가 갖고, type 문자열을 비교하여 역할을 구분합니다.
+ * Member 는 역할마다 필요한 필드만 가진 record 로 나누어 객체 크기를 줄이고,
+ * 역할 구분은 문자열 비교 대신 타입(가상 메서드 호출, switch 패턴 매칭)으로 합니다.
+ * sealed 로 구현체를 Student, Teacher 로 제한하므로 switch 에서 default 없이 모든 경우를 다룰 수 있습니다.</p>
+ *
+ * <p>팩토리 메서드 이름은 User 와 같습니다. 역할은 메서드가 정하므로 type 인자는 받지 않습니다.
+ * User 와 마찬가지로 반복되는 필드(학년/반, 과목 등)는 {@link StringPool}의 인스턴스를 함께 씁니다.</p>
+ */
+sealed interface Member permits Student, Teacher {
+
+    int id();
+
+    String userName();
+
+    String password();
+
+    /**
+     * 기존 User 와 호환되는 역할 이름 ("student" 또는 "teacher").
+     */
+    String type();
+
+    static Teacher createTecher(int id, String userName, String password, String subject, String techName) {
+        StringPool pool = StringPool.shared();
+        return new Teacher(id, userName, password, pool.intern(subject), pool.intern(techName));
+    }
+
+    static Student createStudent(int id, String userName, String password, String classRoom, String classYear, String classTechName) {
+        StringPool pool = StringPool.shared();
+        return new Student(id, userName, password,
+                pool.intern(classRoom), pool.intern(classYear), pool.intern(classTechName));
+    }
+
+    /**
+     * 기존 User 를 Member 로 변환합니다. type 문자열 비교는 변환할 때 한 번만 합니다.
+     * @throws IllegalArgumentException type 이 student/teacher 가 아닌 경우
+     */
+    static Member from(User user) {
+        if ("student".equalsIgnoreCase(user.getType())) {
+            return createStudent(user.getId(), user.getUserName(), user.getPassword(),
+                    user.getClassRoom(), user.getClassYear(), user.getClassTechName());
+        }
+        if ("teacher".equalsIgnoreCase(user.getType())) {
+            return createTecher(user.getId(), user.getUserName(), user.getPassword(), user.getSubject(), user.getTechName());
+        }
+        throw new IllegalArgumentException("unknown type: " + user.getType());
+    }
+}
+
+/**
+ * 학생. 공통 필드 3개와 학생 전용 필드 3개만 가집니다. (id 는 박싱하지 않는 int)
+ */
+record Student(int id, String userName, String password,
+               String classRoom, String classYear, String classTechName) implements Member {
+
+    @Override
+    public String type() {
+        return "student";
+    }
+
+    /**
+     * NamedEx01 의 User.toString() 과 같은 형식. 역할 판단 없이 자기 필드만 출력합니다.
+     */
+    @Override
+    public String toString() {
+        return "User{id=" + id +
+                ", userName='" + userName + '\'' +
+                ", password='" + password + '\'' +
+                ", type='student'" +
+                ", classRoom='" + classRoom + '\'' +
+                ", classYear='" + classYear + '\'' +
+                ", classTechName='" + classTechName + '\'' +
+                '}';
+    }
+}
+
+/**
+ * 선생님. 공통 필드 3개와 선생님 전용 필드 2개만 가집니다.
+ */
+record Teacher(int id, String userName, String password,
+               String subject, String techName) implements Member {
+
+    @Override
+    public String type() {
+        return "teacher";
+    }
+
+    @Override
+    public String toString() {
+        return "User{id=" + id +
+                ", userName='" + userName + '\'' +
+                ", password='" + password + '\'' +
+                ", type='teacher'" +
+                ", subject='" + subject + '\'' +
+                ", techName='" + techName + '\'' +
+                '}';
+    }
+}
+
+/**
+ * 정적 팩토리 메서드 예제 2: sealed 인터페이스와 record 로 역할별 객체 만들기
+ */
+public class NamedEx02 {
+    public static void main(String[] args) {
+        // 선생님 / 학생 객체 생성 (역할은 팩토리 메서드가 결정)
+        Member teacher = Member.createTecher(1, "김선생", "pass123", "수학", "수학선생님");
+        Member student = Member.createStudent(101, "이학생", "studentpass", "1학년 3반", "2024", "김선생");
+        System.out.println("선생님: " + teacher);
+        System.out.println("학생: " + student);
+
+        // 역할별 처리는 문자열 비교 대신 switch 패턴 매칭으로 합니다.
+        // sealed 인터페이스이므로 default 가 없어도 컴파일러가 모든 경우를 다뤘는지 확인해 줍니다.
+        for (Member member : new Member[]{teacher, student}) {
+            String description = switch (member) {
+                case Student s -> s.userName() + " 학생은 " + s.classRoom() + " 입니다.";
+                case Teacher t -> t.userName() + " 선생님은 " + t.subject() + " 담당입니다.";
+            };
+            System.out.println(description);
+        }
+
+        // 기존 User 에서 변환
+        Member converted = Member.from(User.createStudent(102, "박학생", "pw", "student", "2학년 1반", "2024", "최선생"));
+        System.out.println("변환: " + converted);
+    }
+}
@@ -0,0 +1,272 @@
+package ex02;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트(시각, 값)를 일/월/연 단위 구간(bucket)으로 모아 개수, 합계, 최솟값, 최댓값을 누적하는 집계기.
+ *
+ * <p>{@code groupingBy(ldt -> ldt.toLocalDate())}처럼 이벤트마다 LocalDateTime 과 박싱된 키를 만드는 대신,
+ * 구간을 기본형 키(에포크 일, 에포크 월, 연도)로 나타내고 통계를 long 배열로 된 링 버퍼에 누적합니다.</p>
+ * <ul>
+ *     <li>가장 최근 구간부터 capacity 개의 구간만 보관합니다. 새 구간이 열려 범위를 벗어난 구간은 제거되며, 제거 리스너로 전달됩니다.</li>
+ *     <li>늦게 도착한 이벤트도 보관 범위 안이면 해당 구간에 반영하고, 범위 밖이면 버리고 {@link #dropped()}로 셉니다.</li>
+ *     <li>{@link #window(long, int)}는 연속된 여러 구간을 합친 슬라이딩 윈도(예: 최근 7일)를 계산합니다.</li>
+ *     <li>스레드마다 따로 집계한 뒤 {@link #merge(TimeBucketAggregator)}로 합칠 수 있습니다.</li>
+ * </ul>
+ * <p>구간 경계는 주어진 시간대의 달력 기준입니다. (월 길이, 윤년 반영) 한 스레드에서만 사용하세요.</p>
+ */
+final class TimeBucketAggregator {
+
+    /**
+     * 구간 단위와 키. 키는 1970 년 기준의 기본형 정수입니다.
+     */
+    enum Unit {
+        /** 키: 에포크 일 (1970-01-01 = 0) */
+        DAY,
+        /** 키: 에포크 월 (1970-01 = 0) */
+        MONTH,
+        /** 키: 연도 */
+        YEAR;
+
+        long keyOf(long epochDay) {
+            if (this == DAY) {
+                return epochDay;
+            }
+            int date = CalendarMath.civilFromDays(epochDay);
+            return this == MONTH ? epochMonth(CalendarMath.year(date), CalendarMath.month(date)) : CalendarMath.year(date);
+        }
+
+        LocalDate start(long key) {
+            return switch (this) {
+                case DAY -> LocalDate.ofEpochDay(key);
+                case MONTH -> LocalDate.of((int) Math.floorDiv(key, 12) + 1970, Math.floorMod(key, 12) + 1, 1);
+                case YEAR -> LocalDate.of((int) key, 1, 1);
+            };
+        }
+    }
+
+    /**
+     * 한 구간(또는 여러 구간을 합친 윈도)의 통계.
+     * @param key 구간 키 (윈도이면 마지막 구간의 키)
+     * @param start 구간의 첫날 (윈도이면 첫 구간의 첫날)
+     */
+    record Bucket(long key, LocalDate start, long count, long sum, long min, long max) {
+        double average() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+    }
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final ZoneId zone;
+    private final Unit unit;
+    private final int capacity;
+    private final ZoneOffsetCache offsets;
+    private Consumer<Bucket> evictionListener = bucket -> { };
+
+    // 링 버퍼: 키 k 는 floorMod(k, capacity) 칸에 저장됩니다.
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] mins;
+    private final long[] maxs;
+    private long latestKey = EMPTY;
+    private long dropped;
+
+    /**
+     * @param capacity 보관할 구간 수 (예: DAY 단위로 400 이면 최근 400일)
+     */
+    TimeBucketAggregator(ZoneId zone, Unit unit, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.zone = Objects.requireNonNull(zone);
+        this.unit = Objects.requireNonNull(unit);
+        this.capacity = capacity;
+        this.offsets = new ZoneOffsetCache(zone);
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.sums = new long[capacity];
+        this.mins = new long[capacity];
+        this.maxs = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * 보관 범위를 벗어나 제거되는 구간을 받을 리스너. (완료된 구간을 저장소로 내보낼 때 사용)
+     */
+    TimeBucketAggregator onEviction(Consumer<Bucket> listener) {
+        this.evictionListener = Objects.requireNonNull(listener);
+        return this;
+    }
+
+    static long epochMonth(int year, int month) {
+        return (year - 1970L) * 12 + month - 1;
+    }
+
+    /**
+     * 에포크 밀리초 시각의 이벤트를 더합니다.
+     * @return 보관 범위보다 오래되어 버려졌으면 false
+     */
+    boolean add(long epochMillis, long value) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        long local = epochSecond + offsets.offsetSeconds(epochSecond);
+        return addToKey(unit.keyOf(Math.floorDiv(local, CalendarMath.SECONDS_PER_DAY)), 1, value, value, value);
+    }
+
+    /**
+     * 이미 로컬 날짜로 된 이벤트를 더합니다.
+     */
+    boolean add(LocalDate date, long value) {
+        return addToKey(unit.keyOf(date.toEpochDay()), 1, value, value, value);
+    }
+
+    /**
+     * other 에 누적된 구간들을 이 집계기에 합칩니다. 두 집계기의 단위와 시간대가 같아야 합니다.
+     * 합친 뒤 이 집계기의 보관 범위를 벗어나는 구간은 제거되거나 버려집니다.
+     */
+    TimeBucketAggregator merge(TimeBucketAggregator other) {
+        if (unit != other.unit || !zone.equals(other.zone)) {
+            throw new IllegalArgumentException("cannot merge " + other.unit + "/" + other.zone + " into " + unit + "/" + zone);
+        }
+        dropped += other.dropped;
+        // 최신 구간을 먼저 옮겨 두어야 처리 순서와 상관없이 같은 구간이 남습니다.
+        if (other.latestKey != EMPTY && (latestKey == EMPTY || other.latestKey > latestKey)) {
+            advanceTo(other.latestKey);
+        }
+        for (int slot = 0; slot < other.capacity; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                addToKey(other.keys[slot], other.counts[slot], other.sums[slot], other.mins[slot], other.maxs[slot]);
+            }
+        }
+        return this;
+    }
+
+    private boolean addToKey(long key, long count, long sum, long min, long max) {
+        if (latestKey == EMPTY || key > latestKey) {
+            advanceTo(key);
+        } else if (key <= latestKey - capacity) {
+            dropped += count;
+            return false;
+        }
+        int slot = slot(key);
+        if (keys[slot] != key) {
+            keys[slot] = key;
+            counts[slot] = count;
+            sums[slot] = sum;
+            mins[slot] = min;
+            maxs[slot] = max;
+        } else {
+            counts[slot] += count;
+            sums[slot] += sum;
+            mins[slot] = Math.min(mins[slot], min);
+            maxs[slot] = Math.max(maxs[slot], max);
+        }
+        return true;
+    }
+
+    /**
+     * 최신 구간을 key 로 옮기고, 보관 범위를 벗어난 구간을 제거합니다.
+     */
+    private void advanceTo(long key) {
+        if (latestKey != EMPTY) {
+            // 이전 범위의 시작부터 새 범위의 시작 직전까지 (최대 capacity 개)
+            long last = Math.min(key - capacity, latestKey);
+            for (long k = latestKey - capacity + 1; k <= last; k++) {
+                evict(slot(k), k);
+            }
+        }
+        latestKey = key;
+    }
+
+    private int slot(long key) {
+        return (int) Math.floorMod(key, (long) capacity);
+    }
+
+    private void evict(int slot, long expectedKey) {
+        if (keys[slot] == expectedKey) {
+            Bucket bucket = bucket(slot);
+            keys[slot] = EMPTY;
+            evictionListener.accept(bucket);
+        }
+    }
+
+    private Bucket bucket(int slot) {
+        long key = keys[slot];
+        return new Bucket(key, unit.start(key), counts[slot], sums[slot], mins[slot], maxs[slot]);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 구간 하나의 통계. 비어 있거나 보관 범위 밖이면 null.
+     */
+    Bucket get(long key) {
+        int slot = slot(key);
+        return keys[slot] == key ? bucket(slot) : null;
+    }
+
+    /**
+     * endKey 로 끝나는 연속된 length 개 구간을 합친 통계. (예: DAY 단위에서 length=7 이면 최근 7일)
+     * 이벤트가 하나도 없으면 count 0, min/max 0 인 통계를 돌려줍니다.
+     */
+    Bucket window(long endKey, int length) {
+        long count = 0, sum = 0, min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        long from = endKey - length + 1;
+        long to = Math.min(endKey, latestKey);
+        for (long key = Math.max(from, latestKey - capacity + 1); key <= to; key++) {
+            int slot = slot(key);
+            if (keys[slot] == key) {
+                count += counts[slot];
+                sum += sums[slot];
+                min = Math.min(min, mins[slot]);
+                max = Math.max(max, maxs[slot]);
+            }
+        }
+        if (count == 0) {
+            min = max = 0;
+        }
+        return new Bucket(endKey, unit.start(from), count, sum, min, max);
+    }
+
+    /**
+     * 보관 중인 구간들을 키 순서로 돌려줍니다.
+     */
+    List<Bucket> buckets() {
+        List<Bucket> result = new ArrayList<>();
+        if (latestKey == EMPTY) {
+            return result;
+        }
+        for (long key = latestKey - capacity + 1; key <= latestKey; key++) {
+            int slot = slot(key);
+            if (keys[slot] == key) {
+                result.add(bucket(slot));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 가장 최근 구간의 키. 이벤트가 없으면 {@link Long#MIN_VALUE}.
+     */
+    long latestKey() {
+        return latestKey;
+    }
+
+    /**
+     * 보관 범위보다 오래되어 버려진 이벤트 수.
+     */
+    long dropped() {
+        return dropped;
+    }
+
+    Unit unit() {
+        return unit;
+    }
+}
@@ -0,0 +1,48 @@
+package ex02;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 캐시된 시계 예제: 이벤트마다 now() 를 호출하는 대신 CachedClock 에서 미리 계산된 시각을 가져옵니다.
+ */
+public class TimeEx03 {
+    public static void main(String[] args) {
+        int events = 10_000_000;
+
+        // 1. 기존 방식: 호출할 때마다 시간대 조회 + 객체 생성
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < events; i++) {
+            checksum += LocalDateTime.now().getSecond();
+        }
+        System.out.printf("LocalDateTime.now()       : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        // 2. 공용 CachedClock (1ms 간격): volatile 읽기 한 번
+        CachedClock clock = CachedClock.systemDefault();
+        start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            checksum += clock.localDateTime().getSecond();
+        }
+        System.out.printf("clock.localDateTime()     : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        System.out.println("LocalDateTime : " + clock.localDateTime());
+        System.out.println("ZonedDateTime : " + clock.zonedDateTime());
+        System.out.println("Instant       : " + clock.instant());
+        System.out.println("Timestamp     : " + clock.timestamp());
+        // Clock 을 받는 기존 API 에도 그대로 넘길 수 있습니다.
+        System.out.println("now(clock)    : " + LocalDateTime.now(clock));
+
+        // 3. precise 모드: 시각은 매번 정확하게, 시간대 오프셋만 캐시
+        try (CachedClock precise = new CachedClock(ZoneId.of("Asia/Seoul"), Duration.ofMillis(100), true)) {
+            start = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                checksum += precise.localDateTime().getNano();
+            }
+            System.out.printf("precise.localDateTime()   : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+            System.out.println(precise + " : " + precise.localDateTime());
+        }
+        System.out.println("(checksum " + checksum + ")");
+    }
+}
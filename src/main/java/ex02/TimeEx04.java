@@ -0,0 +1,58 @@
+package ex02;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ISO-8601 변환 예제: TimeEx01 의 로컬 / UTC('Z') / 오프셋 형식을 문자열 없이 버퍼에 쓰고 읽습니다.
+ */
+public class TimeEx04 {
+    public static void main(String[] args) {
+        IsoTimeCodec codec = new IsoTimeCodec(ZoneId.of("Asia/Seoul"));
+        byte[] buffer = new byte[IsoTimeCodec.MAX_LENGTH];
+
+        Instant instant = Instant.parse("2026-01-30T06:48:21.546269900Z");
+        LocalDateTime ldt = LocalDateTime.parse("2026-01-30T15:48:21.546269900");
+
+        // 1. 쓰기: 반환값은 쓴 바이트 수
+        int n = codec.formatLocal(ldt, buffer, 0);
+        System.out.println("로컬   : " + new String(buffer, 0, n, StandardCharsets.US_ASCII));
+        n = codec.formatInstant(instant, buffer, 0);
+        System.out.println("UTC    : " + new String(buffer, 0, n, StandardCharsets.US_ASCII));
+        n = codec.formatOffset(instant, buffer, 0);
+        System.out.println("오프셋 : " + new String(buffer, 0, n, StandardCharsets.US_ASCII));
+
+        // 2. 읽기: JDK 클래스와 정확히 같은 값으로 돌아옵니다.
+        n = codec.formatInstant(instant, buffer, 0);
+        System.out.println("Instant 왕복 : " + codec.parseInstant(buffer, 0, n).equals(instant));
+        System.out.println("epochMillis  : " + codec.parseEpochMillis(buffer, 0, n));
+        n = codec.formatLocal(ldt, buffer, 0);
+        System.out.println("LocalDateTime 왕복 : " + codec.parseLocal(buffer, 0, n).equals(ldt));
+        Timestamp timestamp = codec.parseTimestamp(buffer, 0, n);
+        System.out.println("Timestamp    : " + timestamp);
+
+        // 3. 같은 초의 값을 연속으로 쓰면 날짜 부분은 캐시에서 복사합니다. (로그 한 줄마다 시각을 찍는 경우)
+        int count = 5_000_000;
+        long epochSecond = instant.getEpochSecond();
+        char[] chars = new char[IsoTimeCodec.MAX_LENGTH];
+        long start = System.nanoTime();
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += codec.formatInstant(epochSecond + i / 1000, (i % 1000) * 1_000_000, buffer, 0);
+        }
+        System.out.printf("IsoTimeCodec       : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            String text = DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(epochSecond + i / 1000, (i % 1000) * 1_000_000));
+            text.getChars(0, text.length(), chars, 0);
+            total += text.length();
+        }
+        System.out.printf("DateTimeFormatter  : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+        System.out.println("(total " + total + ")");
+    }
+}
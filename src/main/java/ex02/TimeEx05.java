@@ -0,0 +1,54 @@
+package ex02;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 대량 디코딩 예제: 에포크 밀리초 배열을 LocalDateTime 없이 연/월/일/요일/시/분/초 배열로 바꿉니다.
+ */
+public class TimeEx05 {
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        ZoneId zone = ZoneId.of("America/New_York"); // 서머타임이 있는 시간대
+
+        // 2020-01-01 부터 약 37초 간격의 시계열
+        long base = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+        long[] epochMillis = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochMillis[i] = base + i * 37_123L;
+        }
+
+        // 1. TimeEx02 방식: 값마다 LocalDateTime 생성 후 필드 조회
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (long millis : epochMillis) {
+            LocalDateTime ldt = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+            checksum += ldt.getYear() + ldt.getMonthValue() + ldt.getDayOfMonth() + ldt.getDayOfWeek().getValue()
+                    + ldt.getHour() + ldt.getMinute() + ldt.getSecond();
+        }
+        System.out.printf("LocalDateTime    : %,d ms (checksum %d)%n", (System.nanoTime() - start) / 1_000_000, checksum);
+
+        // 2. EpochDecoder: 기본형 배열로 한꺼번에
+        EpochDecoder decoder = new EpochDecoder(zone);
+        start = System.nanoTime();
+        EpochDecoder.Fields fields = decoder.decode(epochMillis);
+        long decoded = 0;
+        for (int i = 0; i < size; i++) {
+            decoded += fields.year[i] + fields.month[i] + fields.day[i] + fields.dayOfWeek[i]
+                    + fields.hour[i] + fields.minute[i] + fields.second[i];
+        }
+        System.out.printf("EpochDecoder     : %,d ms (checksum %d, 시간대 조회 %d회)%n",
+                (System.nanoTime() - start) / 1_000_000, decoded, decoder.zoneLookups());
+
+        // 3. 병렬
+        start = System.nanoTime();
+        EpochDecoder.Fields parallel = decoder.decodeParallel(epochMillis);
+        System.out.printf("decodeParallel   : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        int last = size - 1;
+        System.out.println("마지막 값: " + LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[last]), zone)
+                + " -> " + parallel.year[last] + "-" + parallel.month[last] + "-" + parallel.day[last]
+                + " (요일 " + parallel.dayOfWeek[last] + ") " + parallel.hour[last] + ":" + parallel.minute[last] + ":" + parallel.second[last]);
+    }
+}
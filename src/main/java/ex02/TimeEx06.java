@@ -0,0 +1,76 @@
+package ex02;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 시간 구간 집계 예제: 이벤트를 일/월 단위로 모으고, 최근 7일 윈도와 병렬 집계를 계산합니다.
+ */
+public class TimeEx06 {
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+
+        // 2024-01-01 부터 2년 동안의 이벤트. 약 1% 는 최대 3일 늦게 도착합니다.
+        long start = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+        long span = 730L * 24 * 60 * 60 * 1000;
+        SplittableRandom random = new SplittableRandom(42);
+        long[] times = new long[size];
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            long time = start + span * i / size;
+            if (random.nextInt(100) == 0) {
+                time -= random.nextLong(3L * 24 * 60 * 60 * 1000);
+            }
+            times[i] = time;
+            values[i] = random.nextLong(1, 10_000);
+        }
+
+        // 1. 기존 방식: 이벤트마다 LocalDateTime 과 박싱된 키
+        long t0 = System.nanoTime();
+        Map<LocalDate, Long> boxed = IntStream.range(0, size).boxed()
+                .collect(Collectors.groupingBy(i -> LocalDateTime.ofInstant(Instant.ofEpochMilli(times[i]), zone).toLocalDate(),
+                        TreeMap::new, Collectors.summingLong(i -> values[i])));
+        System.out.printf("groupingBy           : %,d ms (%d일)%n", (System.nanoTime() - t0) / 1_000_000, boxed.size());
+
+        // 2. 일 단위 집계 (최근 800일 보관)
+        t0 = System.nanoTime();
+        TimeBucketAggregator daily = new TimeBucketAggregator(zone, TimeBucketAggregator.Unit.DAY, 800);
+        for (int i = 0; i < size; i++) {
+            daily.add(times[i], values[i]);
+        }
+        System.out.printf("TimeBucketAggregator : %,d ms (%d일)%n", (System.nanoTime() - t0) / 1_000_000, daily.buckets().size());
+        boolean same = daily.buckets().stream().allMatch(b -> boxed.get(b.start()) == b.sum());
+        System.out.println("groupingBy 와 같은 합계: " + same);
+
+        // 3. 병렬: 구간별로 따로 집계한 뒤 합치기
+        t0 = System.nanoTime();
+        TimeBucketAggregator merged = IntStream.range(0, size).parallel().collect(
+                () -> new TimeBucketAggregator(zone, TimeBucketAggregator.Unit.DAY, 800),
+                (aggregator, i) -> aggregator.add(times[i], values[i]),
+                TimeBucketAggregator::merge);
+        System.out.printf("병렬 + merge         : %,d ms, 같은 결과: %s%n", (System.nanoTime() - t0) / 1_000_000,
+                merged.buckets().equals(daily.buckets()));
+
+        // 4. 최근 7일 슬라이딩 윈도
+        TimeBucketAggregator.Bucket week = daily.window(daily.latestKey(), 7);
+        System.out.printf("최근 7일 (%s ~): count=%,d, avg=%.1f, min=%d, max=%d%n",
+                week.start(), week.count(), week.average(), week.min(), week.max());
+
+        // 5. 월 단위 집계. 보관 범위(6개월)를 벗어난 달은 제거 리스너로 전달됩니다.
+        TimeBucketAggregator monthly = new TimeBucketAggregator(zone, TimeBucketAggregator.Unit.MONTH, 6)
+                .onEviction(bucket -> System.out.printf("  완료된 달 %s: count=%,d, sum=%,d%n", bucket.start(), bucket.count(), bucket.sum()));
+        for (int i = 0; i < size; i++) {
+            monthly.add(times[i], values[i]);
+        }
+        System.out.println("보관 중인 달: " + monthly.buckets().size() + ", 너무 늦어 버려진 이벤트: " + monthly.dropped());
+        System.out.println("2025-12: " + monthly.get(TimeBucketAggregator.epochMonth(2025, 12)));
+    }
+}
@@ -0,0 +1,49 @@
+package ex02;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+
+/**
+ * ex02.User(학생/선생님)의 바이너리 인코딩.
+ *
+ * <pre>
+ * 공통   : id(nullable varint) userName(str) password(str) type(str)
+ * 학생   : classRoom(str) classYear(str) classTechName(str)
+ * 선생님 : subject(str) techName(str)
+ * </pre>
+ * 역할별 필드 규칙은 toString() 과 같습니다. 읽을 때는 type 에 맞는 팩토리 메서드로 객체를 만듭니다.
+ */
+final class UserBinary {
+
+    private UserBinary() {
+    }
+
+    static void write(BinaryWriter out, User user) {
+        out.writeNullableInt(user.getId())
+                .writeString(user.getUserName())
+                .writeString(user.getPassword())
+                .writeString(user.getType());
+        if ("student".equalsIgnoreCase(user.getType())) {
+            out.writeString(user.getClassRoom())
+                    .writeString(user.getClassYear())
+                    .writeString(user.getClassTechName());
+        } else if ("teacher".equalsIgnoreCase(user.getType())) {
+            out.writeString(user.getSubject())
+                    .writeString(user.getTechName());
+        }
+    }
+
+    static User read(BinaryReader in) {
+        int id = in.readNullableInt();
+        String userName = in.readString();
+        String password = in.readString();
+        String type = in.readString();
+        if ("student".equalsIgnoreCase(type)) {
+            return User.createStudent(id, userName, password, type, in.readString(), in.readString(), in.readString());
+        }
+        if ("teacher".equalsIgnoreCase(type)) {
+            return User.createTecher(id, userName, password, type, in.readString(), in.readString());
+        }
+        return User.createTecher(id, userName, password, type, null, null);
+    }
+}
@@ -0,0 +1,39 @@
+package ex02;
+
+import ex05.JsonWriter;
+
+/**
+ * ex02.User 의 JSON 직렬화.
+ * toString() 과 같은 필드를 같은 규칙(학생/선생님별 필드)으로 기록하되, 중간 문자열 없이 JsonWriter 버퍼에 바로 씁니다.
+ */
+final class UserJson {
+    private static final byte[] ID = JsonWriter.name("id");
+    private static final byte[] USER_NAME = JsonWriter.name("userName");
+    private static final byte[] PASSWORD = JsonWriter.name("password");
+    private static final byte[] TYPE = JsonWriter.name("type");
+    private static final byte[] CLASS_ROOM = JsonWriter.name("classRoom");
+    private static final byte[] CLASS_YEAR = JsonWriter.name("classYear");
+    private static final byte[] CLASS_TECH_NAME = JsonWriter.name("classTechName");
+    private static final byte[] SUBJECT = JsonWriter.name("subject");
+    private static final byte[] TECH_NAME = JsonWriter.name("techName");
+
+    private UserJson() {
+    }
+
+    static void write(JsonWriter json, User user) {
+        json.beginObject()
+                .field(ID, user.getId())
+                .field(USER_NAME, user.getUserName())
+                .field(PASSWORD, user.getPassword())
+                .field(TYPE, user.getType());
+        if ("student".equalsIgnoreCase(user.getType())) {
+            json.field(CLASS_ROOM, user.getClassRoom())
+                    .field(CLASS_YEAR, user.getClassYear())
+                    .field(CLASS_TECH_NAME, user.getClassTechName());
+        } else if ("teacher".equalsIgnoreCase(user.getType())) {
+            json.field(SUBJECT, user.getSubject())
+                    .field(TECH_NAME, user.getTechName());
+        }
+        json.endObject();
+    }
+}
@@ -0,0 +1,68 @@
+package ex02;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+/**
+ * 시간대의 오프셋을 "다음 전환(서머타임 등) 전까지" 캐시합니다.
+ *
+ * <p>{@code zone.getRules().getOffset(instant)}는 호출마다 전환 목록을 검색하고 Instant 를 필요로 합니다.
+ * 대부분의 값은 마지막으로 조회한 구간 [이전 전환, 다음 전환) 안에 있으므로, 구간을 벗어날 때만 다시 조회합니다.
+ * 한 스레드에서만 사용하세요.</p>
+ */
+final class ZoneOffsetCache {
+    private final ZoneRules rules;
+    private final boolean fixed;
+    private long validFrom = Long.MAX_VALUE;
+    private long validUntil = Long.MIN_VALUE;
+    private int offsetSeconds;
+    private long lookups;
+
+    ZoneOffsetCache(ZoneId zone) {
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset();
+        if (fixed) {
+            offsetSeconds = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            validFrom = Long.MIN_VALUE;
+            validUntil = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 에포크 초 시점의 UTC 오프셋(초).
+     */
+    int offsetSeconds(long epochSecond) {
+        if (epochSecond >= validFrom && epochSecond < validUntil) {
+            return offsetSeconds;
+        }
+        lookups++;
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+        // 나노초를 1 로 주면 epochSecond 와 같은 시점의 전환도 "이전 전환"에 포함됩니다.
+        ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        validFrom = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        validUntil = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+        return offsetSeconds;
+    }
+
+    /**
+     * epochSecond 의 앞뒤 margin 초 안에 오프셋 전환이 없으면 true. (offsetSeconds 를 먼저 호출한 뒤 사용)
+     */
+    boolean isStable(long epochSecond, long margin) {
+        return validFrom <= epochSecond - margin && epochSecond + margin < validUntil;
+    }
+
+    boolean isFixed() {
+        return fixed;
+    }
+
+    /**
+     * 캐시를 벗어나 시간대 규칙을 실제로 조회한 횟수.
+     */
+    long lookups() {
+        return lookups;
+    }
+}
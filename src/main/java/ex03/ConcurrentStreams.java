@@ -0,0 +1,146 @@
+package ex03;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * I/O 로 막히는 map 을 가상 스레드에서 동시에 실행하는 스트림 단계.
+ *
+ * <p>{@code parallelStream()}은 CPU 코어 수만큼의 ForkJoin 스레드를 쓰므로, 원격 호출처럼 대부분의 시간을 기다리는 작업에서는
+ * 스레드가 기다리느라 놀고 처리량이 코어 수에 묶입니다.
+ * {@link #mapConcurrent(Stream, int, Function)}는 원소마다 가상 스레드를 하나씩 띄워 mapper 를 실행하고,
+ * 동시에 실행 중인 작업 수를 maxConcurrency 개로 제한합니다.</p>
+ * <ul>
+ *     <li>순서: 결과는 입력 순서대로 나옵니다. 앞 원소의 결과가 늦으면 뒤 원소는 끝났더라도 기다립니다.</li>
+ *     <li>역압(back-pressure): 실행 중인 작업이 maxConcurrency 개이면 앞 결과가 소비될 때까지 상류에서 원소를 더 꺼내지 않습니다.
+ *         그래서 {@code Stream.iterate}처럼 끝이 없는 상류에도 쓸 수 있습니다.</li>
+ *     <li>오류: mapper 가 던진 예외는 해당 원소의 결과를 꺼낼 때 그대로 다시 던지고, 실행 중인 나머지 작업은 취소(interrupt)합니다.</li>
+ *     <li>취소: {@code findFirst}, {@code anyMatch}, {@code limit} 등으로 일찍 끝나면 상류에서 더 꺼내지 않습니다.
+ *         이미 실행 중인 작업(최대 maxConcurrency 개)은 스트림을 닫을 때 취소되므로 try-with-resources 로 사용하세요.</li>
+ * </ul>
+ */
+public final class ConcurrentStreams {
+
+    private ConcurrentStreams() {
+    }
+
+    /**
+     * {@code upstream.map(mapper)}와 같은 결과를 내되, mapper 를 가상 스레드에서 최대 maxConcurrency 개까지 동시에 실행합니다.
+     * <pre>{@code
+     * try (Stream<Profile> profiles = ConcurrentStreams.mapConcurrent(users.stream(), 32, this::enrich)) {
+     *     return profiles.filter(Profile::active).findFirst();
+     * }
+     * }</pre>
+     */
+    public static <T, R> Stream<R> mapConcurrent(Stream<T> upstream, int maxConcurrency, Function<? super T, ? extends R> mapper) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        Objects.requireNonNull(mapper);
+        Window<T, R> window = new Window<>(upstream.spliterator(), maxConcurrency, mapper);
+        return StreamSupport.stream(window, false)
+                .onClose(window::cancel)
+                .onClose(upstream::close);
+    }
+
+    /**
+     * 실행 중인 작업들의 Future 를 입력 순서대로 담아 두고, 맨 앞 결과부터 돌려주는 Spliterator.
+     */
+    private static final class Window<T, R> extends Spliterators.AbstractSpliterator<R> {
+        private final Spliterator<T> source;
+        private final int maxConcurrency;
+        private final Function<? super T, ? extends R> mapper;
+        private final ArrayDeque<Future<R>> inFlight;
+        private ExecutorService executor;
+        private boolean sourceDone;
+
+        Window(Spliterator<T> source, int maxConcurrency, Function<? super T, ? extends R> mapper) {
+            super(Long.MAX_VALUE, source.characteristics() & Spliterator.ORDERED);
+            this.source = source;
+            this.maxConcurrency = maxConcurrency;
+            this.mapper = mapper;
+            this.inFlight = new ArrayDeque<>(maxConcurrency);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            fill();
+            Future<R> head = inFlight.poll();
+            if (head == null) {
+                cancel();
+                return false;
+            }
+            R result = await(head);
+            // 맨 앞 결과를 꺼냈으니 한 자리가 비었습니다. 다음 원소를 먼저 시작해 두고 결과를 넘깁니다.
+            fill();
+            action.accept(result);
+            return true;
+        }
+
+        /**
+         * 실행 중인 작업이 maxConcurrency 개가 될 때까지 상류에서 꺼내 시작합니다.
+         */
+        private void fill() {
+            while (!sourceDone && inFlight.size() < maxConcurrency) {
+                if (!source.tryAdvance(this::submit)) {
+                    sourceDone = true;
+                }
+            }
+        }
+
+        private void submit(T element) {
+            if (executor == null) {
+                executor = Executors.newVirtualThreadPerTaskExecutor();
+            }
+            inFlight.add(executor.submit(() -> mapper.apply(element)));
+        }
+
+        private R await(Future<R> future) {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                cancel();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                CancellationException cancelled = new CancellationException("interrupted while waiting for mapConcurrent result");
+                cancelled.initCause(e);
+                throw cancelled;
+            }
+        }
+
+        /**
+         * 실행 중인 작업을 모두 취소하고 더 이상 상류에서 꺼내지 않습니다.
+         */
+        void cancel() {
+            sourceDone = true;
+            Future<R> future;
+            while ((future = inFlight.poll()) != null) {
+                future.cancel(true);
+            }
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+}
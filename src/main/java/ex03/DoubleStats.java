@@ -0,0 +1,146 @@
+package ex03;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+
+/**
+ * double 값의 개수, 합계, 최솟값, 최댓값, 평균, 분산, 분위수를 한 번의 순회로 구하는 통계. ({@link LongStats}의 double 판)
+ *
+ * <ul>
+ *     <li>합계: Kahan 보정 합으로 작은 값이 큰 합계에 묻혀 사라지는 오차를 줄입니다. ({@link java.util.DoubleSummaryStatistics}와 같은 방식)</li>
+ *     <li>분산: Welford 방식으로 갱신하고, {@link #combine(DoubleStats)}는 Chan 의 병렬 공식으로 합칩니다.</li>
+ *     <li>분위수: {@link QuantileSketch}로 근사합니다.</li>
+ * </ul>
+ * <p>NaN 이 하나라도 있으면 합계, 평균, 분산, 최솟값, 최댓값이 NaN 이 됩니다. (분위수 스케치는 NaN 을 세지 않음)
+ * 스레드 안전하지 않습니다.</p>
+ */
+public final class DoubleStats implements DoubleConsumer {
+    private long count;
+    private double sum;
+    private double compensation;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double m2;
+    private final QuantileSketch sketch = new QuantileSketch();
+
+    public static DoubleStats of(DoubleStream stream) {
+        return stream.collect(DoubleStats::new, DoubleStats::accept, DoubleStats::combine);
+    }
+
+    /**
+     * 객체 스트림용 Collector. ({@code Collectors.summarizingDouble} 대신)
+     */
+    public static <T> Collector<T, ?, DoubleStats> summarizing(ToDoubleFunction<? super T> mapper) {
+        return Collector.of(DoubleStats::new, (stats, t) -> stats.accept(mapper.applyAsDouble(t)), DoubleStats::combine);
+    }
+
+    @Override
+    public void accept(double value) {
+        count++;
+        addToSum(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sketch.add(value);
+    }
+
+    /**
+     * other 의 통계를 합칩니다.
+     */
+    public DoubleStats combine(DoubleStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / n);
+        mean += delta * other.count / n;
+        count = n;
+        addToSum(other.sum);
+        addToSum(-other.compensation);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sketch.merge(other.sketch);
+        return this;
+    }
+
+    private void addToSum(double value) {
+        // Kahan 보정 합: 직전 덧셈에서 잘려 나간 부분(compensation)을 다음 덧셈에 되돌려 줍니다.
+        double y = value - compensation;
+        double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double sum() {
+        // 보정값이 NaN 이면 무한대끼리 더한 경우이므로 보정 없이 돌려줍니다.
+        double result = sum - compensation;
+        return Double.isNaN(result) && Double.isInfinite(sum) ? sum : result;
+    }
+
+    /**
+     * @return 최솟값, 값이 없으면 양의 무한대
+     */
+    public double min() {
+        return min;
+    }
+
+    /**
+     * @return 최댓값, 값이 없으면 음의 무한대
+     */
+    public double max() {
+        return max;
+    }
+
+    /**
+     * 평균. 값이 없으면 0.
+     */
+    public double mean() {
+        return count == 0 ? 0 : sum() / count;
+    }
+
+    /**
+     * 모분산. 값이 없으면 0.
+     */
+    public double variance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    /**
+     * 표본분산. (n - 1 로 나눔) 값이 2개 미만이면 0.
+     */
+    public double sampleVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * q 분위수의 근삿값. (상대 오차 약 1% 이내, 최솟값~최댓값 범위로 제한) 값이 없으면 NaN.
+     */
+    public double quantile(double q) {
+        double estimate = sketch.quantile(q);
+        return Double.isNaN(estimate) ? estimate : Math.min(Math.max(estimate, min), max);
+    }
+
+    public QuantileSketch sketch() {
+        return sketch;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleStats{count=%d, sum=%f, min=%f, max=%f, mean=%f, stddev=%f, p50=%f, p99=%f}",
+                count, sum(), min, max, mean(), standardDeviation(), quantile(0.5), quantile(0.99));
+    }
+}
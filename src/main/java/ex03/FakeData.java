@@ -0,0 +1,78 @@
+package ex03;
+
+import java.util.SplittableRandom;
+
+/**
+ * 테스트 데이터용 그럴듯한 값(이름, 이메일, 문장 등)을 만드는 함수 모음. {@link FixtureGenerator}의 RowFactory 에서 사용합니다.
+ *
+ * <p>모든 값은 전달받은 random 에서만 꺼내므로 같은 생성기 상태에서는 항상 같은 값이 나옵니다.
+ * 문자열은 미리 만든 조각을 골라 이어 붙이므로 행 하나를 만드는 데 수십 ns 정도만 듭니다.</p>
+ */
+public final class FakeData {
+
+    private static final String[] FAMILY_NAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
+    };
+    private static final String[] GIVEN_SYLLABLES = {
+            "민", "서", "준", "지", "현", "우", "예", "도", "하", "윤", "수", "연", "재", "은", "시", "유", "진", "주", "영", "호",
+            "성", "원", "태", "나", "다", "린", "아", "건", "혜", "빈"
+    };
+    private static final String[] ROMAN_SYLLABLES = {
+            "min", "seo", "jun", "ji", "hyun", "woo", "ye", "do", "ha", "yoon", "su", "yeon", "jae", "eun", "si", "yu",
+            "jin", "ju", "young", "ho", "sung", "won", "tae", "na", "da", "rin", "a", "gun", "hye", "bin"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "naver.com", "daum.net", "kakao.com", "outlook.com", "example.com"
+    };
+    private static final String ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private FakeData() {
+    }
+
+    /**
+     * 배열에서 하나를 고릅니다.
+     */
+    public static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * 성 + 이름 두 글자. (예: "김민준")
+     */
+    public static String koreanName(SplittableRandom random) {
+        return pick(random, FAMILY_NAMES) + pick(random, GIVEN_SYLLABLES) + pick(random, GIVEN_SYLLABLES);
+    }
+
+    /**
+     * 로마자 아이디 + 일련번호 @ 도메인. 번호를 붙이므로 서로 다른 id 의 이메일은 겹치지 않습니다. (예: "minjun123@naver.com")
+     */
+    public static String email(SplittableRandom random, long id) {
+        return pick(random, ROMAN_SYLLABLES) + pick(random, ROMAN_SYLLABLES) + id + "@" + pick(random, EMAIL_DOMAINS);
+    }
+
+    /**
+     * 영문 대소문자와 숫자로 된 length 글자.
+     */
+    public static String alphanumeric(SplittableRandom random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * words 에서 minWords ~ maxWords 개를 골라 공백으로 이은 문장.
+     */
+    public static String sentence(SplittableRandom random, String[] words, int minWords, int maxWords) {
+        int count = random.nextInt(minWords, maxWords + 1);
+        StringBuilder sb = new StringBuilder(count * 4);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(pick(random, words));
+        }
+        return sb.toString();
+    }
+}
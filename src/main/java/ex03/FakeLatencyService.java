@@ -0,0 +1,77 @@
+package ex03;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * 원격 호출을 흉내 내는 가짜 서비스. 네트워크 없이 {@link ConcurrentStreams#mapConcurrent}를 시험할 때 사용합니다.
+ *
+ * <p>호출마다 정해진 지연(+ 무작위 흔들림)만큼 스레드를 재우고 결과 문자열을 돌려줍니다.
+ * 동시에 실행 중인 호출 수와 그 최댓값, 취소(interrupt)된 호출 수를 세므로 동시 실행 제한과 취소가 지켜지는지 확인할 수 있습니다.
+ * failWhen 조건에 맞는 id 는 {@link IllegalStateException}을 던집니다.</p>
+ */
+final class FakeLatencyService {
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final IntPredicate failWhen;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+
+    FakeLatencyService(Duration latency, Duration jitter) {
+        this(latency, jitter, id -> false);
+    }
+
+    FakeLatencyService(Duration latency, Duration jitter, IntPredicate failWhen) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.failWhen = failWhen;
+    }
+
+    /**
+     * id 에 해당하는 값을 조회합니다. (지연 후 "user-{id}")
+     * @throws IllegalStateException failWhen 에 해당하는 id 이거나, 기다리는 중에 취소된 경우
+     */
+    String lookup(int id) {
+        calls.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            // id 로 흔들림을 정하므로 같은 id 는 항상 같은 지연을 가집니다.
+            long jitter = jitterNanos == 0 ? 0 : new SplittableRandom(id).nextLong(jitterNanos + 1);
+            Thread.sleep(Duration.ofNanos(latencyNanos + jitter));
+            if (failWhen.test(id)) {
+                throw new IllegalStateException("lookup failed: " + id);
+            }
+            return "user-" + id;
+        } catch (InterruptedException e) {
+            cancelled.incrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("lookup cancelled: " + id, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /** 지금까지 시작된 호출 수 */
+    int calls() {
+        return calls.get();
+    }
+
+    /** 지금 실행 중인 호출 수 */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /** 동시에 실행된 호출 수의 최댓값 */
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    /** 기다리는 중에 취소된 호출 수 */
+    int cancelled() {
+        return cancelled.get();
+    }
+}
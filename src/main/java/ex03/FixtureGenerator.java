@@ -0,0 +1,212 @@
+package ex03;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 시드로 재현되는 대량 테스트 데이터(fixture)를 병렬로 만드는 생성기.
+ *
+ * <p>{@code Stream.generate(Math::random)}은 모든 스레드가 하나의 Random 을 함께 쓰므로 병렬로 돌려도 그 한 곳에서 줄을 서고,
+ * 스레드가 원소를 가져가는 순서에 따라 결과가 달라집니다.
+ * FixtureGenerator 는 행을 chunkSize 개씩 묶고, 묶음마다 (시드, 묶음 번호)로 정해지는 {@link SplittableRandom}을 따로 만듭니다.</p>
+ * <ul>
+ *     <li>같은 시드와 chunkSize 이면 스레드 수, 순차/병렬과 상관없이 항상 같은 행이 만들어집니다.</li>
+ *     <li>스레드끼리 공유하는 상태가 없으므로 코어 수만큼 빨라집니다.</li>
+ *     <li>n 번째 행만 다시 만들 수도 있습니다. ({@link #row(long)}, 앞 행을 만들 필요 없이 해당 묶음만)</li>
+ * </ul>
+ *
+ * @param <T> 행 타입
+ */
+public final class FixtureGenerator<T> {
+
+    /**
+     * index 번째 행을 만듭니다. random 은 이 행이 속한 묶음의 생성기이므로 행마다 정해진 순서로 값을 꺼내야 재현됩니다.
+     */
+    @FunctionalInterface
+    public interface RowFactory<T> {
+        T create(long index, SplittableRandom random);
+    }
+
+    /**
+     * 행 하나를 텍스트 한 줄로 씁니다. (줄바꿈 제외)
+     */
+    @FunctionalInterface
+    public interface RowFormatter<T> {
+        void format(T row, StringBuilder line);
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final RowFactory<? extends T> factory;
+    private int chunkSize = 8192;
+
+    public FixtureGenerator(long seed, RowFactory<? extends T> factory) {
+        this.seed = seed;
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * 하나의 생성기로 만드는 행 수. (기본 8192) 바꾸면 같은 시드라도 다른 데이터가 만들어집니다.
+     */
+    public FixtureGenerator<T> chunkSize(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + rows);
+        }
+        this.chunkSize = rows;
+        return this;
+    }
+
+    /**
+     * 0 ~ count-1 번째 행의 스트림. {@code parallel()}로 병렬로 만들 수 있고, 순서와 내용은 순차와 같습니다.
+     */
+    public Stream<T> stream(long count) {
+        return StreamSupport.stream(new RowSpliterator(0, count), false);
+    }
+
+    /**
+     * count 개의 행을 병렬로 만들어 목록으로 돌려줍니다.
+     */
+    public List<T> toList(int count) {
+        return stream(count).parallel().toList();
+    }
+
+    /**
+     * count 개의 행을 병렬로 만들어 배열로 돌려줍니다.
+     */
+    public T[] toArray(int count, IntFunction<T[]> arrayFactory) {
+        return stream(count).parallel().toArray(arrayFactory);
+    }
+
+    /**
+     * index 번째 행 하나를 다시 만듭니다. (같은 묶음의 앞 행들을 건너뛰며 생성기를 진행시킵니다)
+     */
+    public T row(long index) {
+        long chunk = index / chunkSize;
+        SplittableRandom random = random(chunk);
+        for (long i = chunk * chunkSize; i < index; i++) {
+            factory.create(i, random);
+        }
+        return factory.create(index, random);
+    }
+
+    /**
+     * count 개의 행을 UTF-8 텍스트 파일로 씁니다. 묶음별 텍스트는 병렬로 만들고, 파일에는 행 순서대로 씁니다.
+     * 다음 묶음들을 만드는 동안 앞 묶음들을 씁니다.
+     * @param header 첫 줄 (없으면 null)
+     * @return 쓴 바이트 수
+     */
+    public long writeTo(Path path, long count, String header, RowFormatter<? super T> formatter) throws IOException {
+        long chunks = (count + chunkSize - 1) / chunkSize;
+        int batch = Runtime.getRuntime().availableProcessors() * 4;
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(path)) {
+            if (header != null) {
+                byte[] bytes = (header + "\n").getBytes(StandardCharsets.UTF_8);
+                out.write(bytes);
+                written += bytes.length;
+            }
+            CompletableFuture<List<byte[]>> next = renderAsync(0, Math.min(batch, chunks), count, formatter);
+            for (long from = 0; from < chunks; from += batch) {
+                List<byte[]> rendered = next.join();
+                long nextFrom = from + batch;
+                next = nextFrom < chunks ? renderAsync(nextFrom, Math.min(nextFrom + batch, chunks), count, formatter) : null;
+                for (byte[] bytes : rendered) {
+                    out.write(bytes);
+                    written += bytes.length;
+                }
+            }
+        }
+        return written;
+    }
+
+    private CompletableFuture<List<byte[]>> renderAsync(long fromChunk, long toChunk, long count, RowFormatter<? super T> formatter) {
+        return CompletableFuture.supplyAsync(() -> LongStream.range(fromChunk, toChunk).parallel()
+                .mapToObj(chunk -> render(chunk, count, formatter))
+                .toList());
+    }
+
+    private byte[] render(long chunk, long count, RowFormatter<? super T> formatter) {
+        StringBuilder text = new StringBuilder(chunkSize * 64);
+        SplittableRandom random = random(chunk);
+        for (long i = chunk * chunkSize, end = Math.min(i + chunkSize, count); i < end; i++) {
+            formatter.format(factory.create(i, random), text);
+            text.append('\n');
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 묶음 번호로 정해지는 생성기. 시드와 묶음 번호를 섞어(SplitMix64) 묶음끼리 겹치지 않는 수열을 얻습니다.
+     */
+    private SplittableRandom random(long chunk) {
+        long z = seed + (chunk + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    /**
+     * [from, to) 행을 만드는 Spliterator. 묶음 경계에서만 쪼개므로 어떻게 쪼개도 행마다 같은 생성기 상태를 씁니다.
+     */
+    private final class RowSpliterator implements Spliterator<T> {
+        private long index;
+        private final long end;
+        private SplittableRandom random;
+
+        RowSpliterator(long from, long to) {
+            this.index = from;
+            this.end = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end) {
+                return false;
+            }
+            if (random == null || index % chunkSize == 0) {
+                random = random(index / chunkSize);
+            }
+            action.accept(factory.create(index++, random));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // 남은 범위의 가운데 근처 묶음 경계에서 자릅니다. 앞쪽은 지금까지의 생성기를 이어 쓰고, 뒤쪽은 경계에서 새로 만듭니다.
+            long middle = index + (end - index) / 2;
+            long split = Math.max(middle / chunkSize * chunkSize, (index / chunkSize + 1) * chunkSize);
+            if (split >= end) {
+                return null;
+            }
+            RowSpliterator prefix = new RowSpliterator(index, split);
+            prefix.random = random;
+            index = split;
+            random = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package ex03;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * int 키와 int 값을 박싱 없이 저장하는 해시 맵. ({@code Map<Integer, Integer>} 대신 사용)
+ *
+ * <p>키와 값을 각각 int 배열에 두고 선형 탐사(open addressing)로 찾습니다.
+ * HashMap 처럼 항목마다 Node, Integer 객체를 만들지 않습니다. 빈 칸은 키 0 으로 표시하므로 키 0 은 별도 필드에 저장합니다.
+ * 스레드 안전하지 않습니다. (병렬 스트림에서는 스레드마다 만든 뒤 {@link #putAll(IntIntMap, IntBinaryOperator)}로 합칩니다)</p>
+ */
+public final class IntIntMap {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * 항목 하나를 받는 함수.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : indexOf(key) >= 0;
+    }
+
+    public int get(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public void put(int key, int value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            insert(-index - 1, key, value);
+        }
+    }
+
+    /**
+     * 키가 없으면 value 를 넣고, 있으면 {@code function(기존 값, value)}로 바꿉니다. ({@code Map.merge}와 같음)
+     * @return 새 값
+     */
+    public int merge(int key, int value, IntBinaryOperator function) {
+        if (key == 0) {
+            zeroValue = hasZeroKey ? function.applyAsInt(zeroValue, value) : value;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            return values[index] = function.applyAsInt(values[index], value);
+        }
+        insert(-index - 1, key, value);
+        return value;
+    }
+
+    /**
+     * other 의 모든 항목을 합칩니다. 같은 키는 function 으로 값을 합칩니다.
+     */
+    public void putAll(IntIntMap other, IntBinaryOperator function) {
+        ensureCapacity(size + other.size());
+        other.forEach((key, value) -> merge(key, value, function));
+    }
+
+    /**
+     * expectedSize 개를 넣을 때까지 다시 해시하지 않도록 표를 늘립니다.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = keys.length;
+        while (expectedSize > capacity * LOAD_FACTOR) {
+            capacity <<= 1;
+        }
+        if (capacity != keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int[] keys() {
+        int[] result = new int[size()];
+        int n = 0;
+        if (hasZeroKey) {
+            result[n++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 찾으면 칸 번호, 없으면 {@code -(넣을 칸 번호) - 1}.
+     */
+    private int indexOf(int key) {
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0) {
+                return -i - 1;
+            }
+        }
+    }
+
+    private void insert(int index, int key, int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int j = mix(key) & mask;
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    static int mix(int key) {
+        // 연속된 키가 인접한 칸에 몰리지 않도록 섞습니다. (Fibonacci hashing)
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,191 @@
+package ex03;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.LongFunction;
+
+/**
+ * long 키를 박싱 없이 저장하는 해시 맵. ({@code Map<Long, V>} 대신 사용)
+ *
+ * <p>{@link LongLongMap}과 같은 선형 탐사 구조이며 값만 객체입니다. 그룹화 결과({@code LongObjectMap<LongList>})를 담을 때 사용합니다.
+ * 스레드 안전하지 않습니다.</p>
+ *
+ * @param <V> 값 타입 (null 은 넣을 수 없습니다)
+ */
+public final class LongObjectMap<V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private V zeroValue;
+
+    /**
+     * 항목 하나를 받는 함수.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 2) - 1) << 1;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    public int size() {
+        return size + (zeroValue != null ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return 값, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Objects.requireNonNull(value);
+        if (key == 0) {
+            V old = zeroValue;
+            zeroValue = value;
+            return old;
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            V old = (V) values[index];
+            values[index] = value;
+            return old;
+        }
+        insert(-index - 1, key, value);
+        return null;
+    }
+
+    /**
+     * 키의 값을 돌려주고, 없으면 factory 로 만들어 넣은 뒤 돌려줍니다. ({@code Map.computeIfAbsent}와 같음)
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        if (key == 0) {
+            if (zeroValue == null) {
+                zeroValue = Objects.requireNonNull(factory.apply(key));
+            }
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            return (V) values[index];
+        }
+        V value = Objects.requireNonNull(factory.apply(key));
+        insert(-index - 1, key, value);
+        return value;
+    }
+
+    /**
+     * other 의 모든 항목을 합칩니다. 같은 키는 function 으로 값을 합칩니다.
+     */
+    public void putAll(LongObjectMap<V> other, BinaryOperator<V> function) {
+        other.forEach((key, value) -> {
+            V old = get(key);
+            put(key, old == null ? value : function.apply(old, value));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (zeroValue != null) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    public long[] keys() {
+        long[] result = new long[size()];
+        int n = 0;
+        if (zeroValue != null) {
+            result[n++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    private int indexOf(long key) {
+        for (int i = LongLongMap.mix(key) & mask; ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0) {
+                return -i - 1;
+            }
+        }
+    }
+
+    private void insert(int index, long key, V value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > keys.length * LOAD_FACTOR) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int j = LongLongMap.mix(key) & mask;
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,168 @@
+package ex03;
+
+import java.math.BigInteger;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * int/long 값의 개수, 합계, 최솟값, 최댓값, 평균, 분산, 분위수를 한 번의 순회로 구하는 통계.
+ *
+ * <p>{@code sum()}, {@code average()}, {@code max()}를 따로 호출하면 배열을 세 번 읽습니다.
+ * {@link java.util.LongSummaryStatistics}는 한 번에 구하지만 분산과 분위수가 없고, 합계가 long 범위를 넘으면 조용히 틀린 값이 됩니다.</p>
+ * <ul>
+ *     <li>합계: long 이 넘칠 때마다 넘친 횟수(상위 64비트)를 따로 세어 128비트로 정확하게 보관합니다.</li>
+ *     <li>분산: Welford 방식으로 평균과 편차 제곱합을 갱신합니다. (제곱합을 직접 더하면 넘치거나 정밀도를 잃음)</li>
+ *     <li>분위수: {@link QuantileSketch}로 근사합니다.</li>
+ *     <li>{@link #combine(LongStats)}는 Chan 의 병렬 공식으로 분산을 합치므로 {@code parallel()} 스트림에서도 같은 결과를 냅니다.</li>
+ * </ul>
+ * <p>스레드 안전하지 않습니다.</p>
+ */
+public final class LongStats implements LongConsumer {
+    private long count;
+    private long sumLow;
+    private long sumHigh;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private double mean;
+    private double m2;
+    private final QuantileSketch sketch = new QuantileSketch();
+
+    public static LongStats of(IntStream stream) {
+        // int 는 accept(long)으로 넓혀 받습니다. (IntConsumer 를 함께 구현하면 andThen 등이 모호해짐)
+        return stream.collect(LongStats::new, LongStats::accept, LongStats::combine);
+    }
+
+    public static LongStats of(LongStream stream) {
+        return stream.collect(LongStats::new, LongStats::accept, LongStats::combine);
+    }
+
+    /**
+     * 객체 스트림용 Collector. ({@code Collectors.summarizingLong} 대신, groupingBy 의 하위 Collector 로도 사용)
+     */
+    public static <T> Collector<T, ?, LongStats> summarizing(ToLongFunction<? super T> mapper) {
+        return Collector.of(LongStats::new, (stats, t) -> stats.accept(mapper.applyAsLong(t)), LongStats::combine);
+    }
+
+    @Override
+    public void accept(long value) {
+        count++;
+        long sum = sumLow + value;
+        // 부호가 같은 두 수를 더해 부호가 바뀌면 2^64 만큼 넘친 것입니다.
+        if (((sumLow ^ sum) & (value ^ sum)) < 0) {
+            sumHigh += value < 0 ? -1 : 1;
+        }
+        sumLow = sum;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        sketch.add(value);
+    }
+
+    /**
+     * other 의 통계를 합칩니다.
+     */
+    public LongStats combine(LongStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long n = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / n);
+        mean += delta * other.count / n;
+        count = n;
+        long sum = sumLow + other.sumLow;
+        if (((sumLow ^ sum) & (other.sumLow ^ sum)) < 0) {
+            sumHigh += other.sumLow < 0 ? -1 : 1;
+        }
+        sumLow = sum;
+        sumHigh += other.sumHigh;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sketch.merge(other.sketch);
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 정확한 합계. (long 범위를 넘어도 정확함)
+     */
+    public BigInteger sum() {
+        return BigInteger.valueOf(sumHigh).shiftLeft(64).add(BigInteger.valueOf(sumLow));
+    }
+
+    /**
+     * long 으로 나타낼 수 있는 합계.
+     * @throws ArithmeticException 합계가 long 범위를 넘는 경우
+     */
+    public long sumExact() {
+        if (sumHigh != 0) {
+            throw new ArithmeticException("long overflow: " + sum());
+        }
+        return sumLow;
+    }
+
+    /**
+     * @return 최솟값, 값이 없으면 {@link Long#MAX_VALUE}
+     */
+    public long min() {
+        return min;
+    }
+
+    /**
+     * @return 최댓값, 값이 없으면 {@link Long#MIN_VALUE}
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * 정확한 합계를 개수로 나눈 평균. 값이 없으면 0.
+     */
+    public double mean() {
+        return count == 0 ? 0 : (sumHigh * 0x1p64 + sumLow) / count;
+    }
+
+    /**
+     * 모분산. 값이 없으면 0.
+     */
+    public double variance() {
+        return count == 0 ? 0 : m2 / count;
+    }
+
+    /**
+     * 표본분산. (n - 1 로 나눔) 값이 2개 미만이면 0.
+     */
+    public double sampleVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    /**
+     * q 분위수의 근삿값. (상대 오차 약 1% 이내, 최솟값~최댓값 범위로 제한) 값이 없으면 NaN.
+     */
+    public double quantile(double q) {
+        double estimate = sketch.quantile(q);
+        return count == 0 ? estimate : Math.min(Math.max(estimate, min), max);
+    }
+
+    public QuantileSketch sketch() {
+        return sketch;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LongStats{count=%d, sum=%s, min=%d, max=%d, mean=%f, stddev=%f, p50=%.1f, p99=%.1f}",
+                count, sum(), min, max, mean(), standardDeviation(), quantile(0.5), quantile(0.99));
+    }
+}
@@ -0,0 +1,146 @@
+package ex03;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * IntStream/LongStream 용 groupingBy, partitioningBy, toMap.
+ *
+ * <p>{@code boxed().collect(Collectors.groupingBy(...))}는 원소마다 Integer 와 HashMap.Node, ArrayList 칸을 만듭니다.
+ * 여기의 메서드는 {@code IntStream.collect(supplier, accumulator, combiner)}로 기본형 맵({@link IntObjectMap}, {@link IntIntMap})과
+ * 기본형 목록({@link IntList})에 바로 모읍니다.
+ * combiner 가 있으므로 {@code parallel()} 스트림에서도 스레드마다 모은 뒤 합쳐 같은 결과를 냅니다.
+ * (병렬일 때 그룹 안의 순서는 스트림 순서와 같습니다: 앞 구간의 결과 뒤에 뒤 구간의 결과를 붙입니다)</p>
+ */
+public final class PrimitiveCollectors {
+
+    private PrimitiveCollectors() {
+    }
+
+    /**
+     * {@link #partitioningBy(IntStream, IntPredicate)}의 결과.
+     * @param accepted 조건을 만족한 값 ({@code partitioningBy}의 true)
+     * @param rejected 나머지 ({@code partitioningBy}의 false)
+     */
+    public record IntPartition(IntList accepted, IntList rejected) {
+    }
+
+    /**
+     * {@link #partitioningBy(LongStream, LongPredicate)}의 결과.
+     */
+    public record LongPartition(LongList accepted, LongList rejected) {
+    }
+
+    // ===== IntStream =====
+
+    /**
+     * {@code groupingBy(classifier)}와 같습니다. 키와 값 모두 박싱하지 않습니다.
+     */
+    public static IntObjectMap<IntList> groupingBy(IntStream stream, IntUnaryOperator classifier) {
+        return stream.collect(IntObjectMap::new,
+                (map, value) -> map.computeIfAbsent(classifier.applyAsInt(value), key -> new IntList()).add(value),
+                (left, right) -> left.putAll(right, PrimitiveCollectors::concat));
+    }
+
+    /**
+     * {@code groupingBy(classifier, counting())}와 같습니다.
+     */
+    public static IntIntMap countingBy(IntStream stream, IntUnaryOperator classifier) {
+        return stream.collect(IntIntMap::new,
+                (map, value) -> map.merge(classifier.applyAsInt(value), 1, Integer::sum),
+                (left, right) -> left.putAll(right, Integer::sum));
+    }
+
+    /**
+     * {@code partitioningBy(predicate)}와 같습니다.
+     */
+    public static IntPartition partitioningBy(IntStream stream, IntPredicate predicate) {
+        return stream.collect(() -> new IntPartition(new IntList(), new IntList()),
+                (partition, value) -> (predicate.test(value) ? partition.accepted() : partition.rejected()).add(value),
+                (left, right) -> {
+                    left.accepted().addAll(right.accepted());
+                    left.rejected().addAll(right.rejected());
+                });
+    }
+
+    /**
+     * {@code toMap(identity(), valueMapper)}와 같습니다.
+     * @throws IllegalStateException 같은 키가 두 번 나온 경우
+     */
+    public static IntIntMap toMap(IntStream stream, IntUnaryOperator valueMapper) {
+        return toMap(stream, valueMapper, (a, b) -> {
+            throw new IllegalStateException("Duplicate key (attempted merging values " + a + " and " + b + ")");
+        });
+    }
+
+    /**
+     * {@code toMap(identity(), valueMapper, merge)}와 같습니다.
+     */
+    public static IntIntMap toMap(IntStream stream, IntUnaryOperator valueMapper, IntBinaryOperator merge) {
+        return stream.collect(IntIntMap::new,
+                (map, value) -> map.merge(value, valueMapper.applyAsInt(value), merge),
+                (left, right) -> left.putAll(right, merge));
+    }
+
+    /**
+     * 모든 값을 IntList 로 모읍니다. ({@code boxed().toList()} 대신)
+     */
+    public static IntList toList(IntStream stream) {
+        return stream.collect(IntList::new, IntList::add, IntList::addAll);
+    }
+
+    // ===== LongStream =====
+
+    public static LongObjectMap<LongList> groupingBy(LongStream stream, LongUnaryOperator classifier) {
+        return stream.collect(LongObjectMap::new,
+                (map, value) -> map.computeIfAbsent(classifier.applyAsLong(value), key -> new LongList()).add(value),
+                (left, right) -> left.putAll(right, PrimitiveCollectors::concat));
+    }
+
+    public static LongLongMap countingBy(LongStream stream, LongUnaryOperator classifier) {
+        return stream.collect(LongLongMap::new,
+                (map, value) -> map.merge(classifier.applyAsLong(value), 1, Long::sum),
+                (left, right) -> left.putAll(right, Long::sum));
+    }
+
+    public static LongPartition partitioningBy(LongStream stream, LongPredicate predicate) {
+        return stream.collect(() -> new LongPartition(new LongList(), new LongList()),
+                (partition, value) -> (predicate.test(value) ? partition.accepted() : partition.rejected()).add(value),
+                (left, right) -> {
+                    left.accepted().addAll(right.accepted());
+                    left.rejected().addAll(right.rejected());
+                });
+    }
+
+    public static LongLongMap toMap(LongStream stream, LongUnaryOperator valueMapper) {
+        return toMap(stream, valueMapper, (a, b) -> {
+            throw new IllegalStateException("Duplicate key (attempted merging values " + a + " and " + b + ")");
+        });
+    }
+
+    public static LongLongMap toMap(LongStream stream, LongUnaryOperator valueMapper, LongBinaryOperator merge) {
+        return stream.collect(LongLongMap::new,
+                (map, value) -> map.merge(value, valueMapper.applyAsLong(value), merge),
+                (left, right) -> left.putAll(right, merge));
+    }
+
+    public static LongList toList(LongStream stream) {
+        return stream.collect(LongList::new, LongList::add, LongList::addAll);
+    }
+
+    private static IntList concat(IntList left, IntList right) {
+        left.addAll(right);
+        return left;
+    }
+
+    private static LongList concat(LongList left, LongList right) {
+        left.addAll(right);
+        return left;
+    }
+}
@@ -0,0 +1,375 @@
+package ex03;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * int/long 배열의 중복 제거. ({@code boxed().distinct()} 대신)
+ *
+ * <p>{@code distinct()}는 원소마다 Integer 를 만들어 HashSet 에 넣습니다. 여기서는 값의 범위(최댓값 - 최솟값)를 먼저 보고 방식을 고릅니다.</p>
+ * <ul>
+ *     <li>범위가 좁으면(비트 수가 원소 수의 64배 이하, 즉 비트셋이 long 배열 n 개 이하) 값마다 비트 하나를 쓰는 비트셋으로 표시합니다.
+ *         비트셋을 앞에서부터 읽으면 정렬된 결과가 나옵니다.</li>
+ *     <li>범위가 넓으면(드문드문한 id 등) {@link #distinct(int[])}는 기본형 해시 셋을, {@link #sortedDistinct(int[])}는
+ *         {@link RadixSort}로 정렬한 뒤 이웃한 같은 값을 지웁니다.</li>
+ * </ul>
+ * <p>{@code java.util.BitSet}은 int 인덱스까지만 다루므로(int 전체 범위는 2^32 비트) long 배열로 직접 비트셋을 만듭니다.</p>
+ */
+public final class PrimitiveDistinct {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private PrimitiveDistinct() {
+    }
+
+    // ===== int =====
+
+    /**
+     * 처음 나온 순서를 유지하며 중복을 제거합니다. ({@code IntStream.of(values).distinct().toArray()}와 같은 결과)
+     */
+    public static int[] distinct(int[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int min = min(values);
+        long range = (long) max(values) - min + 1;
+        int[] result = new int[n];
+        int size = 0;
+        if (useBitSet(range, n)) {
+            long[] words = new long[(int) ((range + 63) >>> 6)];
+            for (int value : values) {
+                int bit = value - min;
+                long mask = 1L << bit;
+                if ((words[bit >>> 6] & mask) == 0) {
+                    words[bit >>> 6] |= mask;
+                    result[size++] = value;
+                }
+            }
+        } else {
+            IntHashSet seen = new IntHashSet(n);
+            for (int value : values) {
+                if (seen.add(value)) {
+                    result[size++] = value;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 중복을 제거하고 오름차순으로 정렬합니다. ({@code IntStream.of(values).distinct().sorted().toArray()}와 같은 결과)
+     */
+    public static int[] sortedDistinct(int[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int min = min(values);
+        long range = (long) max(values) - min + 1;
+        if (useBitSet(range, n)) {
+            long[] words = new long[(int) ((range + 63) >>> 6)];
+            for (int value : values) {
+                int bit = value - min;
+                words[bit >>> 6] |= 1L << bit;
+            }
+            return fromBits(words, min, 0, words.length, new int[bitCount(words, 0, words.length)], 0);
+        }
+        int[] sorted = values.clone();
+        RadixSort.sort(sorted);
+        return Arrays.copyOf(sorted, removeAdjacentDuplicates(sorted));
+    }
+
+    /**
+     * {@link #sortedDistinct(int[])}의 병렬판.
+     */
+    public static int[] parallelSortedDistinct(int[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        int min = IntStream.of(values).parallel().min().getAsInt();
+        long range = (long) IntStream.of(values).parallel().max().getAsInt() - min + 1;
+        if (!useBitSet(range, n)) {
+            int[] sorted = values.clone();
+            RadixSort.parallelSort(sorted);
+            return Arrays.copyOf(sorted, removeAdjacentDuplicates(sorted));
+        }
+        long[] words = new long[(int) ((range + 63) >>> 6)];
+        // 여러 스레드가 같은 word 에 쓸 수 있으므로 비트가 비어 있을 때만 원자적으로 OR 합니다.
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int bit = values[i] - min;
+            long mask = 1L << bit;
+            if (((long) WORDS.getOpaque(words, bit >>> 6) & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, bit >>> 6, mask);
+            }
+        });
+        // word 구간별 비트 수로 결과 위치를 정한 뒤 구간별로 동시에 채웁니다.
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, words.length / 1024));
+        int chunkWords = (words.length + chunks - 1) / chunks;
+        int[] offsets = new int[chunks + 1];
+        IntStream.range(0, chunks).parallel().forEach(c -> offsets[c + 1] =
+                bitCount(words, Math.min(c * chunkWords, words.length), Math.min((c + 1) * chunkWords, words.length)));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        int[] result = new int[offsets[chunks]];
+        IntStream.range(0, chunks).parallel().forEach(c -> fromBits(words, min,
+                Math.min(c * chunkWords, words.length), Math.min((c + 1) * chunkWords, words.length), result, offsets[c]));
+        return result;
+    }
+
+    // ===== long =====
+
+    public static long[] distinct(long[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new long[0];
+        }
+        long min = min(values);
+        long span = max(values) - min;
+        long[] result = new long[n];
+        int size = 0;
+        if (useBitSetForSpan(span, n)) {
+            long[] words = new long[(int) ((span >>> 6) + 1)];
+            for (long value : values) {
+                long bit = value - min;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words[word] & mask) == 0) {
+                    words[word] |= mask;
+                    result[size++] = value;
+                }
+            }
+        } else {
+            LongHashSet seen = new LongHashSet(n);
+            for (long value : values) {
+                if (seen.add(value)) {
+                    result[size++] = value;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    public static long[] sortedDistinct(long[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new long[0];
+        }
+        long min = min(values);
+        long span = max(values) - min;
+        if (useBitSetForSpan(span, n)) {
+            long[] words = new long[(int) ((span >>> 6) + 1)];
+            for (long value : values) {
+                long bit = value - min;
+                words[(int) (bit >>> 6)] |= 1L << bit;
+            }
+            return fromBits(words, min, 0, words.length, new long[bitCount(words, 0, words.length)], 0);
+        }
+        long[] sorted = values.clone();
+        RadixSort.sort(sorted);
+        return Arrays.copyOf(sorted, removeAdjacentDuplicates(sorted));
+    }
+
+    public static long[] parallelSortedDistinct(long[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return new long[0];
+        }
+        long min = Arrays.stream(values).parallel().min().getAsLong();
+        long span = Arrays.stream(values).parallel().max().getAsLong() - min;
+        if (!useBitSetForSpan(span, n)) {
+            long[] sorted = values.clone();
+            RadixSort.parallelSort(sorted);
+            return Arrays.copyOf(sorted, removeAdjacentDuplicates(sorted));
+        }
+        long[] words = new long[(int) ((span >>> 6) + 1)];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            long bit = values[i] - min;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if (((long) WORDS.getOpaque(words, word) & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, word, mask);
+            }
+        });
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4, words.length / 1024));
+        int chunkWords = (words.length + chunks - 1) / chunks;
+        int[] offsets = new int[chunks + 1];
+        IntStream.range(0, chunks).parallel().forEach(c -> offsets[c + 1] =
+                bitCount(words, Math.min(c * chunkWords, words.length), Math.min((c + 1) * chunkWords, words.length)));
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        long[] result = new long[offsets[chunks]];
+        IntStream.range(0, chunks).parallel().forEach(c -> fromBits(words, min,
+                Math.min(c * chunkWords, words.length), Math.min((c + 1) * chunkWords, words.length), result, offsets[c]));
+        return result;
+    }
+
+    // ===== 공통 =====
+
+    /**
+     * 비트셋(비트 수 range)이 원소 n 개의 long 배열보다 크지 않으면 비트셋을 씁니다.
+     */
+    private static boolean useBitSet(long range, int n) {
+        return range <= 64L * n;
+    }
+
+    /**
+     * long 값은 최댓값 - 최솟값(span)이 long 을 넘쳐 음수가 될 수 있으므로 부호 없는 값으로 비교합니다.
+     */
+    private static boolean useBitSetForSpan(long span, int n) {
+        return Long.compareUnsigned(span, 64L * n - 1) <= 0;
+    }
+
+    private static int bitCount(long[] words, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count;
+    }
+
+    /**
+     * words[from, to) 의 켜진 비트를 작은 것부터 {@code min + 비트 번호}로 바꿔 result[offset..] 에 씁니다.
+     */
+    private static int[] fromBits(long[] words, int min, int from, int to, int[] result, int offset) {
+        for (int i = from; i < to; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[offset++] = min + (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private static long[] fromBits(long[] words, long min, int from, int to, long[] result, int offset) {
+        for (int i = from; i < to; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[offset++] = min + ((long) i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 배열에서 이웃한 같은 값을 지우고 앞으로 모읍니다.
+     * @return 남은 원소 수
+     */
+    private static int removeAdjacentDuplicates(int[] sorted) {
+        int size = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    private static int removeAdjacentDuplicates(long[] sorted) {
+        int size = sorted.length == 0 ? 0 : 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size;
+    }
+
+    private static int min(int[] values) {
+        int min = values[0];
+        for (int value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static int max(int[] values) {
+        int max = values[0];
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    private static long min(long[] values) {
+        long min = values[0];
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static long max(long[] values) {
+        long max = values[0];
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * 넣기만 하는 int 해시 셋. (선형 탐사, 빈 칸은 0 이므로 값 0 은 따로 표시)
+     */
+    private static final class IntHashSet {
+        private final int[] table;
+        private final int mask;
+        private boolean hasZero;
+
+        IntHashSet(int maxSize) {
+            // 원소 수를 미리 알므로 부하율 0.5 이하가 되도록 한 번에 잡아 둡니다.
+            int capacity = Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1) << 1;
+            table = new int[capacity];
+            mask = capacity - 1;
+        }
+
+        boolean add(int value) {
+            if (value == 0) {
+                boolean added = !hasZero;
+                hasZero = true;
+                return added;
+            }
+            for (int i = IntIntMap.mix(value) & mask; ; i = (i + 1) & mask) {
+                int k = table[i];
+                if (k == value) {
+                    return false;
+                }
+                if (k == 0) {
+                    table[i] = value;
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class LongHashSet {
+        private final long[] table;
+        private final int mask;
+        private boolean hasZero;
+
+        LongHashSet(int maxSize) {
+            int capacity = Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1) << 1;
+            table = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        boolean add(long value) {
+            if (value == 0) {
+                boolean added = !hasZero;
+                hasZero = true;
+                return added;
+            }
+            for (int i = LongLongMap.mix(value) & mask; ; i = (i + 1) & mask) {
+                long k = table[i];
+                if (k == value) {
+                    return false;
+                }
+                if (k == 0) {
+                    table[i] = value;
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package ex03;
+
+/**
+ * 값을 로그 크기의 구간(bucket)에 세어 분위수(중앙값, p99 등)를 근사하는 스케치.
+ *
+ * <p>정확한 분위수는 모든 값을 정렬해야 하지만, 스케치는 구간별 개수만 보관하므로 메모리가 값의 개수와 상관없이 작습니다.
+ * 구간 번호는 double 의 비트 표현에서 지수와 가수 앞 {@value #SUB_BITS}비트를 잘라 얻습니다. (로그 계산 없음)
+ * 그래서 한 구간의 폭은 값의 약 1/64 이고, 돌려주는 분위수의 상대 오차는 약 0.8% 이하입니다.</p>
+ * <ul>
+ *     <li>양수, 음수, 0 을 따로 셉니다. NaN 은 세지 않습니다.</li>
+ *     <li>구간 배열은 실제로 나온 값의 범위만큼만 늘어납니다.</li>
+ *     <li>{@link #merge(QuantileSketch)}로 합친 결과는 모든 값을 한 스케치에 넣은 결과와 같습니다. (병렬 스트림의 combiner)</li>
+ * </ul>
+ * <p>스레드 안전하지 않습니다.</p>
+ */
+public final class QuantileSketch {
+    /** 2의 거듭제곱 하나를 나누는 구간 수의 비트 수 (2^6 = 64 구간) */
+    static final int SUB_BITS = 6;
+    private static final int SHIFT = 52 - SUB_BITS;
+
+    private final Store positive = new Store();
+    private final Store negative = new Store();
+    private long zeroCount;
+
+    public void add(double value) {
+        if (value > 0) {
+            positive.add(index(value));
+        } else if (value < 0) {
+            negative.add(index(-value));
+        } else if (value == 0) {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * other 의 구간 개수를 모두 더합니다.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        positive.merge(other.positive);
+        negative.merge(other.negative);
+        zeroCount += other.zeroCount;
+        return this;
+    }
+
+    /**
+     * 센 값의 개수. (NaN 제외)
+     */
+    public long count() {
+        return positive.total + negative.total + zeroCount;
+    }
+
+    /**
+     * q 분위수의 근삿값. (0 = 최솟값, 0.5 = 중앙값, 1 = 최댓값)
+     * @return 값이 없으면 NaN
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("q must be in [0, 1]: " + q);
+        }
+        long count = count();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        // 작은 값부터 세어 rank 번째(0부터) 값이 든 구간을 찾습니다: 음수(절댓값 큰 쪽부터) → 0 → 양수
+        long rank = (long) (q * (count - 1));
+        if (rank < negative.total) {
+            return -estimate(negative.indexAt(negative.total - 1 - rank));
+        }
+        rank -= negative.total;
+        if (rank < zeroCount) {
+            return 0;
+        }
+        return estimate(positive.indexAt(rank - zeroCount));
+    }
+
+    public double median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * 차지하고 있는 대략의 바이트 수.
+     */
+    public long estimatedBytes() {
+        return 16L + 8L * (positive.counts.length + negative.counts.length);
+    }
+
+    /**
+     * 양수 x 의 구간 번호. 비트 표현이 값의 순서와 같으므로 지수와 가수 앞부분을 자르면 크기 순서의 구간 번호가 됩니다.
+     */
+    private static int index(double x) {
+        return (int) (Double.doubleToRawLongBits(x) >>> SHIFT);
+    }
+
+    /**
+     * 구간의 가운데 값.
+     */
+    private static double estimate(int index) {
+        double lower = Double.longBitsToDouble((long) index << SHIFT);
+        double upper = Double.longBitsToDouble((long) (index + 1) << SHIFT);
+        return lower + (upper - lower) / 2;
+    }
+
+    /**
+     * 구간 번호 [offset, offset + counts.length) 의 개수를 담는 배열.
+     */
+    private static final class Store {
+        private long[] counts = new long[0];
+        private int offset;
+        private long total;
+
+        void add(int index) {
+            int i = index - offset;
+            if (i < 0 || i >= counts.length) {
+                ensureRange(index, index);
+                i = index - offset;
+            }
+            counts[i]++;
+            total++;
+        }
+
+        void merge(Store other) {
+            if (other.total == 0) {
+                return;
+            }
+            int from = other.offset + firstNonZero(other.counts);
+            int to = other.offset + lastNonZero(other.counts);
+            ensureRange(from, to);
+            for (int index = from; index <= to; index++) {
+                counts[index - offset] += other.counts[index - other.offset];
+            }
+            total += other.total;
+        }
+
+        /**
+         * 작은 쪽부터 rank 번째(0부터) 값이 든 구간 번호.
+         */
+        int indexAt(long rank) {
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen > rank) {
+                    return offset + i;
+                }
+            }
+            return offset + counts.length - 1;
+        }
+
+        private void ensureRange(int from, int to) {
+            if (counts.length == 0) {
+                // 처음 나온 값 주변으로 2의 거듭제곱 하나(64 구간)만큼 잡아 둡니다.
+                offset = from - (1 << SUB_BITS) / 2;
+                counts = new long[Math.max(to - from + 1, 0) + (1 << SUB_BITS)];
+                return;
+            }
+            if (from >= offset && to < offset + counts.length) {
+                return;
+            }
+            // 모자란 쪽으로 최소 1.5배씩 늘려 자주 복사하지 않도록 합니다.
+            int grow = counts.length >> 1;
+            int newFrom = from < offset ? Math.min(from, offset - grow) : offset;
+            int end = offset + counts.length;
+            int newEnd = to >= end ? Math.max(to + 1, end + grow) : end;
+            long[] grown = new long[newEnd - newFrom];
+            System.arraycopy(counts, 0, grown, offset - newFrom, counts.length);
+            counts = grown;
+            offset = newFrom;
+        }
+
+        private static int firstNonZero(long[] counts) {
+            int i = 0;
+            while (counts[i] == 0) {
+                i++;
+            }
+            return i;
+        }
+
+        private static int lastNonZero(long[] counts) {
+            int i = counts.length - 1;
+            while (counts[i] == 0) {
+                i--;
+            }
+            return i;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (count() == 0) {
+            return "QuantileSketch{count=0}";
+        }
+        return "QuantileSketch{count=" + count() + ", p50=" + quantile(0.5) + ", p90=" + quantile(0.9)
+                + ", p99=" + quantile(0.99) + "}";
+    }
+}
@@ -0,0 +1,208 @@
+package ex03;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * int/long 배열을 비교 없이 정렬하는 LSD 기수 정렬(radix sort).
+ *
+ * <p>{@code sorted()}는 Integer 를 Comparator 로 비교하는 병합 정렬(TimSort)이고, {@code Arrays.sort(int[])}도 비교 기반(O(n log n))입니다.
+ * 기수 정렬은 값을 8비트씩 나눠 아래 자리부터 자릿값별 개수를 세고(히스토그램) 그 위치로 옮기는 일을 자리 수만큼 반복합니다.
+ * int 는 4번, long 은 8번 배열을 훑으므로 O(n) 입니다.</p>
+ * <ul>
+ *     <li>음수: 맨 위 자리에서 부호 비트를 뒤집어 세면 음수가 양수보다 앞에 옵니다.</li>
+ *     <li>모든 값의 해당 자리가 같으면(예: 작은 양수만 있을 때 위쪽 자리) 그 자리는 옮기지 않고 건너뜁니다.</li>
+ *     <li>병렬판은 배열을 구간으로 나눠 구간별 히스토그램을 동시에 세고, 구간 순서대로 위치를 정해 동시에 옮깁니다. (안정 정렬 유지)</li>
+ *     <li>입력과 같은 크기의 임시 배열이 하나 필요합니다.</li>
+ * </ul>
+ */
+public final class RadixSort {
+    private static final int BITS = 8;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+    /** 병렬판에서 구간 하나의 최소 크기. 이보다 작은 배열은 순차로 정렬합니다. */
+    private static final int MIN_CHUNK = 1 << 16;
+
+    private RadixSort() {
+    }
+
+    // ===== int =====
+
+    public static void sort(int[] values) {
+        int n = values.length;
+        int[] src = values;
+        int[] dst = new int[n];
+        int[] count = new int[RADIX];
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+            int flip = shift == Integer.SIZE - BITS ? RADIX >>> 1 : 0;
+            Arrays.fill(count, 0);
+            for (int value : src) {
+                count[(value >>> shift & MASK) ^ flip]++;
+            }
+            if (!prefixSum(count, n)) {
+                continue;
+            }
+            for (int value : src) {
+                dst[count[(value >>> shift & MASK) ^ flip]++] = value;
+            }
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != values) {
+            System.arraycopy(src, 0, values, 0, n);
+        }
+    }
+
+    public static void parallelSort(int[] values) {
+        int n = values.length;
+        int chunks = chunks(n);
+        if (chunks == 1) {
+            sort(values);
+            return;
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][RADIX];
+        int[] src = values;
+        int[] dst = new int[n];
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+            int s = shift;
+            int flip = shift == Integer.SIZE - BITS ? RADIX >>> 1 : 0;
+            int[] from = src;
+            int[] to = dst;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                for (int i = c * chunkSize, end = Math.min(i + chunkSize, n); i < end; i++) {
+                    count[(from[i] >>> s & MASK) ^ flip]++;
+                }
+            });
+            if (!chunkOffsets(counts, n)) {
+                continue;
+            }
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] offset = counts[c];
+                for (int i = c * chunkSize, end = Math.min(i + chunkSize, n); i < end; i++) {
+                    to[offset[(from[i] >>> s & MASK) ^ flip]++] = from[i];
+                }
+            });
+            src = to;
+            dst = from;
+        }
+        if (src != values) {
+            System.arraycopy(src, 0, values, 0, n);
+        }
+    }
+
+    // ===== long =====
+
+    public static void sort(long[] values) {
+        int n = values.length;
+        long[] src = values;
+        long[] dst = new long[n];
+        int[] count = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += BITS) {
+            int flip = shift == Long.SIZE - BITS ? RADIX >>> 1 : 0;
+            Arrays.fill(count, 0);
+            for (long value : src) {
+                count[((int) (value >>> shift) & MASK) ^ flip]++;
+            }
+            if (!prefixSum(count, n)) {
+                continue;
+            }
+            for (long value : src) {
+                dst[count[((int) (value >>> shift) & MASK) ^ flip]++] = value;
+            }
+            long[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        if (src != values) {
+            System.arraycopy(src, 0, values, 0, n);
+        }
+    }
+
+    public static void parallelSort(long[] values) {
+        int n = values.length;
+        int chunks = chunks(n);
+        if (chunks == 1) {
+            sort(values);
+            return;
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] counts = new int[chunks][RADIX];
+        long[] src = values;
+        long[] dst = new long[n];
+        for (int shift = 0; shift < Long.SIZE; shift += BITS) {
+            int s = shift;
+            int flip = shift == Long.SIZE - BITS ? RADIX >>> 1 : 0;
+            long[] from = src;
+            long[] to = dst;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] count = counts[c];
+                Arrays.fill(count, 0);
+                for (int i = c * chunkSize, end = Math.min(i + chunkSize, n); i < end; i++) {
+                    count[((int) (from[i] >>> s) & MASK) ^ flip]++;
+                }
+            });
+            if (!chunkOffsets(counts, n)) {
+                continue;
+            }
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int[] offset = counts[c];
+                for (int i = c * chunkSize, end = Math.min(i + chunkSize, n); i < end; i++) {
+                    to[offset[((int) (from[i] >>> s) & MASK) ^ flip]++] = from[i];
+                }
+            });
+            src = to;
+            dst = from;
+        }
+        if (src != values) {
+            System.arraycopy(src, 0, values, 0, n);
+        }
+    }
+
+    // ===== 공통 =====
+
+    /**
+     * 자릿값별 개수를 시작 위치로 바꿉니다.
+     * @return 이 자리로 옮길 필요가 있으면 true (모든 값이 한 자릿값이면 false)
+     */
+    private static boolean prefixSum(int[] count, int n) {
+        int position = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int c = count[digit];
+            if (c == n) {
+                return false;
+            }
+            count[digit] = position;
+            position += c;
+        }
+        return true;
+    }
+
+    /**
+     * 구간별 자릿값 개수를 구간별 시작 위치로 바꿉니다. 같은 자릿값이면 앞 구간의 값이 먼저 놓입니다.
+     * @return 이 자리로 옮길 필요가 있으면 true
+     */
+    private static boolean chunkOffsets(int[][] counts, int n) {
+        int position = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            int start = position;
+            for (int[] count : counts) {
+                int c = count[digit];
+                count[digit] = position;
+                position += c;
+            }
+            if (position - start == n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunks(int n) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(parallelism * 4, n / MIN_CHUNK));
+    }
+}
@@ -0,0 +1,50 @@
+package ex03;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 기본형 수집 예제: StreamEx01 의 groupingBy / partitioningBy / toMap 을 박싱 없이 수행합니다.
+ */
+public class StreamEx02 {
+    public static void main(String[] args) {
+        // StreamEx01 과 같은 결과
+        List<Integer> list = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        System.out.println("groupingBy (짝/홀수 그룹) = "
+                + PrimitiveCollectors.groupingBy(list.stream().mapToInt(Integer::intValue), i -> i % 2));
+        PrimitiveCollectors.IntPartition partition =
+                PrimitiveCollectors.partitioningBy(list.stream().mapToInt(Integer::intValue), i -> i > 5);
+        System.out.println("partitioningBy (5보다 큰지) = {false=" + partition.rejected() + ", true=" + partition.accepted() + "}");
+        System.out.println("toMap = " + PrimitiveCollectors.toMap(list.stream().mapToInt(Integer::intValue), i -> i * 100));
+
+        // 대량의 int id 를 1000 개 그룹으로 나누기: 박싱 vs 기본형
+        int size = 10_000_000;
+        long start = System.nanoTime();
+        Map<Integer, List<Integer>> boxed = IntStream.range(0, size).boxed()
+                .collect(Collectors.groupingBy(i -> i % 1000));
+        System.out.printf("groupingBy (박싱)        : %,d ms, 그룹 %d개%n", (System.nanoTime() - start) / 1_000_000, boxed.size());
+
+        start = System.nanoTime();
+        IntObjectMap<IntList> groups = PrimitiveCollectors.groupingBy(IntStream.range(0, size), i -> i % 1000);
+        System.out.printf("PrimitiveCollectors      : %,d ms, 그룹 %d개%n", (System.nanoTime() - start) / 1_000_000, groups.size());
+
+        start = System.nanoTime();
+        IntObjectMap<IntList> parallel = PrimitiveCollectors.groupingBy(IntStream.range(0, size).parallel(), i -> i % 1000);
+        System.out.printf("PrimitiveCollectors 병렬 : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000,
+                parallel.get(7).equals(groups.get(7)));
+
+        // toMap: Function.identity() 키, 값 100배
+        start = System.nanoTime();
+        Map<Integer, Integer> boxedMap = IntStream.range(0, size).boxed()
+                .collect(Collectors.toMap(Function.identity(), i -> i * 100));
+        System.out.printf("toMap (박싱)             : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        IntIntMap map = PrimitiveCollectors.toMap(IntStream.range(0, size), i -> i * 100);
+        System.out.printf("toMap (IntIntMap)        : %,d ms, map[12345]=%d (박싱 %d)%n", (System.nanoTime() - start) / 1_000_000,
+                map.get(12345, -1), boxedMap.get(12345));
+    }
+}
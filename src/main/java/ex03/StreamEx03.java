@@ -0,0 +1,87 @@
+package ex03;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 한 번의 순회로 여러 통계 구하기: StreamEx01 의 sum/average/max (세 번 순회)와 teeing 을 LongStats 하나로 대신합니다.
+ */
+public class StreamEx03 {
+    public static void main(String[] args) {
+        // StreamEx01 과 같은 값: 개수, 합계, 평균, 최댓값을 한 번에
+        List<Integer> list = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        LongStats small = LongStats.of(list.stream().mapToInt(Integer::intValue));
+        System.out.println("sum=" + small.sum() + ", avg=" + small.mean() + ", max=" + small.max() + ", count=" + small.count());
+        System.out.println(small);
+
+        // 하위 Collector 로 사용: 짝/홀수 그룹별 통계
+        Map<Integer, LongStats> byParity = list.stream()
+                .collect(Collectors.groupingBy(i -> i % 2, LongStats.summarizing(i -> i)));
+        System.out.println("groupingBy + summarizing: 짝수 평균=" + byParity.get(0).mean() + ", 홀수 평균=" + byParity.get(1).mean());
+
+        // long 합계가 넘치는 경우: LongStream.sum() 은 조용히 틀린 값, LongStats 는 정확한 값
+        LongStats big = LongStats.of(LongStream.of(Long.MAX_VALUE, Long.MAX_VALUE, 10));
+        System.out.println("LongStream.sum() = " + LongStream.of(Long.MAX_VALUE, Long.MAX_VALUE, 10).sum()
+                + ", LongStats.sum() = " + big.sum() + ", mean = " + big.mean());
+        try {
+            big.sumExact();
+        } catch (ArithmeticException e) {
+            System.out.println("sumExact() -> " + e.getMessage());
+        }
+
+        // 50M 개 응답 시간(ms): 여러 번 순회 vs 한 번 순회
+        int size = 50_000_000;
+        SplittableRandom random = new SplittableRandom(42);
+        int[] latencies = new int[size];
+        for (int i = 0; i < size; i++) {
+            // 대부분 10~60ms, 1% 는 느린 요청 (200~2200ms)
+            latencies[i] = random.nextInt(100) == 0 ? 200 + random.nextInt(2000) : 10 + random.nextInt(50);
+        }
+
+        long start = System.nanoTime();
+        long sum = IntStream.of(latencies).asLongStream().sum();
+        double avg = IntStream.of(latencies).average().orElse(0);
+        int max = IntStream.of(latencies).max().orElseThrow();
+        int min = IntStream.of(latencies).min().orElseThrow();
+        double mean = avg;
+        double variance = IntStream.of(latencies).mapToDouble(v -> (v - mean) * (v - mean)).sum() / size;
+        int[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int p99 = sorted[(int) (0.99 * (size - 1))];
+        System.out.printf("여러 번 순회 + 정렬  : %,d ms (sum=%d, avg=%.3f, min=%d, max=%d, var=%.1f, p99=%d)%n",
+                (System.nanoTime() - start) / 1_000_000, sum, avg, min, max, variance, p99);
+
+        start = System.nanoTime();
+        LongStats stats = LongStats.of(IntStream.of(latencies));
+        System.out.printf("LongStats 한 번 순회 : %,d ms (sum=%s, avg=%.3f, min=%d, max=%d, var=%.1f, p99≈%.0f)%n",
+                (System.nanoTime() - start) / 1_000_000, stats.sum(), stats.mean(), stats.min(), stats.max(),
+                stats.variance(), stats.quantile(0.99));
+
+        start = System.nanoTime();
+        LongStats parallel = LongStats.of(IntStream.of(latencies).parallel());
+        System.out.printf("LongStats 병렬       : %,d ms (같은 합계: %s, 분산 차이: %.2e)%n",
+                (System.nanoTime() - start) / 1_000_000, parallel.sum().equals(stats.sum()),
+                Math.abs(parallel.variance() - stats.variance()));
+
+        // double 값 (Kahan 보정 합)
+        DoubleStats seconds = DoubleStats.of(IntStream.of(latencies).asDoubleStream().map(v -> v / 1000.0));
+        System.out.println("DoubleStats (초 단위) = " + seconds);
+        System.out.println("0.1 을 천만 번: DoubleStream.sum()=" + DoubleStream.generate(() -> 0.1).limit(10_000_000).sum()
+                + ", 단순 누적=" + naiveSum(0.1, 10_000_000)
+                + ", DoubleStats=" + DoubleStats.of(DoubleStream.generate(() -> 0.1).limit(10_000_000)).sum());
+    }
+
+    private static double naiveSum(double value, int times) {
+        double sum = 0;
+        for (int i = 0; i < times; i++) {
+            sum += value;
+        }
+        return sum;
+    }
+}
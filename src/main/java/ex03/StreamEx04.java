@@ -0,0 +1,69 @@
+package ex03;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 정렬 없이 상위 k 개와 페이지 구하기: StreamEx01 의 sorted + skip/limit 을 TopK 와 키셋 페이징으로 대신합니다.
+ */
+public class StreamEx04 {
+
+    record Player(long id, String name, int score) {
+    }
+
+    // 점수 내림차순, 같은 점수는 id 오름차순 (원소마다 순서가 달라 키셋 페이징의 커서로 쓸 수 있음)
+    static final Comparator<Player> RANKING = Comparator.comparingInt(Player::score).reversed()
+            .thenComparingLong(Player::id);
+
+    public static void main(String[] args) {
+        // StreamEx01 과 같은 결과
+        List<Integer> list = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        System.out.println("sorted (내림차순) 상위 3개 = " + list.stream().collect(TopK.collector(3, Comparator.reverseOrder())));
+        List<Integer> first = list.stream().collect(TopK.after(null, 3, Comparator.reverseOrder()));
+        List<Integer> second = list.stream().collect(TopK.after(first.get(first.size() - 1), 3, Comparator.reverseOrder()));
+        System.out.println("키셋 페이징 = " + first + " -> " + second);
+
+        // 200만 명 리더보드
+        int size = 2_000_000;
+        SplittableRandom random = new SplittableRandom(42);
+        List<Player> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(new Player(i, "player" + i, random.nextInt(1_000_000)));
+        }
+
+        long start = System.nanoTime();
+        List<Player> top = players.stream().sorted(RANKING).limit(10).toList();
+        System.out.printf("sorted + limit(10)    : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        List<Player> topK = players.stream().collect(TopK.collector(10, RANKING));
+        System.out.printf("TopK(10)              : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000, top.equals(topK));
+
+        start = System.nanoTime();
+        List<Player> topKParallel = players.parallelStream().collect(TopK.collector(10, RANKING));
+        System.out.printf("TopK(10) 병렬         : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000, top.equals(topKParallel));
+        System.out.println("1위 = " + topK.get(0));
+
+        // 깊은 페이지 (50,000 번째 페이지, 페이지당 20명)
+        int pageSize = 20;
+        int pageNumber = 50_000;
+        start = System.nanoTime();
+        List<Player> skipPage = players.stream().sorted(RANKING).skip((long) pageNumber * pageSize).limit(pageSize).toList();
+        System.out.printf("sorted + skip/limit   : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        // 키셋 페이징: 앞 페이지의 마지막 원소(커서)만 알면 됩니다. 여기서는 skip 결과의 바로 앞 원소를 커서로 사용합니다.
+        Player cursor = players.stream().sorted(RANKING).skip((long) pageNumber * pageSize - 1).findFirst().orElseThrow();
+        start = System.nanoTime();
+        List<Player> keysetPage = players.stream().collect(TopK.after(cursor, pageSize, RANKING));
+        System.out.printf("TopK.after (키셋)     : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000, skipPage.equals(keysetPage));
+
+        // 이미 정렬해 둔 목록이면 이진 탐색으로 커서 위치를 찾습니다.
+        List<Player> ranked = players.stream().sorted(RANKING).collect(Collectors.toCollection(ArrayList::new));
+        start = System.nanoTime();
+        List<Player> sortedPage = TopK.pageAfter(ranked, cursor, pageSize, RANKING);
+        System.out.printf("TopK.pageAfter (정렬됨): %,d µs, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000, skipPage.equals(sortedPage));
+    }
+}
@@ -0,0 +1,66 @@
+package ex03;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 기본형 정렬과 중복 제거: StreamEx01 의 distinct / sorted (박싱, HashSet, Comparator 정렬)를 RadixSort 와 PrimitiveDistinct 로 대신합니다.
+ */
+public class StreamEx05 {
+    public static void main(String[] args) {
+        // StreamEx01 과 같은 결과
+        System.out.println("distinct (중복 제거) = " + Arrays.toString(PrimitiveDistinct.distinct(new int[]{1, 2, 2, 3, 3, 4})));
+        int[] numbers = {5, -3, 9, 0, -3, 7, 1};
+        RadixSort.sort(numbers);
+        System.out.println("RadixSort (음수 포함) = " + Arrays.toString(numbers));
+
+        // 사용자 id 중복 제거 + 정렬: 1천만 건, id 는 0 ~ 5백만 (범위가 좁아 비트셋 사용)
+        int size = 10_000_000;
+        SplittableRandom random = new SplittableRandom(42);
+        int[] ids = random.ints(size, 0, 5_000_000).toArray();
+
+        long start = System.nanoTime();
+        int[] boxed = Stream.of(Arrays.stream(ids).boxed().toArray(Integer[]::new)).distinct().sorted()
+                .mapToInt(Integer::intValue).toArray();
+        System.out.printf("boxed distinct + sorted        : %,d ms, %,d개%n", (System.nanoTime() - start) / 1_000_000, boxed.length);
+
+        start = System.nanoTime();
+        int[] primitive = IntStream.of(ids).distinct().sorted().toArray();
+        System.out.printf("IntStream distinct + sorted    : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        int[] bits = PrimitiveDistinct.sortedDistinct(ids);
+        System.out.printf("sortedDistinct (비트셋)        : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(boxed, bits));
+
+        start = System.nanoTime();
+        int[] parallelBits = PrimitiveDistinct.parallelSortedDistinct(ids);
+        System.out.printf("parallelSortedDistinct (비트셋): %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(primitive, parallelBits));
+
+        // 범위가 넓은 id (int 전체): 기수 정렬 후 이웃한 중복 제거
+        int[] sparse = random.ints(size).toArray();
+        start = System.nanoTime();
+        int[] sortedSparse = sparse.clone();
+        Arrays.sort(sortedSparse);
+        System.out.printf("Arrays.sort                    : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        int[] radix = sparse.clone();
+        RadixSort.sort(radix);
+        System.out.printf("RadixSort.sort                 : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(sortedSparse, radix));
+
+        start = System.nanoTime();
+        int[] parallelRadix = sparse.clone();
+        RadixSort.parallelSort(parallelRadix);
+        System.out.printf("RadixSort.parallelSort         : %,d ms, 같은 결과: %s%n", (System.nanoTime() - start) / 1_000_000,
+                Arrays.equals(sortedSparse, parallelRadix));
+
+        start = System.nanoTime();
+        int[] sparseDistinct = PrimitiveDistinct.sortedDistinct(sparse);
+        System.out.printf("sortedDistinct (기수 정렬)     : %,d ms, %,d개%n", (System.nanoTime() - start) / 1_000_000, sparseDistinct.length);
+    }
+}
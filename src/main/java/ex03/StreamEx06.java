@@ -0,0 +1,58 @@
+package ex03;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * I/O 로 막히는 map 을 가상 스레드에서 동시에 실행하기: {@code list.stream().map(id -> lookup(id))} 를 ConcurrentStreams.mapConcurrent 로 대신합니다.
+ */
+public class StreamEx06 {
+    public static void main(String[] args) throws InterruptedException {
+        List<Integer> ids = IntStream.rangeClosed(1, 200).boxed().toList();
+
+        // 1. 순차 map: 호출마다 20ms 씩 기다림
+        FakeLatencyService service = new FakeLatencyService(Duration.ofMillis(20), Duration.ofMillis(10));
+        long start = System.nanoTime();
+        List<String> sequential = ids.stream().map(service::lookup).toList();
+        System.out.printf("순차 map            : %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+
+        // 2. parallelStream: 코어 수만큼만 동시에 기다림
+        start = System.nanoTime();
+        List<String> parallel = ids.parallelStream().map(service::lookup).toList();
+        System.out.printf("parallelStream      : %,d ms (코어 %d개)%n", (System.nanoTime() - start) / 1_000_000,
+                Runtime.getRuntime().availableProcessors());
+
+        // 3. mapConcurrent: 가상 스레드로 최대 32개 동시 호출, 입력 순서 유지
+        FakeLatencyService capped = new FakeLatencyService(Duration.ofMillis(20), Duration.ofMillis(10));
+        start = System.nanoTime();
+        List<String> concurrent;
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(ids.stream(), 32, capped::lookup)) {
+            concurrent = results.toList();
+        }
+        System.out.printf("mapConcurrent(32)   : %,d ms, 순서 유지: %s, 최대 동시 호출: %d%n", (System.nanoTime() - start) / 1_000_000,
+                concurrent.equals(sequential) && parallel.equals(sequential), capped.maxInFlight());
+
+        // 4. 끝없는 상류 + findFirst: 역압으로 필요한 만큼만 호출하고, 닫을 때 남은 호출을 취소
+        FakeLatencyService unbounded = new FakeLatencyService(Duration.ofMillis(20), Duration.ofMillis(10));
+        Optional<String> found;
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(Stream.iterate(1, i -> i + 1), 8, unbounded::lookup)) {
+            found = results.filter(name -> name.endsWith("00")).findFirst();
+        }
+        Thread.sleep(50);
+        System.out.printf("무한 상류 findFirst : %s, 호출 %d번, 취소 %d번, 실행 중 %d%n",
+                found.orElseThrow(), unbounded.calls(), unbounded.cancelled(), unbounded.inFlight());
+
+        // 5. 오류 전파: 42번에서 실패하면 같은 예외를 받고, 실행 중인 나머지 호출은 취소됨
+        FakeLatencyService failing = new FakeLatencyService(Duration.ofMillis(20), Duration.ofMillis(10), id -> id == 42);
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(ids.stream(), 16, failing::lookup)) {
+            results.forEach(name -> { });
+        } catch (IllegalStateException e) {
+            Thread.sleep(50);
+            System.out.printf("오류 전파           : %s, 호출 %d번, 취소 %d번, 실행 중 %d%n",
+                    e.getMessage(), failing.calls(), failing.cancelled(), failing.inFlight());
+        }
+    }
+}
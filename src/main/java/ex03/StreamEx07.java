@@ -0,0 +1,67 @@
+package ex03;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 스트림 단계별 계측: StreamEx01 의 {@code peek(i -> System.out.print(i))} 대신 StreamProbe 로 단계별 원소 수와 시간을 잽니다.
+ * JFR 로 실행하면 ex03.StreamStage 이벤트도 기록됩니다. (-XX:StartFlightRecording=filename=stream.jfr)
+ */
+public class StreamEx07 {
+    public static void main(String[] args) {
+        List<Integer> list = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // 1. 단계별 원소 수: 짝수만 골라 제곱
+        StreamProbe probe = new StreamProbe("even-squares", StreamProbe.MetricsSink.console());
+        try (Stream<Integer> numbers = probe.source("list", list.stream())) {
+            List<Integer> squares = numbers
+                    .filter(probe.predicate("even", i -> i % 2 == 0))
+                    .map(probe.function("square", i -> i * i))
+                    .toList();
+            System.out.println("결과 = " + squares);
+        }
+
+        // 2. 단락: findFirst 는 조건을 만족하는 첫 원소에서 멈추므로 원천을 끝까지 읽지 않습니다.
+        StreamProbe firstProbe = new StreamProbe("find-first", StreamProbe.MetricsSink.console());
+        try (Stream<Integer> numbers = firstProbe.source("list", list.stream())) {
+            Optional<Integer> first = numbers
+                    .filter(firstProbe.predicate("> 5", i -> i > 5))
+                    .findFirst();
+            System.out.println("결과 = " + first.orElseThrow());
+        }
+
+        // 3. 병렬 스트림: 작업 스레드가 나눠 세어도 원소 수는 정확합니다. 64번에 한 번만 시간을 잽니다.
+        // (계측 부담은 같은 JVM 에서 비교하면 JIT 프로파일이 섞이므로 StreamBenchmark 의 probed* 로 비교합니다)
+        StreamProbe parallelProbe = new StreamProbe("parallel", StreamProbe.MetricsSink.console()).sampleEvery(64);
+        try (IntStream numbers = parallelProbe.source("range", IntStream.range(0, 10_000_000).parallel())) {
+            long sum = numbers.filter(parallelProbe.intPredicate("not x3", i -> i % 3 != 0))
+                    .map(parallelProbe.intOperator("work", StreamEx07::work))
+                    .asLongStream().sum();
+            System.out.println("합계 = " + sum);
+        }
+
+        // 4. 할당 바이트: map 에서 문자열을 만드는 단계
+        StreamProbe allocationProbe = new StreamProbe("allocation", StreamProbe.MetricsSink.console())
+                .sampleEvery(16).trackAllocations(true);
+        try (IntStream numbers = allocationProbe.source("range", IntStream.range(0, 100_000))) {
+            long length = numbers.boxed()
+                    .map(allocationProbe.function("toString", i -> "user-" + i))
+                    .mapToInt(String::length)
+                    .sum();
+            System.out.println("문자열 길이 합 = " + length);
+        }
+    }
+
+    /**
+     * 원소마다 하는 약간의 계산 (해시 섞기 몇 번).
+     */
+    private static int work(int value) {
+        int h = value;
+        for (int i = 0; i < 16; i++) {
+            h = Integer.rotateLeft(h * 0x9E3779B9, 13) ^ i;
+        }
+        return h & 0xFF;
+    }
+}
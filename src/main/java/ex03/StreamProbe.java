@@ -0,0 +1,515 @@
+package ex03;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 스트림 파이프라인의 단계별 계측. ({@code peek(i -> System.out.print(i))} 디버깅 대신)
+ *
+ * <p>단계(stage)에 이름을 붙여 감싸면, 단계마다 들어온/나간 원소 수, 걸린 시간, 스레드별 할당 바이트를 셉니다.
+ * 결과는 {@link #publish()} 때(또는 {@link #source} 스트림을 닫을 때) {@link MetricsSink}와 JFR 이벤트({@code ex03.StreamStage})로 보냅니다.</p>
+ * <ul>
+ *     <li>원소 수는 항상 정확하게 셉니다. ({@link LongAdder}, 병렬 스트림 가능)</li>
+ *     <li>시간과 할당 바이트는 {@link #sampleEvery(int)} 번에 한 번만 재고, 들어온 원소 수에 비례해 전체 값을 추정합니다.
+ *         {@code System.nanoTime()}과 할당 바이트 조회가 원소마다 수십 ns 씩 드는 것을 줄이기 위함입니다.</li>
+ *     <li>{@link #source}로 감싼 원천이 끝까지 읽히지 않았는데 파이프라인이 끝났으면 단락(short-circuit) 된 것으로 표시합니다.
+ *         ({@code findFirst}, {@code anyMatch}, {@code limit} 등) 단계별 원소 수를 보면 어느 단계에서 멈췄는지 알 수 있습니다.</li>
+ * </ul>
+ * <pre>{@code
+ * StreamProbe probe = new StreamProbe("orders", StreamProbe.MetricsSink.console()).sampleEvery(64);
+ * try (Stream<Order> orders = probe.source("load", list.stream())) {
+ *     orders.filter(probe.predicate("paid", Order::paid))
+ *           .map(probe.function("toDto", OrderDto::from))
+ *           .toList();
+ * }
+ * }</pre>
+ */
+public final class StreamProbe {
+
+    /**
+     * 단계별 측정 결과를 받는 곳. (로그, 모니터링 시스템 등)
+     */
+    @FunctionalInterface
+    public interface MetricsSink {
+        void accept(StageMetrics metrics);
+
+        /**
+         * 표준 출력으로 한 줄씩 출력합니다.
+         */
+        static MetricsSink console() {
+            return metrics -> System.out.println(metrics);
+        }
+    }
+
+    /**
+     * 한 단계의 측정 결과.
+     * @param in 단계에 들어온 원소 수 (원천이면 꺼낸 원소 수)
+     * @param out 단계를 통과한 원소 수 (filter 는 조건을 만족한 수, map 은 in 과 같음)
+     * @param sampledCalls 시간을 잰 호출 수
+     * @param estimatedNanos 단계에서 쓴 시간의 추정값 (잰 시간 × in / sampledCalls)
+     * @param estimatedAllocatedBytes 단계에서 할당한 바이트의 추정값 (할당 추적을 켰을 때만)
+     * @param shortCircuited 원천이면: 끝까지 읽히기 전에 파이프라인이 끝났는지
+     */
+    public record StageMetrics(String pipeline, String stage, long in, long out, long sampledCalls,
+                               long estimatedNanos, long estimatedAllocatedBytes, boolean shortCircuited) {
+        @Override
+        public String toString() {
+            return String.format("[%s] %-12s in=%,d out=%,d time≈%,d µs alloc≈%,d B%s", pipeline, stage, in, out,
+                    estimatedNanos / 1_000, estimatedAllocatedBytes, shortCircuited ? " (short-circuited)" : "");
+        }
+    }
+
+    @Name("ex03.StreamStage")
+    @Label("Stream Stage")
+    @Category("ex03")
+    @Description("StreamProbe 로 측정한 스트림 단계의 원소 수와 추정 시간")
+    static final class StageEvent extends Event {
+        @Label("Pipeline")
+        String pipeline;
+        @Label("Stage")
+        String stage;
+        @Label("In")
+        long in;
+        @Label("Out")
+        long out;
+        @Label("Estimated Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long estimatedNanos;
+        @Label("Estimated Allocation")
+        @DataAmount
+        long estimatedAllocatedBytes;
+        @Label("Short-circuited")
+        boolean shortCircuited;
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported() ? bean : null;
+
+    /** {@link Stage#begin()}이 표본이 아닌 호출에 돌려주는 값 */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final String pipeline;
+    private final MetricsSink sink;
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+    private int sampleEvery = 1;
+    private boolean trackAllocations;
+
+    public StreamProbe(String pipeline, MetricsSink sink) {
+        this.pipeline = Objects.requireNonNull(pipeline);
+        this.sink = Objects.requireNonNull(sink);
+    }
+
+    /**
+     * n 번 호출에 한 번만 시간(과 할당 바이트)을 잽니다. 1 이면 매번 잽니다. (기본값 1)
+     * 이후에 만드는 단계부터 적용되므로 단계를 감싸기 전에 설정하세요.
+     */
+    public StreamProbe sampleEvery(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("sampleEvery must be positive: " + n);
+        }
+        this.sampleEvery = n;
+        return this;
+    }
+
+    /**
+     * 단계에서 할당한 바이트를 {@code com.sun.management.ThreadMXBean}으로 잽니다. 지원하지 않는 JVM 에서는 무시됩니다.
+     */
+    public StreamProbe trackAllocations(boolean enabled) {
+        this.trackAllocations = enabled && THREADS != null;
+        return this;
+    }
+
+    // ===== 원천 =====
+
+    /**
+     * 원천 스트림을 감싸 꺼낸 원소 수와 단락 여부를 셉니다. 반환된 스트림을 닫으면 {@link #publish()}합니다.
+     */
+    public <T> Stream<T> source(String stage, Stream<T> stream) {
+        Source source = new Source(stage);
+        stages.add(source);
+        return StreamSupport.stream(new CountingSpliterator<>(stream.spliterator(), source), stream.isParallel())
+                .onClose(stream::close)
+                .onClose(this::publish);
+    }
+
+    public IntStream source(String stage, IntStream stream) {
+        Source source = new Source(stage);
+        stages.add(source);
+        return StreamSupport.intStream(new CountingIntSpliterator(stream.spliterator(), source), stream.isParallel())
+                .onClose(stream::close)
+                .onClose(this::publish);
+    }
+
+    // ===== 단계 =====
+
+    /**
+     * filter 에 넘길 조건을 감쌉니다. out 은 조건을 만족한 원소 수입니다.
+     */
+    public <T> Predicate<T> predicate(String stage, Predicate<? super T> predicate) {
+        Stage s = stage(stage, true);
+        return value -> {
+            long start = s.begin();
+            boolean result;
+            try {
+                result = predicate.test(value);
+            } finally {
+                s.end(start);
+            }
+            if (result) {
+                s.passed();
+            }
+            return result;
+        };
+    }
+
+    public IntPredicate intPredicate(String stage, IntPredicate predicate) {
+        Stage s = stage(stage, true);
+        return value -> {
+            long start = s.begin();
+            boolean result;
+            try {
+                result = predicate.test(value);
+            } finally {
+                s.end(start);
+            }
+            if (result) {
+                s.passed();
+            }
+            return result;
+        };
+    }
+
+    /**
+     * map 에 넘길 함수를 감쌉니다.
+     */
+    public <T, R> Function<T, R> function(String stage, Function<? super T, ? extends R> function) {
+        Stage s = stage(stage, false);
+        return value -> {
+            long start = s.begin();
+            try {
+                return function.apply(value);
+            } finally {
+                s.end(start);
+            }
+        };
+    }
+
+    public IntUnaryOperator intOperator(String stage, IntUnaryOperator operator) {
+        Stage s = stage(stage, false);
+        return value -> {
+            long start = s.begin();
+            try {
+                return operator.applyAsInt(value);
+            } finally {
+                s.end(start);
+            }
+        };
+    }
+
+    /**
+     * peek 에 넘겨 그 지점을 지나는 원소 수만 셉니다.
+     */
+    public <T> Consumer<T> counter(String stage) {
+        Stage s = stage(stage, false);
+        return value -> s.count();
+    }
+
+    public IntConsumer intCounter(String stage) {
+        Stage s = stage(stage, false);
+        return value -> s.count();
+    }
+
+    // ===== 결과 =====
+
+    /**
+     * 지금까지의 단계별 측정 결과. (단계를 만든 순서)
+     */
+    public List<StageMetrics> snapshot() {
+        List<StageMetrics> result = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            result.add(stage.metrics());
+        }
+        return result;
+    }
+
+    /**
+     * 측정 결과를 sink 와 JFR 이벤트로 보냅니다.
+     */
+    public void publish() {
+        for (StageMetrics metrics : snapshot()) {
+            sink.accept(metrics);
+            StageEvent event = new StageEvent();
+            if (event.isEnabled()) {
+                event.pipeline = metrics.pipeline();
+                event.stage = metrics.stage();
+                event.in = metrics.in();
+                event.out = metrics.out();
+                event.estimatedNanos = metrics.estimatedNanos();
+                event.estimatedAllocatedBytes = metrics.estimatedAllocatedBytes();
+                event.shortCircuited = metrics.shortCircuited();
+                event.commit();
+            }
+        }
+    }
+
+    private Stage stage(String name, boolean filtering) {
+        Stage stage = new Stage(name, filtering);
+        stages.add(stage);
+        return stage;
+    }
+
+    /**
+     * 단계 하나의 카운터.
+     *
+     * <p>원소마다 LongAdder 를 올리면 그것만으로 수 ns 가 들어 가벼운 단계에서는 계측 부담이 커집니다.
+     * 그래서 단계를 만든 스레드(순차 스트림이면 최종 연산을 실행하는 스레드)는 일반 long 필드를 올리고,
+     * 다른 스레드(병렬 스트림의 작업 스레드)만 LongAdder 를 씁니다. 최종 연산이 끝나면 작업 스레드의 기록이 보이므로
+     * 같은 스레드에서 {@link #publish()}하면 정확한 값이 됩니다.</p>
+     */
+    private class Stage {
+        final String name;
+        final boolean filtering;
+        final Thread owner = Thread.currentThread();
+        final int sampleInterval = sampleEvery;
+        long ownerIn;
+        long ownerOut;
+        final LongAdder otherIn = new LongAdder();
+        final LongAdder otherOut = new LongAdder();
+        final LongAdder sampledCalls = new LongAdder();
+        final LongAdder sampledNanos = new LongAdder();
+        final LongAdder sampledBytes = new LongAdder();
+        // 표본을 고르는 데만 쓰는 카운터입니다. 여러 스레드가 동시에 고쳐도 표본 간격만 흔들릴 뿐이라 원자적으로 다루지 않습니다.
+        int tick;
+
+        /**
+         * @param filtering 통과한 원소 수를 따로 세는 단계(filter)이면 true, 아니면 out = in
+         */
+        Stage(String name, boolean filtering) {
+            this.name = Objects.requireNonNull(name);
+            this.filtering = filtering;
+        }
+
+        void count() {
+            if (Thread.currentThread() == owner) {
+                ownerIn++;
+            } else {
+                otherIn.increment();
+            }
+        }
+
+        /**
+         * 원소 수를 세고, 표본 간격에 해당하면 시간(과 할당량) 측정을 시작합니다.
+         * 감싼 함수가 예외를 던져도 할당량 누적이 짝을 이루도록 {@link #end(long)}는 finally 에서 호출하세요.
+         * @return 시간을 재는 호출이면 시작 시각, 아니면 {@link #NOT_SAMPLED} (nanoTime 은 음수일 수도 있으므로 -1 을 쓰지 않습니다)
+         */
+        long begin() {
+            count();
+            if (++tick < sampleInterval) {
+                return NOT_SAMPLED;
+            }
+            tick = 0;
+            if (trackAllocations) {
+                sampledBytes.add(-THREADS.getCurrentThreadAllocatedBytes());
+            }
+            return System.nanoTime();
+        }
+
+        void end(long start) {
+            if (start != NOT_SAMPLED) {
+                sampledNanos.add(System.nanoTime() - start);
+                if (trackAllocations) {
+                    sampledBytes.add(THREADS.getCurrentThreadAllocatedBytes());
+                }
+                sampledCalls.increment();
+            }
+        }
+
+        void passed() {
+            if (Thread.currentThread() == owner) {
+                ownerOut++;
+            } else {
+                otherOut.increment();
+            }
+        }
+
+        long in() {
+            return ownerIn + otherIn.sum();
+        }
+
+        StageMetrics metrics() {
+            long n = in();
+            long samples = sampledCalls.sum();
+            long nanos = samples == 0 ? 0 : (long) ((double) sampledNanos.sum() * n / samples);
+            long bytes = samples == 0 || !trackAllocations ? 0 : (long) ((double) sampledBytes.sum() * n / samples);
+            long out = filtering ? ownerOut + otherOut.sum() : n;
+            return new StageMetrics(pipeline, name, n, out, samples, nanos, bytes, false);
+        }
+    }
+
+    /**
+     * 원천의 카운터. Spliterator 는 한 번에 한 스레드만 쓰므로 Spliterator 마다 일반 필드로 세고, 결과를 볼 때 합칩니다.
+     * 쪼개진 Spliterator 가 하나라도 끝까지 읽히지 않았으면 단락된 것입니다.
+     */
+    private final class Source extends Stage {
+        final List<Counted> parts = new CopyOnWriteArrayList<>();
+
+        Source(String name) {
+            super(name, false);
+        }
+
+        @Override
+        StageMetrics metrics() {
+            long n = 0;
+            boolean shortCircuited = false;
+            for (Counted part : parts) {
+                n += part.count;
+                shortCircuited |= !part.done;
+            }
+            return new StageMetrics(pipeline, name, n, n, 0, 0, 0, shortCircuited);
+        }
+    }
+
+    /**
+     * 원천 Spliterator 하나가 꺼낸 원소 수와 끝까지 읽혔는지 여부.
+     */
+    private static class Counted {
+        long count;
+        boolean done;
+    }
+
+    private static final class CountingSpliterator<T> extends Counted implements Spliterator<T>, Consumer<T> {
+        private final Spliterator<T> delegate;
+        private final Source source;
+        private Consumer<? super T> action;
+
+        CountingSpliterator(Spliterator<T> delegate, Source source) {
+            this.delegate = delegate;
+            this.source = source;
+            source.parts.add(this);
+        }
+
+        @Override
+        public void accept(T value) {
+            count++;
+            action.accept(value);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            this.action = action;
+            if (delegate.tryAdvance(this)) {
+                return true;
+            }
+            done = true;
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            this.action = action;
+            delegate.forEachRemaining(this);
+            done = true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = delegate.trySplit();
+            return prefix == null ? null : new CountingSpliterator<>(prefix, source);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+
+    private static final class CountingIntSpliterator extends Counted implements Spliterator.OfInt, IntConsumer {
+        private final Spliterator.OfInt delegate;
+        private final Source source;
+        private IntConsumer action;
+
+        CountingIntSpliterator(Spliterator.OfInt delegate, Source source) {
+            this.delegate = delegate;
+            this.source = source;
+            source.parts.add(this);
+        }
+
+        @Override
+        public void accept(int value) {
+            count++;
+            action.accept(value);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            this.action = action;
+            if (delegate.tryAdvance((IntConsumer) this)) {
+                return true;
+            }
+            done = true;
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            this.action = action;
+            delegate.forEachRemaining((IntConsumer) this);
+            done = true;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            Spliterator.OfInt prefix = delegate.trySplit();
+            return prefix == null ? null : new CountingIntSpliterator(prefix, source);
+        }
+
+        @Override
+        public long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return delegate.characteristics();
+        }
+
+        @Override
+        public Comparator<? super Integer> getComparator() {
+            return delegate.getComparator();
+        }
+    }
+}
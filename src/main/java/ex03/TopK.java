@@ -0,0 +1,173 @@
+package ex03;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * 정렬 순서로 앞쪽 k 개만 남기는 집계기. ({@code sorted(order).limit(k)} 대신)
+ *
+ * <p>{@code sorted()}는 n 개 전체를 정렬(O(n log n))하고 메모리에 모두 담지만, TopK 는 크기 k 의 힙만 유지합니다. (O(n log k))
+ * 힙의 맨 위에는 지금까지 남긴 것 중 가장 뒤 순서의 원소가 있어, 새 원소가 그보다 앞이면 바꾸고 아니면 버립니다.</p>
+ * <ul>
+ *     <li>순서가 같은 원소는 먼저 나온 것을 남깁니다. 그래서 결과가 {@code sorted(order).limit(k)}와 정확히 같습니다.</li>
+ *     <li>{@link #merge(TopK)}로 합칠 수 있어 {@code parallel()} 스트림에서도 같은 결과를 냅니다.</li>
+ *     <li>{@link #after(Object, int, Comparator)}는 키셋 페이징입니다: 이전 페이지의 마지막 원소 뒤부터 k 개를 돌려주므로 skip 이 필요 없습니다.</li>
+ * </ul>
+ * <p>스레드 안전하지 않습니다.</p>
+ *
+ * @param <T> 원소 타입
+ */
+public final class TopK<T> {
+    private final int k;
+    private final Comparator<? super T> order;
+    // 최대 힙 (order 기준으로 가장 뒤인 원소가 0번). 같은 순서는 나온 순번(sequences)이 큰 쪽이 뒤입니다.
+    private final Object[] elements;
+    private final long[] sequences;
+    private int size;
+    private long nextSequence;
+
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+        this.k = k;
+        this.order = Objects.requireNonNull(order);
+        this.elements = new Object[k];
+        this.sequences = new long[k];
+    }
+
+    /**
+     * {@code sorted(order).limit(k).toList()}와 같은 결과를 내는 Collector.
+     */
+    public static <T> Collector<T, ?, List<T>> collector(int k, Comparator<? super T> order) {
+        return Collector.of(() -> new TopK<T>(k, order), TopK::offer, TopK::merge, TopK::toList);
+    }
+
+    /**
+     * 키셋 페이징: order 기준으로 cursor 보다 뒤인 원소 중 앞쪽 k 개. cursor 가 null 이면 첫 페이지입니다.
+     * <p>다음 페이지는 이번 페이지의 마지막 원소를 cursor 로 넘겨 구합니다.
+     * order 는 원소마다 달라야 합니다. (예: 점수 다음에 id 로 비교) 같은 순서의 원소가 있으면 페이지 경계에서 건너뛸 수 있습니다.</p>
+     */
+    public static <T> Collector<T, ?, List<T>> after(T cursor, int k, Comparator<? super T> order) {
+        if (cursor == null) {
+            return collector(k, order);
+        }
+        return Collector.of(() -> new TopK<T>(k, order),
+                (topK, element) -> {
+                    if (order.compare(element, cursor) > 0) {
+                        topK.offer(element);
+                    }
+                },
+                TopK::merge, TopK::toList);
+    }
+
+    /**
+     * 이미 order 로 정렬된 목록의 키셋 페이징. 이진 탐색으로 cursor 위치를 찾으므로 O(log n + k) 입니다.
+     * (ArrayList 처럼 임의 접근이 빠른 목록이어야 합니다)
+     */
+    public static <T> List<T> pageAfter(List<? extends T> sorted, T cursor, int k, Comparator<? super T> order) {
+        int from = 0;
+        if (cursor != null) {
+            int index = Collections.binarySearch(sorted, cursor, order);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        return List.copyOf(sorted.subList(from, Math.min(from + k, sorted.size())));
+    }
+
+    public void offer(T element) {
+        long sequence = nextSequence++;
+        offer(element, sequence);
+    }
+
+    private void offer(T element, long sequence) {
+        if (size < k) {
+            siftUp(size++, element, sequence);
+        } else if (k > 0 && compare(element, sequence, 0) < 0) {
+            siftDown(0, element, sequence);
+        }
+    }
+
+    /**
+     * other 가 이 집계기 뒤에 나온 원소들을 모은 것으로 보고 합칩니다. (병렬 스트림의 combiner)
+     */
+    public TopK<T> merge(TopK<T> other) {
+        // other 의 원소는 모두 이쪽 원소보다 뒤에 나왔으므로 순번을 뒤로 밀어서 넣습니다.
+        long base = nextSequence;
+        for (int i = 0; i < other.size; i++) {
+            offer(other.element(i), base + other.sequences[i]);
+        }
+        nextSequence += other.nextSequence;
+        return this;
+    }
+
+    /**
+     * 남긴 원소를 order 순서로 돌려줍니다.
+     */
+    public List<T> toList() {
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, (a, b) -> compare(element(a), sequences[a], b));
+        List<T> result = new ArrayList<>(size);
+        for (int index : indexes) {
+            result.add(element(index));
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(int index) {
+        return (T) elements[index];
+    }
+
+    /**
+     * (element, sequence) 와 index 칸의 원소를 비교합니다. 음수이면 element 가 앞 순서입니다.
+     */
+    private int compare(T element, long sequence, int index) {
+        int result = order.compare(element, element(index));
+        return result != 0 ? result : Long.compare(sequence, sequences[index]);
+    }
+
+    private void siftUp(int index, T element, long sequence) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(element, sequence, parent) <= 0) {
+                break;
+            }
+            elements[index] = elements[parent];
+            sequences[index] = sequences[parent];
+            index = parent;
+        }
+        elements[index] = element;
+        sequences[index] = sequence;
+    }
+
+    private void siftDown(int index, T element, long sequence) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && compare(element(right), sequences[right], child) > 0) {
+                child = right;
+            }
+            if (compare(element, sequence, child) >= 0) {
+                break;
+            }
+            elements[index] = elements[child];
+            sequences[index] = sequences[child];
+            index = child;
+        }
+        elements[index] = element;
+        sequences[index] = sequence;
+    }
+}
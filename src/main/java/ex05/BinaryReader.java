@@ -0,0 +1,132 @@
+package ex05;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link BinaryWriter}가 기록한 바이너리 형식을 읽는 reader.
+ *
+ * <p>ByteBuffer 의 position 을 바꾸지 않고 자체 위치로 절대 위치 읽기만 하므로,
+ * 같은 버퍼 위에 여러 reader(또는 플라이웨이트 뷰)를 만들어도 서로 간섭하지 않습니다.
+ * {@link #skipString()}으로 문자열을 디코딩하지 않고 건너뛸 수 있어, 객체를 만들지 않고 필요한 필드만 읽을 수 있습니다.</p>
+ */
+public final class BinaryReader {
+    private final ByteBuffer buffer;
+    private int position;
+    private byte[] scratch;
+
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+    }
+
+    public BinaryReader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public BinaryReader position(int position) {
+        this.position = position;
+        return this;
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.limit();
+    }
+
+    public int readByte() {
+        return buffer.get(position++) & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get(position++);
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("malformed varint at " + position);
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if ((value >>> 32) != 0) {
+            throw new IllegalStateException("varint overflows int: " + value);
+        }
+        return (int) value;
+    }
+
+    public int readSignedVarInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Integer readNullableInt() {
+        long value = readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        int zigzag = (int) (value - 1);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    public String readString() {
+        int length = stringLength();
+        if (length < 0) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            // 힙 버퍼는 내부 배열에서 바로 디코딩합니다. (복사 없음)
+            value = new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        } else {
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(64, length)];
+            }
+            buffer.get(position, scratch, 0, length);
+            value = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        position += length;
+        return value;
+    }
+
+    /**
+     * 문자열을 디코딩하지 않고 건너뜁니다.
+     */
+    public BinaryReader skipString() {
+        int length = stringLength();
+        if (length > 0) {
+            position += length;
+        }
+        return this;
+    }
+
+    /**
+     * 다음 문자열이 주어진 UTF-8 바이트와 같은지 String 을 만들지 않고 비교한 뒤 건너뜁니다.
+     */
+    public boolean stringEquals(byte[] utf8) {
+        int length = stringLength();
+        boolean equal = length == utf8.length;
+        for (int i = 0; equal && i < length; i++) {
+            equal = buffer.get(position + i) == utf8[i];
+        }
+        if (length > 0) {
+            position += length;
+        }
+        return equal;
+    }
+
+    private int stringLength() {
+        return readVarInt() - 1;
+    }
+}
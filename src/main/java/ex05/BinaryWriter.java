@@ -0,0 +1,107 @@
+package ex05;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 간결한 바이너리 형식을 쓰는 writer. 읽기는 {@link BinaryReader}를 사용합니다.
+ *
+ * <ul>
+ *     <li>정수: 가변 길이 정수(varint, LEB128). 작은 값일수록 짧게(1~5/10 바이트) 기록합니다.
+ *         부호 있는 값은 zigzag 인코딩으로 -1, 1 같은 작은 음수도 짧게 기록합니다.</li>
+ *     <li>nullable 정수(Integer): 0 은 null, 그 외에는 zigzag(값) + 1.</li>
+ *     <li>문자열: varint(UTF-8 바이트 길이 + 1) 뒤에 UTF-8 바이트. 길이 0 은 null 을 뜻합니다.</li>
+ * </ul>
+ * 내부 바이트 배열을 재사용하므로 {@link #reset()} 후 다시 쓰면 추가 할당이 없습니다. 한 스레드에서만 사용하세요.
+ */
+public final class BinaryWriter {
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public BinaryWriter writeVarInt(int value) {
+        return writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public BinaryWriter writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeSignedVarInt(int value) {
+        return writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public BinaryWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeNullableInt(Integer value) {
+        if (value == null) {
+            return writeVarLong(0);
+        }
+        int v = value;
+        return writeVarLong((((v << 1) ^ (v >> 31)) & 0xFFFFFFFFL) + 1);
+    }
+
+    public BinaryWriter writeByte(int value) {
+        ensure(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    /**
+     * 문자열을 길이 접두어와 UTF-8 바이트로 기록합니다. 중간 byte[] 없이 버퍼에 바로 인코딩합니다.
+     */
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarLong(0);
+        }
+        int length = Utf8.length(value);
+        writeVarLong(length + 1L);
+        ensure(length);
+        position = Utf8.encode(value, buffer, position);
+        return this;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public BinaryWriter reset() {
+        position = 0;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    public void writeTo(ByteBuffer target) {
+        target.put(buffer, 0, position);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, position);
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + bytes));
+        }
+    }
+}
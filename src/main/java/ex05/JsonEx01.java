@@ -0,0 +1,35 @@
+package ex05;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 직렬화 예제 1: JsonWriter 로 할당 없이 JSON 쓰기
+ * 필드 이름은 상수로 미리 인코딩해 두고, 값은 재사용하는 버퍼에 바이트로 바로 기록합니다.
+ */
+public class JsonEx01 {
+    // 필드 이름은 한 번만 인코딩하여 재사용합니다.
+    private static final byte[] ID = JsonWriter.name("id");
+    private static final byte[] NAME = JsonWriter.name("name");
+    private static final byte[] TAGS = JsonWriter.name("tags");
+
+    public static void main(String[] args) {
+        // 1. ByteBuffer 에 쓰기 (버퍼는 요청마다 clear() 하여 재사용할 수 있습니다)
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        JsonWriter json = new JsonWriter(buffer);
+        json.beginObject()
+                .field(ID, 1)
+                .field(NAME, "홍길동 \"hong\"")
+                .name(TAGS).array(List.of("a", "b"), JsonWriter::value)
+                .endObject()
+                .flush();
+        buffer.flip();
+        System.out.println(StandardCharsets.UTF_8.decode(buffer)); // {"id":1,"name":"홍길동 \"hong\"","tags":["a","b"]}
+
+        // 2. OutputStream 에 쓰기 (버퍼가 차면 자동으로 내보냄)
+        json.reset(System.out);
+        json.beginArray().value(1).value(2L).value(true).nullValue().endArray().flush();
+        System.out.println();
+    }
+}
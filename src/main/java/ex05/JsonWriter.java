@@ -0,0 +1,398 @@
+package ex05;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 재사용 가능한 바이트 버퍼에 JSON 을 직접 기록하는 스트리밍 writer.
+ *
+ * <p>toString() 처럼 문자열을 이어 붙여 중간 String 을 만드는 대신, 값을 UTF-8 바이트로 바로 버퍼에 씁니다.
+ * 필드 이름은 {@link #name(String)}으로 미리 인코딩해 두고 재사용하며, 숫자도 String 변환 없이 자릿수를 직접 기록합니다.
+ * 따라서 객체를 쓰는 동안 추가 할당이 없습니다. 버퍼가 가득 차면 대상(OutputStream 또는 ByteBuffer)으로 내보냅니다.</p>
+ *
+ * <pre>
+ * private static final byte[] ID = JsonWriter.name("id");
+ *
+ * JsonWriter json = new JsonWriter(out);
+ * json.beginObject().field(ID, 1).endObject().flush();   // {"id":1}
+ * </pre>
+ *
+ * <p>쉼표는 자동으로 넣습니다. 한 스레드에서만 사용하세요.</p>
+ */
+public final class JsonWriter {
+    private static final int MAX_DEPTH = 64;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_INT = "-2147483648".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] buffer;
+    private int position;
+    private OutputStream out;
+    private ByteBuffer target;
+
+    // 깊이별로 "아직 값이 하나도 없음" 여부를 비트로 기록하여 쉼표 삽입을 결정합니다.
+    private long emptyBits = 1L;
+    private int depth;
+    private boolean afterName;
+
+    /**
+     * OutputStream 으로 내보내는 writer. (버퍼 8KB)
+     */
+    public JsonWriter(OutputStream out) {
+        this(8192);
+        this.out = Objects.requireNonNull(out);
+    }
+
+    /**
+     * ByteBuffer 에 기록하는 writer. 버퍼가 부족하면 {@link java.nio.BufferOverflowException}이 발생합니다.
+     */
+    public JsonWriter(ByteBuffer target) {
+        this(8192);
+        this.target = Objects.requireNonNull(target);
+    }
+
+    private JsonWriter(int bufferSize) {
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * 다른 대상으로 다시 쓰기 위해 writer 를 초기화합니다. 내부 버퍼는 재사용됩니다.
+     */
+    public JsonWriter reset(OutputStream out) {
+        flush();
+        this.out = Objects.requireNonNull(out);
+        this.target = null;
+        clearState();
+        return this;
+    }
+
+    /**
+     * 다른 대상으로 다시 쓰기 위해 writer 를 초기화합니다. 내부 버퍼는 재사용됩니다.
+     */
+    public JsonWriter reset(ByteBuffer target) {
+        flush();
+        this.target = Objects.requireNonNull(target);
+        this.out = null;
+        clearState();
+        return this;
+    }
+
+    /**
+     * 필드 이름을 {@code "name":} 형태의 바이트로 미리 인코딩합니다. 상수로 보관하여 재사용하세요.
+     */
+    public static byte[] name(String name) {
+        JsonWriter writer = new JsonWriter(name.length() * 6 + 3);
+        writer.writeQuoted(name);
+        writer.writeByte(':');
+        byte[] bytes = new byte[writer.position];
+        System.arraycopy(writer.buffer, 0, bytes, 0, writer.position);
+        return bytes;
+    }
+
+    // ===== 구조 =====
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        writeByte('{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        pop();
+        writeByte('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        writeByte('[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        pop();
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * 미리 인코딩된 필드 이름을 씁니다. 다음에 값을 써야 합니다.
+     */
+    public JsonWriter name(byte[] encodedName) {
+        beforeValue();
+        writeBytes(encodedName);
+        afterName = true;
+        return this;
+    }
+
+    // ===== 값 =====
+
+    public JsonWriter value(String value) {
+        beforeValue();
+        if (value == null) {
+            writeBytes(NULL);
+        } else {
+            writeQuoted(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(int value) {
+        beforeValue();
+        writeInt(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    public JsonWriter value(Integer value) {
+        return value == null ? nullValue() : value(value.intValue());
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        writeBytes(NULL);
+        return this;
+    }
+
+    // ===== 필드 (이름 + 값) =====
+
+    public JsonWriter field(byte[] encodedName, String value) {
+        return name(encodedName).value(value);
+    }
+
+    public JsonWriter field(byte[] encodedName, int value) {
+        return name(encodedName).value(value);
+    }
+
+    public JsonWriter field(byte[] encodedName, long value) {
+        return name(encodedName).value(value);
+    }
+
+    public JsonWriter field(byte[] encodedName, Integer value) {
+        return name(encodedName).value(value);
+    }
+
+    public JsonWriter field(byte[] encodedName, boolean value) {
+        return name(encodedName).value(value);
+    }
+
+    /**
+     * 목록의 각 원소를 주어진 방법으로 써서 JSON 배열로 만듭니다. 원소마다 버퍼가 차면 바로 내보내므로
+     * 목록 전체를 메모리에 문자열로 만들지 않습니다.
+     */
+    public <T> JsonWriter array(Iterable<? extends T> values, ValueWriter<? super T> valueWriter) {
+        beginArray();
+        for (T value : values) {
+            if (value == null) {
+                nullValue();
+            } else {
+                valueWriter.write(this, value);
+            }
+        }
+        return endArray();
+    }
+
+    /**
+     * 버퍼에 남은 내용을 대상으로 내보냅니다.
+     */
+    public JsonWriter flush() {
+        drain();
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 객체 하나를 JsonWriter 에 쓰는 방법.
+     */
+    @FunctionalInterface
+    public interface ValueWriter<T> {
+        void write(JsonWriter writer, T value);
+    }
+
+    // ===== 내부 구현 =====
+
+    private void clearState() {
+        emptyBits = 1L;
+        depth = 0;
+        afterName = false;
+    }
+
+    private void push() {
+        if (++depth >= MAX_DEPTH) {
+            throw new IllegalStateException("nesting too deep");
+        }
+        emptyBits |= 1L << depth;
+    }
+
+    private void pop() {
+        if (depth == 0) {
+            throw new IllegalStateException("no open object or array");
+        }
+        depth--;
+        afterName = false;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        long bit = 1L << depth;
+        if ((emptyBits & bit) != 0) {
+            emptyBits &= ~bit;
+        } else if (depth > 0) {
+            writeByte(',');
+        }
+    }
+
+    private void writeQuoted(String value) {
+        writeByte('"');
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    writeByte('\\');
+                    writeByte(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    writeByte(c);
+                }
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?'); // 짝이 없는 서로게이트 (String.getBytes 와 같은 처리)
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeControl(char c) {
+        switch (c) {
+            case '\n' -> { writeByte('\\'); writeByte('n'); }
+            case '\r' -> { writeByte('\\'); writeByte('r'); }
+            case '\t' -> { writeByte('\\'); writeByte('t'); }
+            default -> {
+                ensure(6);
+                buffer[position++] = '\\';
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    private void writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            writeBytes(MIN_INT);
+            return;
+        }
+        writeLong(value);
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private void writeByte(int b) {
+        ensure(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (bytes.length > buffer.length) {
+            drain();
+            sink(bytes, bytes.length);
+            return;
+        }
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensure(int bytes) {
+        if (position + bytes > buffer.length) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (position > 0) {
+            sink(buffer, position);
+            position = 0;
+        }
+    }
+
+    private void sink(byte[] bytes, int length) {
+        if (target != null) {
+            target.put(bytes, 0, length);
+        } else if (out != null) {
+            try {
+                out.write(bytes, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            throw new IllegalStateException("buffer too small for pre-encoded name");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package ex05;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 내용의 문자열을 하나의 인스턴스로 합쳐 주는 크기 제한 풀.
+ *
+ * <p>"1학년 3반", "수학" 처럼 수백만 행에 반복되는 값은 행마다 별도의 String 으로 메모리에 올라옵니다.
+ * {@link #intern(String)}은 풀에 같은 내용의 문자열이 있으면 그 인스턴스를 돌려주므로, 새로 만든 문자열은 바로 GC 대상이 됩니다.</p>
+ *
+ * <p>{@link String#intern()}과 달리 크기가 정해져 있습니다. 슬롯은 해시로 정해지는 2개짜리 묶음이며,
+ * 둘 다 차 있으면 오래된 쪽을 버립니다. (크기 기반 제거) 따라서 자주 나오는 값은 남고, 한 번만 나오는 값은 곧 밀려납니다.
+ * 잠금 없이 동작하며, 경쟁 상황에서 중복 제거를 한 번 놓칠 수는 있지만 잘못된 문자열을 돌려주지는 않습니다.</p>
+ */
+public final class StringPool {
+    private static final StringPool SHARED = new StringPool(1 << 14, 64);
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @param capacity 최대 보관 개수 (2의 거듭제곱으로 올림)
+     * @param maxLength 이보다 긴 문자열은 풀에 넣지 않습니다. (긴 값은 반복될 가능성이 낮고 풀을 오래 차지합니다)
+     */
+    public StringPool(int capacity, int maxLength) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 애플리케이션 전체에서 함께 쓰는 풀. (16,384개, 64자 이하)
+     */
+    public static StringPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * 같은 내용의 문자열이 풀에 있으면 그것을, 없으면 value 를 풀에 넣고 그대로 돌려줍니다.
+     * @param value null 이면 null 을 돌려줍니다.
+     */
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        int hash = value.hashCode();
+        int first = (hash ^ (hash >>> 16)) & mask & ~1;
+        int second = first + 1;
+
+        String cached = slots.get(first);
+        if (cached != null && (cached == value || cached.equals(value))) {
+            return hit(cached, value);
+        }
+        String older = slots.get(second);
+        if (older != null && (older == value || older.equals(value))) {
+            // 자주 쓰이는 값을 앞 슬롯으로 옮겨 덜 쓰인 값이 먼저 밀려나게 합니다.
+            slots.set(second, cached);
+            slots.set(first, older);
+            return hit(older, value);
+        }
+        misses.increment();
+        if (cached != null) {
+            slots.set(second, cached);
+        }
+        slots.set(first, value);
+        return value;
+    }
+
+    private String hit(String cached, String value) {
+        hits.increment();
+        if (cached != value) {
+            bytesSaved.add(estimatedBytes(value));
+        }
+        return cached;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 풀에서 찾은 값 비율 (0.0 ~ 1.0)
+     */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    /**
+     * 중복 인스턴스 대신 풀의 인스턴스를 돌려주어 GC 할 수 있게 된 메모리의 추정치.
+     * (압축 참조를 쓰는 64비트 JVM 기준: String 24바이트 + 배열 헤더 16바이트 + 내용, 8바이트 정렬)
+     */
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * 통계를 0 으로 되돌립니다. 풀의 내용은 그대로 둡니다.
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        bytesSaved.reset();
+    }
+
+    static long estimatedBytes(String value) {
+        int length = value.length();
+        int bytesPerChar = 1;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) { // Latin-1 로 표현할 수 없으면 UTF-16 (compact strings)
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + ((16L + (long) length * bytesPerChar + 7) & ~7L);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringPool{capacity=%,d, hits=%,d, misses=%,d, hitRate=%.1f%%, bytesSaved=%,d}",
+                slots.length(), hits(), misses(), hitRate() * 100, bytesSaved());
+    }
+}
@@ -0,0 +1,113 @@
+package ex01;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 목록과 댓글을 수정해도 게시글 버전이 올라 DtoCache 가 새 DetailDto 를 돌려주는지 확인합니다.
+ */
+class BoardVersionTest {
+
+    @Test
+    void replyListChangesBumpVersion() {
+        Board board = board("댓글1", "댓글2", "댓글3");
+        assertBumps(board, () -> board.getReplies().add(new Reply(9, "추가")));
+        assertBumps(board, () -> board.addReply(new Reply(10, "추가2")));
+        assertBumps(board, () -> board.getReplies().set(0, new Reply(11, "교체")));
+        assertBumps(board, () -> board.getReplies().remove(0));
+        assertBumps(board, () -> board.removeReply(board.getReplies().get(0)));
+        assertBumps(board, () -> board.getReplies().subList(0, 1).clear());
+        assertBumps(board, () -> {
+            Iterator<Reply> it = board.getReplies().iterator();
+            it.next();
+            it.remove();
+        });
+        assertBumps(board, () -> board.getReplies().clear());
+        assertTrue(board.getReplies().isEmpty());
+    }
+
+    @Test
+    void replySettersBumpOwningBoard() {
+        Board board = board("댓글1", "댓글2");
+        Reply reply = board.getReplies().get(1);
+        assertBumps(board, () -> reply.setComment("수정"));
+        assertBumps(board, () -> reply.setId(100));
+
+        board.removeReply(reply);
+        int version = board.getVersion();
+        reply.setComment("삭제된 뒤 수정");
+        assertEquals(version, board.getVersion());
+    }
+
+    @Test
+    void setRepliesCopiesTheList() {
+        List<Reply> replies = new ArrayList<>(List.of(new Reply(1, "a"), new Reply(2, "b")));
+        Board board = new Board();
+        board.setReplies(replies);
+        replies.add(new Reply(3, "c"));
+        assertEquals(2, board.getReplies().size());
+        assertBumps(board, () -> replies.get(0).setComment("게시글에 연결된 댓글"));
+
+        board.setReplies(board.getReplies());
+        assertEquals(2, board.getReplies().size());
+    }
+
+    @Test
+    void cacheReturnsFreshDetailAfterEdits() {
+        Board board = board("댓글1", "댓글2", "댓글3");
+        DtoCache<Board, DetailDto> cache = new DtoCache<>(10, DetailDto::new);
+        assertEquals(List.of("댓글1", "댓글2"), cache.get(board).getComments());
+        assertEquals(1, cache.hits() + cache.misses());
+
+        board.getReplies().add(0, new Reply(0, "새 댓글"));
+        assertEquals(List.of("새 댓글", "댓글1"), cache.get(board).getComments());
+        board.getReplies().get(1).setComment("수정된 댓글");
+        assertEquals(List.of("새 댓글", "수정된 댓글"), cache.get(board).getComments());
+        board.removeReply(board.getReplies().get(0));
+        assertEquals(List.of("수정된 댓글", "댓글2"), cache.get(board).getComments());
+        assertEquals(List.of("수정된 댓글", "댓글2"), cache.get(board).getComments());
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    void deserializedRepliesAreAttachedAgain() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(board("댓글1", "댓글2"));
+        }
+        Board copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (Board) in.readObject();
+        }
+        assertEquals(2, copy.getReplies().size());
+        assertBumps(copy, () -> copy.getReplies().get(0).setComment("역직렬화 뒤 수정"));
+        assertBumps(copy, () -> copy.addReply(new Reply(3, "댓글3")));
+    }
+
+    private static void assertBumps(Board board, Runnable change) {
+        int before = board.getVersion();
+        change.run();
+        assertNotEquals(before, board.getVersion());
+    }
+
+    private static Board board(String... comments) {
+        Board board = new Board();
+        board.setId(1);
+        board.setTitle("제목");
+        for (int i = 0; i < comments.length; i++) {
+            board.addReply(new Reply(i + 1, comments[i]));
+        }
+        return board;
+    }
+}
@@ -0,0 +1,193 @@
+package ex01;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * EntityBinary 왕복(인코딩 → 디코딩) 테스트와, UserView/BoardView 가 디코딩한 엔티티와 같은 값을 읽는지 확인합니다.
+ */
+class EntityBinaryTest {
+
+    /** 한글, 이모지(보충 평면, 서로게이트 쌍), 음악 기호 등 UTF-8 로 2~4바이트가 되는 문자 */
+    private static final String NON_BMP = "가나다 😀🎉 𝄞 𠜎";
+
+    private static final Integer[] IDS = {null, 0, 1, -1, 63, 64, -64, -65, 127, 128, Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    @Test
+    void userRoundTrip() {
+        for (Integer id : IDS) {
+            assertUserRoundTrip(user(id, "name" + id, "name" + id + "@gmail.com", "pw"));
+        }
+        assertUserRoundTrip(user(1, null, null, null));
+        assertUserRoundTrip(user(2, "", "", ""));
+        assertUserRoundTrip(user(3, NON_BMP, NON_BMP + "@example.com", NON_BMP));
+        assertUserRoundTrip(user(4, "x".repeat(100_000), "y", "z"));
+    }
+
+    @Test
+    void replyRoundTrip() {
+        for (Integer id : IDS) {
+            Reply reply = new Reply(id, "댓글" + id);
+            BinaryWriter out = new BinaryWriter();
+            EntityBinary.write(out, reply);
+            assertReplyEquals(reply, EntityBinary.readReply(new BinaryReader(out.toByteArray())));
+        }
+        BinaryWriter out = new BinaryWriter();
+        EntityBinary.write(out, new Reply(null, null));
+        EntityBinary.write(out, new Reply(Integer.MIN_VALUE, NON_BMP));
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertReplyEquals(new Reply(null, null), EntityBinary.readReply(in));
+        assertReplyEquals(new Reply(Integer.MIN_VALUE, NON_BMP), EntityBinary.readReply(in));
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void boardRoundTrip() {
+        assertBoardRoundTrip(board(null, null, null, 0));
+        assertBoardRoundTrip(board(Integer.MAX_VALUE, NON_BMP, NON_BMP, 1));
+        assertBoardRoundTrip(board(Integer.MIN_VALUE, "제목", "", 300));
+
+        Board withNullReply = board(7, "제목", "내용", 2);
+        withNullReply.getReplies().add(new Reply(null, null));
+        assertBoardRoundTrip(withNullReply);
+    }
+
+    @Test
+    void recordsAreConcatenated() {
+        BinaryWriter out = new BinaryWriter(16);
+        List<User> users = new ArrayList<>();
+        for (Integer id : IDS) {
+            User user = user(id, id == null ? null : NON_BMP + id, "e" + id, id == null ? null : "pw");
+            users.add(user);
+            EntityBinary.write(out, user);
+        }
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        for (User expected : users) {
+            assertUserEquals(expected, EntityBinary.readUser(in));
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void userViewReadsSameFieldsAsDecodedUser() {
+        BinaryWriter out = new BinaryWriter();
+        List<User> users = new ArrayList<>();
+        for (Integer id : IDS) {
+            User user = user(id, id == null ? null : "이름" + id, id == null ? null : NON_BMP + id + "@gmail.com", "pw" + id);
+            users.add(user);
+            EntityBinary.write(out, user);
+        }
+        byte[] bytes = out.toByteArray();
+        BinaryReader in = new BinaryReader(bytes);
+        EntityBinary.UserView view = new EntityBinary.UserView(ByteBuffer.wrap(bytes));
+        for (int i = 0; i < users.size(); i++) {
+            User decoded = EntityBinary.readUser(in);
+            assertEquals(decoded.getId(), view.id());
+            assertEquals(decoded.getName(), view.name());
+            assertEquals(decoded.getEmail(), view.email());
+            if (decoded.getEmail() != null) {
+                assertTrue(view.emailEquals(decoded.getEmail().getBytes(StandardCharsets.UTF_8)));
+                assertFalse(view.emailEquals((decoded.getEmail() + "x").getBytes(StandardCharsets.UTF_8)));
+            }
+            UserDto3 dto = view.toUserDto3();
+            assertEquals(decoded.getId(), dto.getId());
+            assertEquals(decoded.getName(), dto.getUserName());
+            assertEquals(decoded.getEmail(), dto.getEmail());
+            assertEquals(i < users.size() - 1, view.next());
+        }
+    }
+
+    @Test
+    void boardViewReadsSameFieldsAsDecodedBoard() {
+        BinaryWriter out = new BinaryWriter();
+        List<Integer> offsets = new ArrayList<>();
+        int[] replyCounts = {0, 1, 2, 5, 200};
+        for (int i = 0; i < replyCounts.length; i++) {
+            offsets.add(out.size());
+            EntityBinary.write(out, board(i == 0 ? null : IDS[i + 1], i == 1 ? null : "제목 " + NON_BMP + i, "내용" + i, replyCounts[i]));
+        }
+        byte[] bytes = out.toByteArray();
+        BinaryReader in = new BinaryReader(bytes);
+        EntityBinary.BoardView view = new EntityBinary.BoardView(ByteBuffer.wrap(bytes));
+        for (int offset : offsets) {
+            Board decoded = EntityBinary.readBoard(in);
+            view.moveTo(offset);
+            assertEquals(decoded.getId(), view.id());
+            assertEquals(decoded.getTitle(), view.title());
+            assertEquals(decoded.getReplies().size(), view.replyCount());
+            for (int limit : new int[]{0, 1, 3, Integer.MAX_VALUE}) {
+                DetailDto dto = view.toDetailDto(limit);
+                assertEquals(decoded.getId(), dto.getBoardId());
+                assertEquals(decoded.getTitle(), dto.getTitle());
+                assertEquals(decoded.getContent(), dto.getContent());
+                assertEquals(decoded.getReplies().stream().map(Reply::getComment).limit(limit).toList(), dto.getComments());
+            }
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    private static void assertUserRoundTrip(User user) {
+        BinaryWriter out = new BinaryWriter();
+        EntityBinary.write(out, user);
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertUserEquals(user, EntityBinary.readUser(in));
+        assertFalse(in.hasRemaining());
+    }
+
+    private static void assertBoardRoundTrip(Board board) {
+        BinaryWriter out = new BinaryWriter();
+        EntityBinary.write(out, board);
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        Board decoded = EntityBinary.readBoard(in);
+        assertEquals(board.getId(), decoded.getId());
+        assertEquals(board.getTitle(), decoded.getTitle());
+        assertEquals(board.getContent(), decoded.getContent());
+        assertEquals(board.getReplies().size(), decoded.getReplies().size());
+        for (int i = 0; i < board.getReplies().size(); i++) {
+            assertReplyEquals(board.getReplies().get(i), decoded.getReplies().get(i));
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    private static void assertUserEquals(User expected, User actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getEmail(), actual.getEmail());
+        assertEquals(expected.getPassword(), actual.getPassword());
+    }
+
+    private static void assertReplyEquals(Reply expected, Reply actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getComment(), actual.getComment());
+    }
+
+    private static User user(Integer id, String name, String email, String password) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword(password);
+        return user;
+    }
+
+    private static Board board(Integer id, String title, String content, int replyCount) {
+        Board board = new Board();
+        board.setId(id);
+        board.setTitle(title);
+        board.setContent(content);
+        for (int i = 0; i < replyCount; i++) {
+            board.getReplies().add(new Reply(i == 0 ? Integer.MIN_VALUE : i, i % 3 == 0 ? NON_BMP + i : "댓글" + i));
+        }
+        return board;
+    }
+}
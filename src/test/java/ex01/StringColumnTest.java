@@ -0,0 +1,111 @@
+package ex01;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StringColumn 의 값 복원, 바이트 비교, 페이지 경계와 2^30 바이트 경계를 넘는 저장을 확인합니다.
+ */
+class StringColumnTest {
+
+    private static final int MIB = 1 << 20;
+
+    @Test
+    void storesNullEmptyAndNonBmpValues() {
+        String[] values = {"kim@gmail.com", null, "", "이영희@naver.com", "😀𝄞@example.com", null, "x"};
+        StringColumn column = new StringColumn(1);
+        for (String value : values) {
+            column.add(value);
+        }
+        assertValues(column, values);
+        assertTrue(column.endsWith(0, utf8("gmail.com")));
+        assertFalse(column.endsWith(0, utf8("naver.com")));
+        assertFalse(column.endsWith(1, utf8("")));
+        assertTrue(column.contentEquals(2, utf8("")));
+        assertTrue(column.contentEquals(4, utf8("😀𝄞@example.com")));
+        assertFalse(column.contentEquals(4, utf8("😀𝄞@example.co")));
+        assertFalse(column.contentEquals(5, utf8("")));
+    }
+
+    @Test
+    void keepsWorkingAfterTrimToSize() {
+        StringColumn empty = new StringColumn(0);
+        empty.trimToSize();
+        empty.add("a");
+        empty.add(null);
+        assertValues(empty, "a", null);
+
+        StringColumn column = new StringColumn(4);
+        column.add("first");
+        column.trimToSize();
+        column.add("second");
+        column.add("세 번째");
+        assertValues(column, "first", "second", "세 번째");
+    }
+
+    @Test
+    void valuesSpanningPagesAreReadBack() {
+        // 1 MiB 로 나누어떨어지지 않는 길이라서 많은 값이 두 페이지에 걸칩니다. 3 MiB 값은 페이지 여러 개에 걸칩니다.
+        StringColumn column = new StringColumn(16);
+        String[] values = new String[4_001];
+        for (int i = 0; i < 4_000; i++) {
+            values[i] = (char) ('a' + i % 26) + "가".repeat(333) + "@" + i;
+        }
+        values[4_000] = "z".repeat(3 * MIB + 5);
+        for (String value : values) {
+            column.add(value);
+        }
+        assertValues(column, values);
+        for (int i = 0; i < values.length; i++) {
+            assertTrue(column.contentEquals(i, utf8(values[i])));
+            assertTrue(column.endsWith(i, utf8(values[i].substring(1))));
+        }
+        column.trimToSize();
+        assertValues(column, values);
+    }
+
+    @Test
+    void growsPastTwoToTheThirtyBytes() {
+        // 1 MiB 값 1,024개 (+ 앞의 1바이트)로 2^30 바이트를 넘긴 뒤에도 작은 값이 일정한 비용으로 추가되어야 합니다.
+        StringColumn column = new StringColumn(16);
+        column.add("#");
+        String mib = "m".repeat(MIB);
+        for (int i = 0; i < 1_024; i++) {
+            column.add(mib);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            column.add("user" + i + "@example.com");
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMillis < 10_000, "adds after 2^30 bytes took " + elapsedMillis + " ms");
+        assertTrue(column.estimatedBytes() > 1L << 30);
+
+        assertEquals("#", column.get(0));
+        assertTrue(column.contentEquals(1_024, utf8(mib)));
+        for (int i = 0; i < 100_000; i += 997) {
+            assertEquals("user" + i + "@example.com", column.get(1_025 + i));
+            assertTrue(column.endsWith(1_025 + i, utf8(i + "@example.com")));
+        }
+    }
+
+    private static void assertValues(StringColumn column, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            assertEquals(value, column.get(i));
+            if (value == null) {
+                assertNull(column.get(i));
+            }
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package ex02;
+
+import ex05.BinaryReader;
+import ex05.BinaryWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * UserBinary 왕복(인코딩 → 디코딩) 테스트. 학생/선생님은 역할별 필드만 기록되고 나머지는 null 로 읽혀야 합니다.
+ */
+class UserBinaryTest {
+
+    @Test
+    void studentRoundTrip() {
+        User student = User.createStudent(Integer.MIN_VALUE, "김학생 😀", "pw", "student", "1반", "2024", "이선생");
+        User decoded = roundTrip(student);
+        assertUserEquals(student, decoded);
+        assertNull(decoded.getSubject());
+        assertNull(decoded.getTechName());
+    }
+
+    @Test
+    void teacherRoundTrip() {
+        User teacher = User.createTecher(Integer.MAX_VALUE, "박선생 𝄞", "", "teacher", "수학", "박선생");
+        User decoded = roundTrip(teacher);
+        assertUserEquals(teacher, decoded);
+        assertNull(decoded.getClassRoom());
+        assertNull(decoded.getClassYear());
+        assertNull(decoded.getClassTechName());
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        assertUserEquals(User.createStudent(0, null, null, "student", null, null, null),
+                roundTrip(User.createStudent(0, null, null, "student", null, null, null)));
+        assertUserEquals(User.createTecher(-1, null, null, "teacher", null, null),
+                roundTrip(User.createTecher(-1, null, null, "teacher", null, null)));
+        // 역할 필드가 없는 type 은 공통 필드만 기록됩니다.
+        assertUserEquals(User.createTecher(7, "guest", "pw", null, null, null),
+                roundTrip(User.createTecher(7, "guest", "pw", null, null, null)));
+    }
+
+    @Test
+    void mixedRecordsAreConcatenated() {
+        List<User> users = Fixtures.users(9).toList(1_000);
+        BinaryWriter out = new BinaryWriter(16);
+        users.forEach(user -> UserBinary.write(out, user));
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        for (User user : users) {
+            assertUserEquals(user, UserBinary.read(in));
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    private static User roundTrip(User user) {
+        BinaryWriter out = new BinaryWriter();
+        UserBinary.write(out, user);
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        User decoded = UserBinary.read(in);
+        assertFalse(in.hasRemaining());
+        return decoded;
+    }
+
+    private static void assertUserEquals(User expected, User actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getUserName(), actual.getUserName());
+        assertEquals(expected.getPassword(), actual.getPassword());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getClassRoom(), actual.getClassRoom());
+        assertEquals(expected.getClassYear(), actual.getClassYear());
+        assertEquals(expected.getClassTechName(), actual.getClassTechName());
+        assertEquals(expected.getSubject(), actual.getSubject());
+        assertEquals(expected.getTechName(), actual.getTechName());
+    }
+}
@@ -0,0 +1,121 @@
+package ex03;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ConcurrentStreams.mapConcurrent 의 순서 유지, 동시 실행 제한, 역압, 취소, 예외 전파를 FakeLatencyService 로 확인합니다.
+ */
+class ConcurrentStreamsTest {
+
+    /** 취소된 작업이 끝날 때까지 기다리는 최대 시간. 느린 호출(10초)보다 짧아야 취소가 실제로 일어났는지 알 수 있습니다. */
+    private static final Duration AWAIT = Duration.ofSeconds(5);
+
+    @Test
+    void resultsComeBackInEncounterOrder() {
+        // 흔들림이 지연보다 커서 뒤 원소가 앞 원소보다 먼저 끝나는 경우가 많습니다.
+        FakeLatencyService service = new FakeLatencyService(Duration.ofMillis(1), Duration.ofMillis(20));
+        List<Integer> ids = IntStream.range(0, 200).boxed().toList();
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(ids.stream(), 16, service::lookup)) {
+            assertEquals(ids.stream().map(id -> "user-" + id).toList(), results.toList());
+        }
+        assertEquals(ids.size(), service.calls());
+    }
+
+    @Test
+    void inFlightCallsNeverExceedMaxConcurrency() {
+        for (int maxConcurrency : new int[]{1, 4, 32}) {
+            FakeLatencyService service = new FakeLatencyService(Duration.ofMillis(2), Duration.ofMillis(3));
+            try (Stream<String> results = ConcurrentStreams.mapConcurrent(IntStream.range(0, 100).boxed(), maxConcurrency, service::lookup)) {
+                assertEquals(100L, results.count());
+            }
+            assertTrue(service.maxInFlight() <= maxConcurrency, "maxInFlight " + service.maxInFlight() + " > " + maxConcurrency);
+            assertTrue(maxConcurrency == 1 || service.maxInFlight() > 1, "calls did not overlap");
+        }
+    }
+
+    @Test
+    void unboundedUpstreamStopsPullingAfterFindFirst() {
+        FakeLatencyService service = new FakeLatencyService(Duration.ofMillis(5), Duration.ofMillis(5));
+        AtomicInteger pulled = new AtomicInteger();
+        int maxConcurrency = 8;
+        Optional<String> found;
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(
+                Stream.iterate(1, i -> i + 1).peek(i -> pulled.incrementAndGet()), maxConcurrency, service::lookup)) {
+            found = results.filter(name -> name.endsWith("0")).findFirst();
+            // 10번째 결과를 꺼낸 시점에 상류에서 꺼낸 원소는 그 뒤로 채운 창(window) 크기만큼뿐입니다.
+            assertTrue(pulled.get() <= 10 + maxConcurrency, "pulled " + pulled.get() + " elements");
+        }
+        assertEquals(Optional.of("user-10"), found);
+        int afterClose = pulled.get();
+        awaitUntil(() -> service.inFlight() == 0);
+        assertEquals(afterClose, pulled.get());
+        // 시작되기 전에 취소된 작업은 lookup 을 호출하지 않습니다.
+        assertTrue(service.calls() <= afterClose);
+    }
+
+    @Test
+    void closingStreamCancelsInFlightCalls() {
+        FakeLatencyService slow = new FakeLatencyService(Duration.ofSeconds(10), Duration.ZERO);
+        int maxConcurrency = 8;
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(
+                Stream.iterate(1, i -> i + 1), maxConcurrency, id -> id == 1 ? "first" : slow.lookup(id))) {
+            assertEquals(Optional.of("first"), results.findFirst());
+            awaitUntil(() -> slow.inFlight() == maxConcurrency);
+        }
+        awaitUntil(() -> slow.inFlight() == 0);
+        assertTrue(slow.cancelled() > 0, "no call was cancelled");
+        assertEquals(slow.calls(), slow.cancelled());
+        assertEquals(0, slow.inFlight());
+    }
+
+    @Test
+    void mapperExceptionPropagatesUnchangedAndCancelsOthers() {
+        IllegalStateException failure = new IllegalStateException("lookup failed: 5");
+        FakeLatencyService fast = new FakeLatencyService(Duration.ofMillis(1), Duration.ZERO);
+        FakeLatencyService slow = new FakeLatencyService(Duration.ofSeconds(10), Duration.ZERO);
+        try (Stream<String> results = ConcurrentStreams.mapConcurrent(IntStream.range(0, 100).boxed(), 16, id -> {
+            if (id == 5) {
+                throw failure;
+            }
+            return id < 5 ? fast.lookup(id) : slow.lookup(id);
+        })) {
+            RuntimeException thrown = assertThrows(RuntimeException.class, results::toList);
+            assertSame(failure, thrown);
+            // 스트림을 닫기 전에, 예외를 던지면서 나머지 작업을 이미 취소했어야 합니다.
+            awaitUntil(() -> slow.inFlight() == 0);
+        }
+        assertTrue(slow.cancelled() > 0, "no call was cancelled");
+        assertEquals(slow.calls(), slow.cancelled());
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> ConcurrentStreams.mapConcurrent(Stream.of(1), 0, id -> id));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + AWAIT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within " + AWAIT);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ex03;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * LongStats 가 int 스트림을 long 으로 넓혀 받고, LongConsumer 로서 andThen 과 이어지는지 확인합니다.
+ */
+class LongStatsTest {
+
+    @Test
+    void intStreamMatchesLongStream() {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, 42, Integer.MAX_VALUE};
+        LongStats ints = LongStats.of(IntStream.of(values));
+        LongStats longs = LongStats.of(IntStream.of(values).asLongStream());
+        assertEquals(longs.count(), ints.count());
+        assertEquals(longs.sum(), ints.sum());
+        assertEquals((long) Integer.MIN_VALUE, ints.min());
+        assertEquals((long) Integer.MAX_VALUE, ints.max());
+        assertEquals(LongStats.of(IntStream.range(0, 10_000)).sum(),
+                LongStats.of(IntStream.range(0, 10_000).parallel()).sum());
+    }
+
+    @Test
+    void andThenChainsAsLongConsumer() {
+        LongStats stats = new LongStats();
+        AtomicLong last = new AtomicLong();
+        LongStream.of(Long.MAX_VALUE, Long.MAX_VALUE, 10).forEach(stats.andThen(last::set));
+        assertEquals(3, stats.count());
+        assertEquals(10L, last.get());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.TEN), stats.sum());
+    }
+}
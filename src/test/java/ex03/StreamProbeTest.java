@@ -0,0 +1,66 @@
+package ex03;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * StreamProbe 단계가 감싼 함수가 예외를 던져도 표본 수와 할당량 누적이 짝을 이루는지 확인합니다.
+ */
+class StreamProbeTest {
+
+    @Test
+    void throwingFunctionStillEndsSample() {
+        StreamProbe probe = new StreamProbe("throwing", metrics -> { }).sampleEvery(1).trackAllocations(true);
+        Function<Integer, String> mapper = probe.function("map", id -> {
+            String value = "user-" + id;
+            if (id % 2 == 0) {
+                throw new IllegalStateException(value);
+            }
+            return value;
+        });
+        for (int i = 0; i < 1_000; i++) {
+            int id = i;
+            if (id % 2 == 0) {
+                assertThrows(IllegalStateException.class, () -> mapper.apply(id));
+            } else {
+                assertEquals("user-" + id, mapper.apply(id));
+            }
+        }
+        StreamProbe.StageMetrics metrics = probe.snapshot().get(0);
+        assertEquals(1_000L, metrics.in());
+        assertEquals(1_000L, metrics.sampledCalls());
+        // begin 에서 뺀 할당량을 end 가 다시 더하지 않으면 음수가 됩니다.
+        assertTrue(metrics.estimatedAllocatedBytes() >= 0, "alloc " + metrics.estimatedAllocatedBytes());
+        assertTrue(metrics.estimatedNanos() >= 0, "nanos " + metrics.estimatedNanos());
+    }
+
+    @Test
+    void throwingPredicateIsNotCountedAsPassed() {
+        StreamProbe probe = new StreamProbe("throwing", metrics -> { }).sampleEvery(1);
+        IntPredicate predicate = probe.intPredicate("filter", value -> {
+            if (value < 0) {
+                throw new IllegalArgumentException("negative: " + value);
+            }
+            return value % 3 == 0;
+        });
+        int passed = 0;
+        for (int value = -10; value < 30; value++) {
+            int v = value;
+            if (value < 0) {
+                assertThrows(IllegalArgumentException.class, () -> predicate.test(v));
+            } else if (predicate.test(value)) {
+                passed++;
+            }
+        }
+        StreamProbe.StageMetrics metrics = probe.snapshot().get(0);
+        assertEquals(40L, metrics.in());
+        assertEquals(passed, (int) metrics.out());
+        assertEquals(40L, metrics.sampledCalls());
+    }
+}
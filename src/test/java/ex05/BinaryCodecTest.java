@@ -0,0 +1,170 @@
+package ex05;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BinaryWriter/BinaryReader 의 varint, zigzag, nullable int, 문자열 경계값 왕복 테스트.
+ */
+class BinaryCodecTest {
+
+    /** 7비트 그룹 경계(1바이트 ↔ 2바이트 ...)와 int 양 끝 */
+    private static final int[] INTS = {
+            0, 1, 63, 64, 127, 128, 8191, 8192, 16383, 16384, 2_097_151, 2_097_152, 268_435_455, 268_435_456,
+            Integer.MAX_VALUE, -1, -63, -64, -65, -128, -129, Integer.MIN_VALUE, Integer.MIN_VALUE + 1
+    };
+
+    private static final long[] LONGS = {
+            0L, 1L, 127L, 128L, 16383L, 16384L, 0xFFFF_FFFFL, 0x1_0000_0000L, (1L << 56) - 1, 1L << 56, (1L << 63) - 1,
+            -1L, -64L, -65L, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1
+    };
+
+    @Test
+    void varIntRoundTrip() {
+        for (int value : INTS) {
+            BinaryWriter out = new BinaryWriter();
+            out.writeVarInt(value);
+            BinaryReader in = new BinaryReader(out.toByteArray());
+            assertEquals(value, in.readVarInt());
+            assertFalse(in.hasRemaining());
+        }
+    }
+
+    @Test
+    void varLongRoundTrip() {
+        for (long value : LONGS) {
+            BinaryWriter out = new BinaryWriter();
+            out.writeVarLong(value);
+            BinaryReader in = new BinaryReader(out.toByteArray());
+            assertEquals(value, in.readVarLong());
+            assertFalse(in.hasRemaining());
+        }
+    }
+
+    @Test
+    void signedRoundTrip() {
+        BinaryWriter out = new BinaryWriter();
+        for (int value : INTS) {
+            out.writeSignedVarInt(value);
+        }
+        for (long value : LONGS) {
+            out.writeSignedVarLong(value);
+        }
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        for (int value : INTS) {
+            assertEquals(value, in.readSignedVarInt());
+        }
+        for (long value : LONGS) {
+            assertEquals(value, in.readSignedVarLong());
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void nullableIntRoundTrip() {
+        BinaryWriter out = new BinaryWriter();
+        out.writeNullableInt(null);
+        for (int value : INTS) {
+            out.writeNullableInt(value);
+        }
+        BinaryReader in = new BinaryReader(out.toByteArray());
+        assertNull(in.readNullableInt());
+        for (int value : INTS) {
+            assertEquals(Integer.valueOf(value), in.readNullableInt());
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void encodedLengths() {
+        // varint: 7비트마다 1바이트, 음수 int 는 부호 없는 32비트로 5바이트
+        assertEquals(1, new BinaryWriter().writeVarInt(127).size());
+        assertEquals(2, new BinaryWriter().writeVarInt(128).size());
+        assertEquals(3, new BinaryWriter().writeVarInt(16384).size());
+        assertEquals(5, new BinaryWriter().writeVarInt(-1).size());
+        assertEquals(10, new BinaryWriter().writeVarLong(-1L).size());
+        // zigzag: 절댓값이 작은 음수도 1바이트
+        assertEquals(1, new BinaryWriter().writeSignedVarInt(-64).size());
+        assertEquals(1, new BinaryWriter().writeSignedVarInt(63).size());
+        assertEquals(2, new BinaryWriter().writeSignedVarInt(-65).size());
+        assertEquals(2, new BinaryWriter().writeSignedVarInt(64).size());
+        assertEquals(5, new BinaryWriter().writeSignedVarInt(Integer.MIN_VALUE).size());
+        // nullable: null 은 0, 나머지는 zigzag + 1 이므로 Integer.MIN_VALUE 는 2^32 (5바이트)
+        assertArrayEquals(new byte[]{0}, new BinaryWriter().writeNullableInt(null).toByteArray());
+        assertArrayEquals(new byte[]{1}, new BinaryWriter().writeNullableInt(0).toByteArray());
+        assertArrayEquals(new byte[]{2}, new BinaryWriter().writeNullableInt(-1).toByteArray());
+        assertArrayEquals(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10},
+                new BinaryWriter().writeNullableInt(Integer.MIN_VALUE).toByteArray());
+    }
+
+    @Test
+    void varIntOverflowIsRejected() {
+        BinaryWriter out = new BinaryWriter();
+        out.writeVarLong(0x1_0000_0000L);
+        assertThrows(IllegalStateException.class, () -> new BinaryReader(out.toByteArray()).readVarInt());
+    }
+
+    @Test
+    void stringRoundTrip() {
+        String[] values = {null, "", "a", "가", "😀", "a😀b𝄞c", "한글 English 😀🎉 𠜎", "\u0000", "x".repeat(200), "가".repeat(50_000)};
+        BinaryWriter out = new BinaryWriter(8);
+        for (String value : values) {
+            out.writeString(value);
+        }
+        byte[] bytes = out.toByteArray();
+        BinaryReader in = new BinaryReader(bytes);
+        BinaryReader skip = new BinaryReader(bytes);
+        BinaryReader compare = new BinaryReader(bytes);
+        for (String value : values) {
+            assertEquals(value, in.readString());
+            skip.skipString();
+            assertEquals(in.position(), skip.position());
+            if (value != null) {
+                assertTrue(compare.stringEquals(value.getBytes(StandardCharsets.UTF_8)));
+            } else {
+                compare.skipString();
+            }
+            assertEquals(in.position(), compare.position());
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void stringUsesStandardUtf8() {
+        String value = "a가😀";
+        BinaryWriter out = new BinaryWriter();
+        out.writeString(value);
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        byte[] expected = new byte[utf8.length + 1];
+        expected[0] = (byte) (utf8.length + 1);
+        System.arraycopy(utf8, 0, expected, 1, utf8.length);
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    void readsFromDirectBufferAndOffset() {
+        BinaryWriter out = new BinaryWriter();
+        out.writeByte(0xAB).writeNullableInt(Integer.MIN_VALUE).writeString("😀 direct").writeSignedVarLong(Long.MIN_VALUE);
+        ByteBuffer direct = ByteBuffer.allocateDirect(out.size() + 3);
+        direct.put(new byte[]{9, 9, 9});
+        out.writeTo(direct);
+        direct.flip().position(3);
+
+        BinaryReader in = new BinaryReader(direct);
+        assertEquals(0xAB, in.readByte());
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), in.readNullableInt());
+        assertEquals("😀 direct", in.readString());
+        assertEquals(Long.MIN_VALUE, in.readSignedVarLong());
+        assertFalse(in.hasRemaining());
+        assertEquals(3, direct.position());
+    }
+}